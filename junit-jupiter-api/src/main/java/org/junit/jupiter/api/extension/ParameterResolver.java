@@ -10,6 +10,7 @@
 
 package org.junit.jupiter.api.extension;
 
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
 import static org.apiguardian.api.API.Status.STABLE;
 
 import java.lang.reflect.Parameter;
@@ -89,4 +90,28 @@ public interface ParameterResolver extends Extension {
 	Object resolveParameter(ParameterContext parameterContext, ExtensionContext extensionContext)
 			throws ParameterResolutionException;
 
+	/**
+	 * Determine if the result of {@link #supportsParameter} may be cached by
+	 * the framework for subsequent invocations of the same {@code Executable}.
+	 *
+	 * <p>Implementations should only return {@code true} if the decision made
+	 * by {@link #supportsParameter} depends solely on the {@link Parameter},
+	 * its index, and its declaring {@code Executable} &mdash; for example, on
+	 * the parameter's type or annotations &mdash; but not on the target, the
+	 * {@link ExtensionContext}, or the state of the resolver instance. The
+	 * framework then invokes {@link #supportsParameter} at most once per
+	 * parameter and resolver class, while {@link #resolveParameter} is still
+	 * invoked for each invocation of the {@code Executable}.
+	 *
+	 * <p>The default implementation returns {@code false}.
+	 *
+	 * @return {@code true} if the result of {@link #supportsParameter} may
+	 * be cached
+	 * @since 5.4
+	 */
+	@API(status = EXPERIMENTAL, since = "5.4")
+	default boolean isParameterSupportCacheable() {
+		return false;
+	}
+
 }
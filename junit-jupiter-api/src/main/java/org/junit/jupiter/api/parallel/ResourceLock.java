@@ -34,6 +34,11 @@ import org.apiguardian.api.API;
  * methods that also require {@code READ} access but not at the same time as any
  * other test that requires {@code READ_WRITE} access.
  *
+ * <p>If the shared resource is a pool that can be used by a limited number of
+ * tests at the same time, e.g. a set of database connections, its size can be
+ * specified via {@link #permits}. Each annotated element that declares the
+ * resource with permits then requires only one of them.
+ *
  * <p>This annotation can be repeated to declare the use of multiple shared resources.
  *
  * @see Resources
@@ -63,4 +68,23 @@ public @interface ResourceLock {
 	 */
 	ResourceAccessMode mode() default ResourceAccessMode.READ_WRITE;
 
+	/**
+	 * The number of permits of the resource, i.e. the number of test classes
+	 * or test methods that may use it at the same time.
+	 *
+	 * <p>If greater than zero, the annotated element requires one permit and
+	 * {@link #mode} is ignored. Other test classes or test methods that
+	 * declare the same resource without permits require one permit for
+	 * {@link ResourceAccessMode#READ READ} access and all permits for
+	 * {@link ResourceAccessMode#READ_WRITE READ_WRITE} access. All
+	 * declarations of the same resource with permits must specify the same
+	 * number.
+	 *
+	 * <p>Defaults to {@code 0}, i.e. the resource is not a pool.
+	 *
+	 * @since 5.4
+	 */
+	@API(status = EXPERIMENTAL, since = "5.4")
+	int permits() default 0;
+
 }
@@ -12,10 +12,16 @@ package org.junit.jupiter.engine;
 
 import static org.apiguardian.api.API.Status.EXPERIMENTAL;
 import static org.apiguardian.api.API.Status.STABLE;
+import static org.junit.platform.engine.support.hierarchical.DefaultParallelExecutionConfigurationStrategy.CONFIG_ADAPTIVE_MAX_PARALLELISM_PROPERTY_NAME;
+import static org.junit.platform.engine.support.hierarchical.DefaultParallelExecutionConfigurationStrategy.CONFIG_ADAPTIVE_MIN_PARALLELISM_PROPERTY_NAME;
 import static org.junit.platform.engine.support.hierarchical.DefaultParallelExecutionConfigurationStrategy.CONFIG_CUSTOM_CLASS_PROPERTY_NAME;
 import static org.junit.platform.engine.support.hierarchical.DefaultParallelExecutionConfigurationStrategy.CONFIG_DYNAMIC_FACTOR_PROPERTY_NAME;
 import static org.junit.platform.engine.support.hierarchical.DefaultParallelExecutionConfigurationStrategy.CONFIG_FIXED_PARALLELISM_PROPERTY_NAME;
 import static org.junit.platform.engine.support.hierarchical.DefaultParallelExecutionConfigurationStrategy.CONFIG_STRATEGY_PROPERTY_NAME;
+import static org.junit.platform.engine.support.hierarchical.ForkJoinPoolHierarchicalTestExecutorService.CONFIG_BATCHING_ENABLED_PROPERTY_NAME;
+import static org.junit.platform.engine.support.hierarchical.ForkJoinPoolHierarchicalTestExecutorService.CONFIG_SCHEDULING_DURATIONS_DIRECTORY_PROPERTY_NAME;
+import static org.junit.platform.engine.support.hierarchical.ForkJoinPoolHierarchicalTestExecutorService.CONFIG_SCHEDULING_ORDER_PROPERTY_NAME;
+import static org.junit.platform.engine.support.hierarchical.VirtualThreadHierarchicalTestExecutorService.CONFIG_CONCURRENCY_LIMIT_PROPERTY_NAME;
 
 import org.apiguardian.api.API;
 import org.junit.jupiter.engine.descriptor.TestInstanceLifecycleUtils;
@@ -95,6 +101,55 @@ public final class Constants {
 	 */
 	public static final String DEFAULT_TEST_INSTANCE_LIFECYCLE_PROPERTY_NAME = TestInstanceLifecycleUtils.DEFAULT_TEST_INSTANCE_LIFECYCLE_PROPERTY_NAME;
 
+	/**
+	 * Property name used to enable streaming test execution: {@value}
+	 *
+	 * <p>When enabled, test classes, test methods, and dynamic tests are
+	 * removed from the test hierarchy as soon as they have finished executing
+	 * so that they can be garbage collected while the remaining tests are still
+	 * being executed. This reduces the memory footprint of test runs with a
+	 * very large number of tests.
+	 *
+	 * <p>By default, the complete test hierarchy is retained until all tests
+	 * have been executed.
+	 *
+	 * @since 5.4
+	 */
+	@API(status = EXPERIMENTAL, since = "5.4")
+	public static final String STREAMING_EXECUTION_ENABLED_PROPERTY_NAME = "junit.jupiter.execution.streaming.enabled";
+
+	/**
+	 * Property name used to set the number of failed tests or containers after
+	 * which the execution is cancelled: {@value}
+	 *
+	 * <p>Value must be a positive integer. Once the configured number of
+	 * failures has been reached, all test classes, test methods, and dynamic
+	 * tests that have not been started yet are reported as skipped.
+	 *
+	 * <p>By default, all tests are executed regardless of the number of
+	 * failures.
+	 *
+	 * @since 5.4
+	 */
+	@API(status = EXPERIMENTAL, since = "5.4")
+	public static final String FAIL_FAST_THRESHOLD_PROPERTY_NAME = "junit.jupiter.execution.failfast.threshold";
+
+	/**
+	 * Property name used to set the maximum number of dynamic tests of a single
+	 * test factory that may be outstanding at the same time: {@value}
+	 *
+	 * <p>Value must be a positive integer. Once the configured number of
+	 * dynamic tests is being executed or waiting to be executed, the test
+	 * factory is only asked for the next dynamic test after the oldest one has
+	 * finished.
+	 *
+	 * <p>Defaults to {@code 256}.
+	 *
+	 * @since 5.4
+	 */
+	@API(status = EXPERIMENTAL, since = "5.4")
+	public static final String DYNAMIC_TESTS_MAX_OUTSTANDING_PROPERTY_NAME = "junit.jupiter.execution.dynamic.max-outstanding";
+
 	/**
 	 * Property name used to enable parallel test execution: {@value}
 	 *
@@ -105,14 +160,53 @@ public final class Constants {
 	@API(status = EXPERIMENTAL, since = "5.3")
 	public static final String PARALLEL_EXECUTION_ENABLED_PROPERTY_NAME = "junit.jupiter.execution.parallel.enabled";
 
+	/**
+	 * Property name used to select the mode for analyzing the shared resources
+	 * declared via {@link org.junit.jupiter.api.parallel.ResourceLock @ResourceLock}: {@value}
+	 *
+	 * <p>Potential values: {@code subtree} (default) or {@code fine_grained}.
+	 *
+	 * <p>In {@code subtree} mode, the resources of a test class and all of its
+	 * test methods are locked for the whole class whose test methods are then
+	 * executed in the same thread. In {@code fine_grained} mode, resources are
+	 * locked where they are declared and test methods remain concurrent as long
+	 * as their enclosing classes only require {@code READ} access to their
+	 * resources and the resources of the test methods are compatible with them.
+	 *
+	 * @since 5.4
+	 * @see org.junit.platform.engine.support.hierarchical.ResourceAnalysisMode
+	 */
+	@API(status = EXPERIMENTAL, since = "5.4")
+	public static final String PARALLEL_RESOURCES_ANALYSIS_MODE_PROPERTY_NAME = "junit.jupiter.execution.parallel.resources.analysis";
+
+	/**
+	 * Property name used to select the executor that runs tests in parallel:
+	 * {@value}
+	 *
+	 * <p>Potential values: {@code fork_join} (default) or
+	 * {@code virtual_threads}.
+	 *
+	 * <p>The {@code fork_join} executor uses a number of threads determined by
+	 * the {@linkplain #PARALLEL_CONFIG_STRATEGY_PROPERTY_NAME configuration
+	 * strategy}. The {@code virtual_threads} executor runs each concurrent test
+	 * or container in its own virtual thread, limited only by the
+	 * {@linkplain #PARALLEL_CONFIG_CONCURRENCY_LIMIT_PROPERTY_NAME concurrency
+	 * limit}, and is therefore better suited for tests that mostly wait for I/O.
+	 *
+	 * @since 5.4
+	 * @see org.junit.platform.engine.support.hierarchical.VirtualThreadHierarchicalTestExecutorService
+	 */
+	@API(status = EXPERIMENTAL, since = "5.4")
+	public static final String PARALLEL_EXECUTOR_PROPERTY_NAME = "junit.jupiter.execution.parallel.executor";
+
 	static final String PARALLEL_CONFIG_PREFIX = "junit.jupiter.execution.parallel.config.";
 
 	/**
 	 * Property name used to select the
 	 * {@link ParallelExecutionConfigurationStrategy}: {@value}
 	 *
-	 * <p>Potential values: {@code dynamic} (default), {@code fixed}, or
-	 * {@code custom}.
+	 * <p>Potential values: {@code dynamic} (default), {@code fixed},
+	 * {@code adaptive}, or {@code custom}.
 	 *
 	 * @since 5.3
 	 */
@@ -145,6 +239,31 @@ public final class Constants {
 	public static final String PARALLEL_CONFIG_DYNAMIC_FACTOR_PROPERTY_NAME = PARALLEL_CONFIG_PREFIX
 			+ CONFIG_DYNAMIC_FACTOR_PROPERTY_NAME;
 
+	/**
+	 * Property name used to set the minimum parallelism for the
+	 * {@code adaptive} configuration strategy: {@value}
+	 *
+	 * <p>Value must be a positive integer; defaults to {@code 1}.
+	 *
+	 * @since 5.4
+	 */
+	@API(status = EXPERIMENTAL, since = "5.4")
+	public static final String PARALLEL_CONFIG_ADAPTIVE_MIN_PARALLELISM_PROPERTY_NAME = PARALLEL_CONFIG_PREFIX
+			+ CONFIG_ADAPTIVE_MIN_PARALLELISM_PROPERTY_NAME;
+
+	/**
+	 * Property name used to set the maximum parallelism for the
+	 * {@code adaptive} configuration strategy: {@value}
+	 *
+	 * <p>Value must be an integer not less than the minimum parallelism;
+	 * defaults to four times the number of available processors/cores.
+	 *
+	 * @since 5.4
+	 */
+	@API(status = EXPERIMENTAL, since = "5.4")
+	public static final String PARALLEL_CONFIG_ADAPTIVE_MAX_PARALLELISM_PROPERTY_NAME = PARALLEL_CONFIG_PREFIX
+			+ CONFIG_ADAPTIVE_MAX_PARALLELISM_PROPERTY_NAME;
+
 	/**
 	 * Property name used to specify the fully qualified class name of the
 	 * {@link ParallelExecutionConfigurationStrategy} to be used for the
@@ -156,6 +275,65 @@ public final class Constants {
 	public static final String PARALLEL_CONFIG_CUSTOM_CLASS_PROPERTY_NAME = PARALLEL_CONFIG_PREFIX
 			+ CONFIG_CUSTOM_CLASS_PROPERTY_NAME;
 
+	/**
+	 * Property name used to select the order in which concurrent sibling tests
+	 * and containers are scheduled: {@value}
+	 *
+	 * <p>Potential values: {@code declaration_order} (default) or
+	 * {@code longest_first}.
+	 *
+	 * @since 5.4
+	 * @see #PARALLEL_CONFIG_SCHEDULING_DURATIONS_DIRECTORY_PROPERTY_NAME
+	 */
+	@API(status = EXPERIMENTAL, since = "5.4")
+	public static final String PARALLEL_CONFIG_SCHEDULING_ORDER_PROPERTY_NAME = PARALLEL_CONFIG_PREFIX
+			+ CONFIG_SCHEDULING_ORDER_PROPERTY_NAME;
+
+	/**
+	 * Property name used to specify the local directory in which the durations
+	 * of tests and containers are stored between runs for the
+	 * {@code longest_first} scheduling order: {@value}
+	 *
+	 * <p>No default value; must be a path to a directory.
+	 *
+	 * @since 5.4
+	 * @see #PARALLEL_CONFIG_SCHEDULING_ORDER_PROPERTY_NAME
+	 */
+	@API(status = EXPERIMENTAL, since = "5.4")
+	public static final String PARALLEL_CONFIG_SCHEDULING_DURATIONS_DIRECTORY_PROPERTY_NAME = PARALLEL_CONFIG_PREFIX
+			+ CONFIG_SCHEDULING_DURATIONS_DIRECTORY_PROPERTY_NAME;
+
+	/**
+	 * Property name used to enable batching of consecutive concurrent tests
+	 * when using the {@code fork_join}
+	 * {@linkplain #PARALLEL_EXECUTOR_PROPERTY_NAME executor}: {@value}
+	 *
+	 * <p>When enabled, consecutive test methods without resource locks are
+	 * executed sequentially in batches whose size is derived from the average
+	 * duration of the tests executed so far. Tests that only succeed when run
+	 * concurrently with their siblings must therefore not be batched.
+	 *
+	 * <p>By default, each test is scheduled individually.
+	 *
+	 * @since 5.4
+	 */
+	@API(status = EXPERIMENTAL, since = "5.4")
+	public static final String PARALLEL_CONFIG_BATCHING_ENABLED_PROPERTY_NAME = PARALLEL_CONFIG_PREFIX
+			+ CONFIG_BATCHING_ENABLED_PROPERTY_NAME;
+
+	/**
+	 * Property name used to set the maximum number of tests and containers that
+	 * may be running at the same time when using the {@code virtual_threads}
+	 * {@linkplain #PARALLEL_EXECUTOR_PROPERTY_NAME executor}: {@value}
+	 *
+	 * <p>Value must be a positive integer; defaults to {@code 256}.
+	 *
+	 * @since 5.4
+	 */
+	@API(status = EXPERIMENTAL, since = "5.4")
+	public static final String PARALLEL_CONFIG_CONCURRENCY_LIMIT_PROPERTY_NAME = PARALLEL_CONFIG_PREFIX
+			+ CONFIG_CONCURRENCY_LIMIT_PROPERTY_NAME;
+
 	private Constants() {
 		/* no-op */
 	}
@@ -19,6 +19,7 @@ import org.junit.jupiter.engine.descriptor.JupiterEngineDescriptor;
 import org.junit.jupiter.engine.discovery.DiscoverySelectorResolver;
 import org.junit.jupiter.engine.execution.JupiterEngineExecutionContext;
 import org.junit.jupiter.engine.support.JupiterThrowableCollectorFactory;
+import org.junit.platform.commons.JUnitException;
 import org.junit.platform.engine.ConfigurationParameters;
 import org.junit.platform.engine.EngineDiscoveryRequest;
 import org.junit.platform.engine.ExecutionRequest;
@@ -28,7 +29,9 @@ import org.junit.platform.engine.support.config.PrefixedConfigurationParameters;
 import org.junit.platform.engine.support.hierarchical.ForkJoinPoolHierarchicalTestExecutorService;
 import org.junit.platform.engine.support.hierarchical.HierarchicalTestEngine;
 import org.junit.platform.engine.support.hierarchical.HierarchicalTestExecutorService;
+import org.junit.platform.engine.support.hierarchical.ResourceAnalysisMode;
 import org.junit.platform.engine.support.hierarchical.ThrowableCollector;
+import org.junit.platform.engine.support.hierarchical.VirtualThreadHierarchicalTestExecutorService;
 
 /**
  * The JUnit Jupiter {@link org.junit.platform.engine.TestEngine TestEngine}.
@@ -70,12 +73,88 @@ public final class JupiterTestEngine extends HierarchicalTestEngine<JupiterEngin
 	protected HierarchicalTestExecutorService createExecutorService(ExecutionRequest request) {
 		ConfigurationParameters config = request.getConfigurationParameters();
 		if (config.getBoolean(Constants.PARALLEL_EXECUTION_ENABLED_PROPERTY_NAME).orElse(false)) {
-			return new ForkJoinPoolHierarchicalTestExecutorService(
-				new PrefixedConfigurationParameters(config, Constants.PARALLEL_CONFIG_PREFIX));
+			ConfigurationParameters parallelConfig = new PrefixedConfigurationParameters(config,
+				Constants.PARALLEL_CONFIG_PREFIX);
+			String executor = config.get(Constants.PARALLEL_EXECUTOR_PROPERTY_NAME).orElse("fork_join").trim();
+			if ("virtual_threads".equalsIgnoreCase(executor)) {
+				return new VirtualThreadHierarchicalTestExecutorService(parallelConfig);
+			}
+			if (!"fork_join".equalsIgnoreCase(executor)) {
+				throw new JUnitException(String.format("Invalid value '%s' for configuration parameter '%s'",
+					executor, Constants.PARALLEL_EXECUTOR_PROPERTY_NAME));
+			}
+			return new ForkJoinPoolHierarchicalTestExecutorService(parallelConfig);
 		}
 		return super.createExecutorService(request);
 	}
 
+	/**
+	 * @since 5.4
+	 */
+	@Override
+	protected ResourceAnalysisMode getResourceAnalysisMode(ExecutionRequest request) {
+		// @formatter:off
+		return request.getConfigurationParameters()
+				.get(Constants.PARALLEL_RESOURCES_ANALYSIS_MODE_PROPERTY_NAME)
+				.map(JupiterTestEngine::toResourceAnalysisMode)
+				.orElse(ResourceAnalysisMode.SUBTREE);
+		// @formatter:on
+	}
+
+	private static ResourceAnalysisMode toResourceAnalysisMode(String value) {
+		try {
+			return ResourceAnalysisMode.valueOf(value.trim().toUpperCase());
+		}
+		catch (IllegalArgumentException ex) {
+			throw new JUnitException(String.format("Invalid value '%s' for configuration parameter '%s'", value,
+				Constants.PARALLEL_RESOURCES_ANALYSIS_MODE_PROPERTY_NAME), ex);
+		}
+	}
+
+	/**
+	 * @since 5.4
+	 */
+	@Override
+	protected boolean isStreamingExecutionEnabled(ExecutionRequest request) {
+		return request.getConfigurationParameters().getBoolean(
+			Constants.STREAMING_EXECUTION_ENABLED_PROPERTY_NAME).orElse(false);
+	}
+
+	/**
+	 * @since 5.4
+	 */
+	@Override
+	protected int getFailFastThreshold(ExecutionRequest request) {
+		return getPositiveInt(request, Constants.FAIL_FAST_THRESHOLD_PROPERTY_NAME).orElseGet(
+			() -> super.getFailFastThreshold(request));
+	}
+
+	/**
+	 * @since 5.4
+	 */
+	@Override
+	protected int getMaxOutstandingDynamicTests(ExecutionRequest request) {
+		return getPositiveInt(request, Constants.DYNAMIC_TESTS_MAX_OUTSTANDING_PROPERTY_NAME).orElseGet(
+			() -> super.getMaxOutstandingDynamicTests(request));
+	}
+
+	private static Optional<Integer> getPositiveInt(ExecutionRequest request, String key) {
+		String value = request.getConfigurationParameters().get(key).orElse(null);
+		if (value == null) {
+			return Optional.empty();
+		}
+		try {
+			int result = Integer.parseInt(value.trim());
+			if (result > 0) {
+				return Optional.of(result);
+			}
+		}
+		catch (NumberFormatException ex) {
+			// fall through
+		}
+		throw new JUnitException(String.format("Invalid value '%s' for configuration parameter '%s'", value, key));
+	}
+
 	@Override
 	protected JupiterEngineExecutionContext createExecutionContext(ExecutionRequest request) {
 		return new JupiterEngineExecutionContext(request.getEngineExecutionListener(),
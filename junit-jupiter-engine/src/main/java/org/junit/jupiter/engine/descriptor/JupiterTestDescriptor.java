@@ -145,11 +145,18 @@ public abstract class JupiterTestDescriptor extends AbstractTestDescriptor
 	protected Set<ExclusiveResource> getExclusiveResourcesFromAnnotation(AnnotatedElement element) {
 		// @formatter:off
 		return findRepeatableAnnotations(element, ResourceLock.class).stream()
-				.map(resource -> new ExclusiveResource(resource.value(), toLockMode(resource.mode())))
+				.map(JupiterTestDescriptor::toExclusiveResource)
 				.collect(toSet());
 		// @formatter:on
 	}
 
+	private static ExclusiveResource toExclusiveResource(ResourceLock resource) {
+		if (resource.permits() != 0) {
+			return new ExclusiveResource(resource.value(), resource.permits());
+		}
+		return new ExclusiveResource(resource.value(), toLockMode(resource.mode()));
+	}
+
 	private static LockMode toLockMode(ResourceAccessMode mode) {
 		switch (mode) {
 			case READ:
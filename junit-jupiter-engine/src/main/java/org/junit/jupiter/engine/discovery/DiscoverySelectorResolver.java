@@ -10,15 +10,27 @@
 
 package org.junit.jupiter.engine.discovery;
 
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.toList;
 import static org.apiguardian.api.API.Status.INTERNAL;
 import static org.junit.platform.engine.support.filter.ClasspathScanningSupport.buildClassFilter;
+import static org.junit.platform.engine.support.filter.ClasspathScanningSupport.loadClassFileIndex;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 
 import org.apiguardian.api.API;
+import org.junit.jupiter.engine.descriptor.JupiterEngineDescriptor;
+import org.junit.jupiter.engine.discovery.predicates.IsPotentialTestClassFile;
 import org.junit.jupiter.engine.discovery.predicates.IsTestClassWithTests;
+import org.junit.platform.commons.util.ClassFileIndex;
 import org.junit.platform.commons.util.ClassFilter;
+import org.junit.platform.commons.util.PackageUtils;
 import org.junit.platform.engine.ConfigurationParameters;
 import org.junit.platform.engine.EngineDiscoveryRequest;
 import org.junit.platform.engine.TestDescriptor;
@@ -42,44 +54,77 @@ import org.junit.platform.engine.discovery.UniqueIdSelector;
 @API(status = INTERNAL, since = "5.0")
 public class DiscoverySelectorResolver {
 
+	private static final IsPotentialTestClassFile isPotentialTestClassFile = new IsPotentialTestClassFile();
+
 	private static final IsTestClassWithTests isTestClassWithTests = new IsTestClassWithTests();
 
 	public void resolveSelectors(EngineDiscoveryRequest request, TestDescriptor engineDescriptor) {
-		ClassFilter classFilter = buildClassFilter(request, isTestClassWithTests);
-		resolve(request, engineDescriptor, classFilter);
-		filter(engineDescriptor, classFilter);
-		pruneTree(engineDescriptor);
+		Optional<ClassFileIndex> classFileIndex = loadClassFileIndex(request, JupiterEngineDescriptor.ENGINE_ID,
+			getIndexVersion());
+		ClassFilter classFilter = buildClassFilter(request, isPotentialTestClassFile, isTestClassWithTests);
+		classFilter = classFileIndex.map(classFilter::withClassFileIndex).orElse(classFilter);
+		JavaElementsResolver javaElementsResolver = createJavaElementsResolver(request, engineDescriptor, classFilter);
+		resolve(request, javaElementsResolver);
+		classFileIndex.ifPresent(ClassFileIndex::save);
+		// Children reported to the discovery listener have already been filtered and pruned
+		for (TestDescriptor child : new ArrayList<>(engineDescriptor.getChildren())) {
+			if (!javaElementsResolver.isReported(child)) {
+				filter(child, classFilter);
+				pruneTree(child);
+			}
+		}
 	}
 
-	private void resolve(EngineDiscoveryRequest request, TestDescriptor engineDescriptor, ClassFilter classFilter) {
-		JavaElementsResolver javaElementsResolver = createJavaElementsResolver(request.getConfigurationParameters(),
-			engineDescriptor, classFilter);
+	/**
+	 * Results of {@link IsPotentialTestClassFile} may change with every
+	 * release of the Jupiter engine.
+	 */
+	private String getIndexVersion() {
+		return PackageUtils.getAttribute(getClass(), Package::getImplementationVersion).orElse("DEVELOPMENT");
+	}
 
+	private void resolve(EngineDiscoveryRequest request, JavaElementsResolver javaElementsResolver) {
 		request.getSelectorsByType(ClasspathRootSelector.class).forEach(javaElementsResolver::resolveClasspathRoot);
 		request.getSelectorsByType(ModuleSelector.class).forEach(javaElementsResolver::resolveModule);
 		request.getSelectorsByType(PackageSelector.class).forEach(javaElementsResolver::resolvePackage);
 		request.getSelectorsByType(ClassSelector.class).forEach(javaElementsResolver::resolveClass);
-		request.getSelectorsByType(MethodSelector.class).forEach(javaElementsResolver::resolveMethod);
+		groupByClassName(request.getSelectorsByType(MethodSelector.class)).forEach(
+			javaElementsResolver::resolveMethods);
 		request.getSelectorsByType(UniqueIdSelector.class).forEach(javaElementsResolver::resolveUniqueId);
 	}
 
-	private void filter(TestDescriptor engineDescriptor, ClassFilter classFilter) {
-		new DiscoveryFilterApplier().applyClassNamePredicate(classFilter::match, engineDescriptor);
+	/**
+	 * Group the supplied method selectors by the name of their class so that
+	 * each class is only resolved once, even if a large number of its methods
+	 * is selected, e.g. when rerunning failed tests.
+	 */
+	private Collection<List<MethodSelector>> groupByClassName(List<MethodSelector> selectors) {
+		// @formatter:off
+		return selectors.stream()
+				.collect(groupingBy(MethodSelector::getClassName, LinkedHashMap::new, toList()))
+				.values();
+		// @formatter:on
+	}
+
+	private void filter(TestDescriptor testDescriptor, ClassFilter classFilter) {
+		new DiscoveryFilterApplier().applyClassNamePredicate(classFilter::match, testDescriptor);
 	}
 
-	private void pruneTree(TestDescriptor rootDescriptor) {
-		rootDescriptor.accept(TestDescriptor::prune);
+	private void pruneTree(TestDescriptor testDescriptor) {
+		testDescriptor.accept(TestDescriptor::prune);
 	}
 
-	private JavaElementsResolver createJavaElementsResolver(ConfigurationParameters configurationParameters,
+	private JavaElementsResolver createJavaElementsResolver(EngineDiscoveryRequest request,
 			TestDescriptor engineDescriptor, ClassFilter classFilter) {
+		ConfigurationParameters configurationParameters = request.getConfigurationParameters();
 		Set<ElementResolver> resolvers = new LinkedHashSet<>();
 		resolvers.add(new TestContainerResolver(configurationParameters));
 		resolvers.add(new NestedTestsResolver(configurationParameters));
 		resolvers.add(new TestMethodResolver());
 		resolvers.add(new TestFactoryMethodResolver());
 		resolvers.add(new TestTemplateMethodResolver());
-		return new JavaElementsResolver(engineDescriptor, classFilter, resolvers);
+		return new JavaElementsResolver(engineDescriptor, classFilter, resolvers,
+			request.getDiscoveryListener().orElse(null));
 	}
 
 }
@@ -41,6 +41,7 @@ import org.junit.platform.commons.logging.Logger;
 import org.junit.platform.commons.logging.LoggerFactory;
 import org.junit.platform.commons.util.ClassFilter;
 import org.junit.platform.commons.util.ReflectionUtils;
+import org.junit.platform.engine.EngineDiscoveryListener;
 import org.junit.platform.engine.TestDescriptor;
 import org.junit.platform.engine.UniqueId;
 import org.junit.platform.engine.UniqueId.Segment;
@@ -76,11 +77,32 @@ class JavaElementsResolver {
 	private final TestDescriptor engineDescriptor;
 	private final ClassFilter classFilter;
 	private final Set<ElementResolver> resolvers;
+	private final EngineDiscoveryListener discoveryListener;
+	private final Set<UniqueId> reportedUniqueIds = new HashSet<>();
 
-	JavaElementsResolver(TestDescriptor engineDescriptor, ClassFilter classFilter, Set<ElementResolver> resolvers) {
+	/**
+	 * @param discoveryListener the listener to report completely resolved
+	 * top-level classes to; may be {@code null}
+	 */
+	JavaElementsResolver(TestDescriptor engineDescriptor, ClassFilter classFilter, Set<ElementResolver> resolvers,
+			EngineDiscoveryListener discoveryListener) {
 		this.engineDescriptor = engineDescriptor;
 		this.classFilter = classFilter;
 		this.resolvers = resolvers;
+		this.discoveryListener = discoveryListener;
+	}
+
+	/**
+	 * Determine whether the supplied child of the engine descriptor has been
+	 * reported to the {@link EngineDiscoveryListener}.
+	 *
+	 * <p>Reported descriptors have already been filtered and pruned and must
+	 * not be modified anymore.
+	 *
+	 * @since 5.4
+	 */
+	boolean isReported(TestDescriptor testDescriptor) {
+		return this.reportedUniqueIds.contains(testDescriptor.getUniqueId());
 	}
 
 	void resolveClasspathRoot(ClasspathRootSelector selector) {
@@ -129,12 +151,20 @@ class JavaElementsResolver {
 
 	private void resolveClass(Class<?> testClass) {
 		try {
+			if (isReported(testClass)) {
+				// already completely resolved
+				return;
+			}
+
 			Set<TestDescriptor> resolvedDescriptors = resolveContainerWithParents(testClass);
 			resolvedDescriptors.forEach(this::resolveChildren);
 
 			if (resolvedDescriptors.isEmpty()) {
 				logger.debug(() -> format("Class '%s' could not be resolved.", nullSafeToString(testClass)));
 			}
+			else if (!isInnerClass.test(testClass)) {
+				resolvedDescriptors.forEach(this::reportToDiscoveryListener);
+			}
 		}
 		catch (Throwable t) {
 			rethrowIfBlacklisted(t);
@@ -143,31 +173,57 @@ class JavaElementsResolver {
 	}
 
 	void resolveMethod(MethodSelector selector) {
-		try {
-			Class<?> testClass = selector.getJavaClass();
-			Method testMethod = selector.getJavaMethod();
-
-			Set<TestDescriptor> potentialParents = resolveContainerWithParents(testClass);
-			Set<TestDescriptor> resolvedDescriptors = resolveForAllParents(testMethod, potentialParents);
+		resolveMethods(Collections.singletonList(selector));
+	}
 
-			if (resolvedDescriptors.isEmpty()) {
-				logger.debug(() -> format("Method '%s' could not be resolved.", testMethod.toGenericString()));
+	/**
+	 * Resolve the supplied method selectors.
+	 *
+	 * <p>The test class of consecutive selectors for methods of the same class
+	 * and its enclosing classes are only resolved once. Selectors should
+	 * therefore be grouped by class.
+	 *
+	 * @since 5.4
+	 */
+	void resolveMethods(List<MethodSelector> selectors) {
+		Class<?> testClass = null;
+		boolean reported = false;
+		Set<TestDescriptor> potentialParents = Collections.emptySet();
+		for (MethodSelector selector : selectors) {
+			try {
+				if (selector.getJavaClass() != testClass) {
+					testClass = selector.getJavaClass();
+					reported = isReported(testClass);
+					potentialParents = reported ? Collections.emptySet() : resolveContainerWithParents(testClass);
+				}
+				Method testMethod = selector.getJavaMethod();
+				if (!reported) {
+					resolveMethod(testMethod, potentialParents);
+				}
+			}
+			catch (Throwable t) {
+				rethrowIfBlacklisted(t);
+				logger.debug(t, () -> format("Method '%s' in class '%s' could not be resolved.",
+					selector.getMethodName(), selector.getClassName()));
 			}
-
-			logMultipleTestDescriptorsForSingleElement(testMethod, resolvedDescriptors);
 		}
-		catch (Throwable t) {
-			rethrowIfBlacklisted(t);
-			logger.debug(t, () -> format("Method '%s' in class '%s' could not be resolved.", selector.getMethodName(),
-				selector.getClassName()));
+	}
+
+	private void resolveMethod(Method testMethod, Set<TestDescriptor> potentialParents) {
+		Set<TestDescriptor> resolvedDescriptors = resolveForAllParents(testMethod, potentialParents);
+
+		if (resolvedDescriptors.isEmpty()) {
+			logger.debug(() -> format("Method '%s' could not be resolved.", testMethod.toGenericString()));
 		}
+
+		logMultipleTestDescriptorsForSingleElement(testMethod, resolvedDescriptors);
 	}
 
 	void resolveUniqueId(UniqueIdSelector selector) {
 		UniqueId uniqueId = selector.getUniqueId();
 
-		// Ignore Unique IDs from other test engines.
-		if (JupiterEngineDescriptor.ENGINE_ID.equals(uniqueId.getEngineId().orElse(null))) {
+		// Ignore Unique IDs from other test engines and completely resolved classes.
+		if (JupiterEngineDescriptor.ENGINE_ID.equals(uniqueId.getEngineId().orElse(null)) && !isReported(uniqueId)) {
 			try {
 				Deque<TestDescriptor> resolvedDescriptors = resolveAllSegments(uniqueId);
 				handleResolvedDescriptorsForUniqueId(uniqueId, resolvedDescriptors);
@@ -320,9 +376,50 @@ class JavaElementsResolver {
 
 	@SuppressWarnings("unchecked")
 	private Optional<TestDescriptor> findTestDescriptorByUniqueId(UniqueId uniqueId) {
+		// Reported descriptors may already be executed concurrently and must not be traversed.
+		// Since the unique IDs of all descriptors created by this resolver are derived from the
+		// ones of their parents, the engine descriptor only descends into the top-level class
+		// descriptor whose unique ID is a prefix of the supplied one.
+		if (isReported(uniqueId)) {
+			return Optional.empty();
+		}
 		return (Optional<TestDescriptor>) this.engineDescriptor.findByUniqueId(uniqueId);
 	}
 
+	/**
+	 * Report the supplied completely resolved descriptor of a top-level class
+	 * to the {@link EngineDiscoveryListener} after filtering and pruning it.
+	 */
+	private void reportToDiscoveryListener(TestDescriptor classDescriptor) {
+		if (this.discoveryListener == null || isReported(classDescriptor)) {
+			return;
+		}
+		new DiscoveryFilterApplier().applyClassNamePredicate(this.classFilter::match, classDescriptor);
+		classDescriptor.accept(TestDescriptor::prune);
+		if (classDescriptor.getParent().isPresent()) {
+			this.reportedUniqueIds.add(classDescriptor.getUniqueId());
+			this.discoveryListener.testDescriptorDiscovered(classDescriptor);
+		}
+	}
+
+	private boolean isReported(Class<?> testClass) {
+		if (this.reportedUniqueIds.isEmpty()) {
+			return false;
+		}
+		Class<?> topLevelClass = testClass;
+		while (isInnerClass.test(topLevelClass)) {
+			topLevelClass = topLevelClass.getDeclaringClass();
+		}
+		return this.reportedUniqueIds.contains(
+			this.engineDescriptor.getUniqueId().append(TestContainerResolver.SEGMENT_TYPE, topLevelClass.getName()));
+	}
+
+	private boolean isReported(UniqueId uniqueId) {
+		List<Segment> segments = uniqueId.getSegments();
+		return segments.size() > 1
+				&& this.reportedUniqueIds.contains(this.engineDescriptor.getUniqueId().append(segments.get(1)));
+	}
+
 	private void logMultipleTestDescriptorsForSingleElement(AnnotatedElement element, Set<TestDescriptor> descriptors) {
 		if (descriptors.size() > 1 && element instanceof Method) {
 			Method method = (Method) element;
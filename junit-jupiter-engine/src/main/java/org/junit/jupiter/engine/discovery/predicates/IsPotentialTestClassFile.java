@@ -0,0 +1,51 @@
+/*
+ * Copyright 2015-2018 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.engine.discovery.predicates;
+
+import static org.apiguardian.api.API.Status.INTERNAL;
+
+import java.util.function.Predicate;
+
+import org.apiguardian.api.API;
+import org.junit.platform.commons.util.ClassFileMetadata;
+
+/**
+ * Test if the metadata of a class file indicates that the class might be a
+ * JUnit Jupiter test class, without loading the class.
+ *
+ * <p>This predicate is a conservative pre-filter for {@link IsTestClassWithTests}:
+ * it only rejects abstract classes and classes that neither declare annotated
+ * methods, nor declare member classes, nor inherit from a class or interface
+ * that might declare tests. Since test annotations may be used as
+ * meta-annotations, any runtime-visible method annotation is considered a
+ * potential test annotation.
+ *
+ * @since 5.4
+ */
+@API(status = INTERNAL, since = "5.4")
+public class IsPotentialTestClassFile implements Predicate<ClassFileMetadata> {
+
+	@Override
+	public boolean test(ClassFileMetadata candidate) {
+		// Please do not collapse the following into a single statement.
+		if (candidate.isAbstract()) {
+			return false;
+		}
+		if (!candidate.getMethodAnnotationNames().isEmpty()) {
+			return true;
+		}
+		if (!candidate.getMemberClassNames().isEmpty()) {
+			return true;
+		}
+		return candidate.hasSuperclassOtherThanObject() || !candidate.getInterfaceNames().isEmpty();
+	}
+
+}
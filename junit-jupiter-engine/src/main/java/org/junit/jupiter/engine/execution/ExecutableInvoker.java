@@ -31,7 +31,6 @@ import org.junit.jupiter.engine.extension.ExtensionRegistry;
 import org.junit.platform.commons.logging.Logger;
 import org.junit.platform.commons.logging.LoggerFactory;
 import org.junit.platform.commons.util.Preconditions;
-import org.junit.platform.commons.util.ReflectionUtils;
 
 /**
  * {@code ExecutableInvoker} encapsulates the invocation of a
@@ -39,6 +38,16 @@ import org.junit.platform.commons.util.ReflectionUtils;
  * including support for dynamic resolution of method parameters via
  * {@link ParameterResolver ParameterResolvers}.
  *
+ * <p>Executables are invoked via {@link java.lang.invoke.MethodHandle
+ * MethodHandles} that are created once per executable and reused across
+ * invocations.
+ *
+ * <p>The decisions of {@code ParameterResolvers} that declare them
+ * {@linkplain ParameterResolver#isParameterSupportCacheable() cacheable} are
+ * cached per parameter so that only
+ * {@link ParameterResolver#resolveParameter resolveParameter()} is invoked
+ * for subsequent invocations of the same executable.
+ *
  * @since 5.0
  */
 @API(status = INTERNAL, since = "5.0")
@@ -57,7 +66,7 @@ public class ExecutableInvoker {
 	public <T> T invoke(Constructor<T> constructor, ExtensionContext extensionContext,
 			ExtensionRegistry extensionRegistry) {
 
-		return ReflectionUtils.newInstance(constructor,
+		return MethodHandleInvoker.newInstance(constructor,
 			resolveParameters(constructor, Optional.empty(), extensionContext, extensionRegistry));
 	}
 
@@ -78,7 +87,7 @@ public class ExecutableInvoker {
 	public <T> T invoke(Constructor<T> constructor, Object outerInstance, ExtensionContext extensionContext,
 			ExtensionRegistry extensionRegistry) {
 
-		return ReflectionUtils.newInstance(constructor,
+		return MethodHandleInvoker.newInstance(constructor,
 			resolveParameters(constructor, Optional.empty(), outerInstance, extensionContext, extensionRegistry));
 	}
 
@@ -91,7 +100,7 @@ public class ExecutableInvoker {
 	 * {@code ParameterResolvers} from
 	 */
 	public Object invoke(Method method, ExtensionContext extensionContext, ExtensionRegistry extensionRegistry) {
-		return ReflectionUtils.invokeMethod(method, null,
+		return MethodHandleInvoker.invokeMethod(method, null,
 			resolveParameters(method, Optional.empty(), extensionContext, extensionRegistry));
 	}
 
@@ -112,7 +121,7 @@ public class ExecutableInvoker {
 		@SuppressWarnings("unchecked")
 		Optional<Object> optionalTarget = (target instanceof Optional ? (Optional<Object>) target
 				: Optional.ofNullable(target));
-		return ReflectionUtils.invokeMethod(method, target,
+		return MethodHandleInvoker.invokeMethod(method, target,
 			resolveParameters(method, optionalTarget, extensionContext, extensionRegistry));
 	}
 
@@ -169,20 +178,23 @@ public class ExecutableInvoker {
 		}
 
 		// Resolve remaining parameters dynamically
+		ParameterSupportCache supportCache = ParameterSupportCache.forExecutable(executable);
 		for (int i = start; i < parameters.length; i++) {
 			ParameterContext parameterContext = new DefaultParameterContext(parameters[i], i, target);
-			values[i] = resolveParameter(parameterContext, executable, extensionContext, extensionRegistry);
+			values[i] = resolveParameter(parameterContext, executable, extensionContext, extensionRegistry,
+				supportCache);
 		}
 		return values;
 	}
 
 	private Object resolveParameter(ParameterContext parameterContext, Executable executable,
-			ExtensionContext extensionContext, ExtensionRegistry extensionRegistry) {
+			ExtensionContext extensionContext, ExtensionRegistry extensionRegistry,
+			ParameterSupportCache supportCache) {
 
 		try {
 			// @formatter:off
 			List<ParameterResolver> matchingResolvers = extensionRegistry.stream(ParameterResolver.class)
-					.filter(resolver -> resolver.supportsParameter(parameterContext, extensionContext))
+					.filter(resolver -> supportCache.supportsParameter(resolver, parameterContext, extensionContext))
 					.collect(toList());
 			// @formatter:on
 
@@ -0,0 +1,178 @@
+/*
+ * Copyright 2015-2018 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.engine.execution;
+
+import static org.junit.platform.commons.util.ReflectionUtils.isStatic;
+import static org.junit.platform.commons.util.ReflectionUtils.makeAccessible;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Executable;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.junit.platform.commons.util.BlacklistedExceptions;
+import org.junit.platform.commons.util.ExceptionUtils;
+import org.junit.platform.commons.util.Preconditions;
+import org.junit.platform.commons.util.ReflectionUtils;
+
+/**
+ * {@code MethodHandleInvoker} invokes methods and constructors via
+ * {@link MethodHandle MethodHandles} that are created once per
+ * {@link Executable} and reused for subsequent invocations.
+ *
+ * <p>Each handle is adapted to accept the target and an array of arguments
+ * so that it can be invoked without further accessibility checks. The handles
+ * are cached per declaring class in order not to prevent that class from
+ * being garbage collected.
+ *
+ * <p>Exceptions thrown by the invoked executable are rethrown
+ * {@linkplain ExceptionUtils#throwAsUncheckedException as is}, exactly like
+ * {@link ReflectionUtils#invokeMethod} and {@link ReflectionUtils#newInstance}
+ * do after unwrapping them. If a handle cannot be created for an executable,
+ * or if the target or the arguments do not exactly match its declaring class
+ * and parameter types, it is invoked via {@link ReflectionUtils} instead so
+ * that errors are reported exactly like by reflection.
+ *
+ * @since 5.4
+ */
+class MethodHandleInvoker {
+
+	private static final ClassValue<Map<Executable, Optional<MethodHandle>>> handles = //
+		new ClassValue<Map<Executable, Optional<MethodHandle>>>() {
+			@Override
+			protected Map<Executable, Optional<MethodHandle>> computeValue(Class<?> type) {
+				return new ConcurrentHashMap<>();
+			}
+		};
+
+	private MethodHandleInvoker() {
+		/* no-op */
+	}
+
+	/**
+	 * Invoke the supplied method on the supplied target with the supplied
+	 * arguments.
+	 *
+	 * @see ReflectionUtils#invokeMethod(Method, Object, Object...)
+	 */
+	static Object invokeMethod(Method method, Object target, Object[] args) {
+		Preconditions.notNull(method, "Method must not be null");
+		Preconditions.condition((target != null || isStatic(method)),
+			() -> String.format("Cannot invoke non-static method [%s] on a null target.", method.toGenericString()));
+
+		Optional<MethodHandle> handle = getHandle(method);
+		if (!handle.isPresent() || !isInvocableWith(method, target, args)) {
+			return ReflectionUtils.invokeMethod(method, target, args);
+		}
+		try {
+			return (Object) handle.get().invokeExact(target, args);
+		}
+		catch (Throwable t) {
+			throw ExceptionUtils.throwAsUncheckedException(t);
+		}
+	}
+
+	/**
+	 * Create a new instance of type {@code T} by invoking the supplied
+	 * constructor with the supplied arguments.
+	 *
+	 * @see ReflectionUtils#newInstance(Constructor, Object...)
+	 */
+	@SuppressWarnings("unchecked")
+	static <T> T newInstance(Constructor<T> constructor, Object[] args) {
+		Preconditions.notNull(constructor, "Constructor must not be null");
+
+		Optional<MethodHandle> handle = getHandle(constructor);
+		if (!handle.isPresent() || !isInvocableWith(constructor, null, args)) {
+			return ReflectionUtils.newInstance(constructor, args);
+		}
+		try {
+			return (T) (Object) handle.get().invokeExact((Object) null, args);
+		}
+		catch (Throwable t) {
+			throw ExceptionUtils.throwAsUncheckedException(t);
+		}
+	}
+
+	/**
+	 * Determine if the supplied executable can be invoked via its handle with
+	 * the supplied target and arguments, i.e. without any conversions that
+	 * the handle would reject with an error that differs from reflection.
+	 *
+	 * <p>Primitive parameters only accept instances of their exact wrapper
+	 * type; widening conversions are left to reflection.
+	 */
+	private static boolean isInvocableWith(Executable executable, Object target, Object[] args) {
+		if (executable instanceof Method && !isStatic(executable)
+				&& !executable.getDeclaringClass().isInstance(target)) {
+			return false;
+		}
+		Class<?>[] parameterTypes = executable.getParameterTypes();
+		if (args == null || args.length != parameterTypes.length) {
+			return false;
+		}
+		for (int i = 0; i < parameterTypes.length; i++) {
+			if (!isExactlyAssignableTo(args[i], parameterTypes[i])) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static boolean isExactlyAssignableTo(Object arg, Class<?> parameterType) {
+		if (parameterType.isPrimitive()) {
+			return arg != null && arg.getClass() == ReflectionUtils.getWrapperType(parameterType);
+		}
+		return arg == null || parameterType.isInstance(arg);
+	}
+
+	private static Optional<MethodHandle> getHandle(Executable executable) {
+		return handles.get(executable.getDeclaringClass()).computeIfAbsent(executable,
+			MethodHandleInvoker::createHandle);
+	}
+
+	/**
+	 * Create a handle of type {@code (Object, Object[])Object} for the supplied
+	 * executable whose first argument is the target, which is ignored for
+	 * static methods and constructors.
+	 */
+	private static Optional<MethodHandle> createHandle(Executable executable) {
+		try {
+			MethodHandles.Lookup lookup = MethodHandles.lookup();
+			boolean hasTarget = false;
+			MethodHandle handle;
+			if (executable instanceof Method) {
+				Method method = (Method) executable;
+				handle = lookup.unreflect(makeAccessible(method));
+				hasTarget = !isStatic(method);
+			}
+			else {
+				handle = lookup.unreflectConstructor(makeAccessible((Constructor<?>) executable));
+			}
+			handle = handle.asFixedArity();
+			handle = handle.asType(handle.type().generic());
+			handle = handle.asSpreader(Object[].class, executable.getParameterCount());
+			if (!hasTarget) {
+				handle = MethodHandles.dropArguments(handle, 0, Object.class);
+			}
+			return Optional.of(handle);
+		}
+		catch (Throwable t) {
+			BlacklistedExceptions.rethrowIfBlacklisted(t);
+			return Optional.empty();
+		}
+	}
+
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2015-2018 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.engine.execution;
+
+import java.lang.reflect.Executable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ParameterContext;
+import org.junit.jupiter.api.extension.ParameterResolver;
+
+/**
+ * {@code ParameterSupportCache} caches the results of
+ * {@link ParameterResolver#supportsParameter} for the parameters of an
+ * {@link Executable} and each {@link ParameterResolver} class that declares
+ * its decision to be {@linkplain ParameterResolver#isParameterSupportCacheable()
+ * cacheable}.
+ *
+ * <p>Decisions are keyed by the class of the resolver rather than the
+ * resolver instance so that resolvers that are registered anew for each
+ * invocation do not let the caches grow.
+ *
+ * <p>Caches are attached to the declaring class of the executable. Since the
+ * values of a {@link ClassValue} are strongly reachable from their class, the
+ * caches only consist of JDK types; otherwise, they would prevent the class
+ * loader of the engine from being garbage collected as long as the declaring
+ * class is alive. For the same reason, resolvers whose class is not visible
+ * to the class loader of the declaring class are never cached.
+ *
+ * @since 5.4
+ */
+class ParameterSupportCache {
+
+	private static final ClassValue<Map<Executable, List<Map<Class<?>, Boolean>>>> caches = //
+		new ClassValue<Map<Executable, List<Map<Class<?>, Boolean>>>>() {
+			@Override
+			protected Map<Executable, List<Map<Class<?>, Boolean>>> computeValue(Class<?> type) {
+				return new ConcurrentHashMap<>();
+			}
+		};
+
+	private final Class<?> declaringClass;
+	private final List<Map<Class<?>, Boolean>> decisions;
+
+	static ParameterSupportCache forExecutable(Executable executable) {
+		Class<?> declaringClass = executable.getDeclaringClass();
+		List<Map<Class<?>, Boolean>> decisions = caches.get(declaringClass).computeIfAbsent(executable,
+			ParameterSupportCache::createDecisions);
+		return new ParameterSupportCache(declaringClass, decisions);
+	}
+
+	private static List<Map<Class<?>, Boolean>> createDecisions(Executable executable) {
+		List<Map<Class<?>, Boolean>> decisions = new ArrayList<>(executable.getParameterCount());
+		for (int i = 0; i < executable.getParameterCount(); i++) {
+			decisions.add(new ConcurrentHashMap<>());
+		}
+		return decisions;
+	}
+
+	private ParameterSupportCache(Class<?> declaringClass, List<Map<Class<?>, Boolean>> decisions) {
+		this.declaringClass = declaringClass;
+		this.decisions = decisions;
+	}
+
+	/**
+	 * Determine if the supplied resolver supports the parameter in the supplied
+	 * {@link ParameterContext}, reusing a previous decision if the resolver's
+	 * decision is cacheable.
+	 */
+	boolean supportsParameter(ParameterResolver resolver, ParameterContext parameterContext,
+			ExtensionContext extensionContext) {
+
+		if (!isCacheable(resolver)) {
+			return resolver.supportsParameter(parameterContext, extensionContext);
+		}
+		Map<Class<?>, Boolean> decisionsForParameter = this.decisions.get(parameterContext.getIndex());
+		Boolean supported = decisionsForParameter.get(resolver.getClass());
+		if (supported == null) {
+			supported = resolver.supportsParameter(parameterContext, extensionContext);
+			decisionsForParameter.put(resolver.getClass(), supported);
+		}
+		return supported;
+	}
+
+	private boolean isCacheable(ParameterResolver resolver) {
+		if (!resolver.isParameterSupportCacheable()) {
+			return false;
+		}
+		ClassLoader resolverClassLoader = resolver.getClass().getClassLoader();
+		if (resolverClassLoader == null) {
+			return true;
+		}
+		ClassLoader classLoader = this.declaringClass.getClassLoader();
+		while (classLoader != null && classLoader != resolverClassLoader) {
+			classLoader = classLoader.getParent();
+		}
+		return classLoader != null;
+	}
+
+}
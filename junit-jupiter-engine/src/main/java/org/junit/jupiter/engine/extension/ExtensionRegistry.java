@@ -10,9 +10,7 @@
 
 package org.junit.jupiter.engine.extension;
 
-import static java.util.stream.Collectors.toCollection;
 import static java.util.stream.Collectors.toList;
-import static java.util.stream.Stream.concat;
 import static org.apiguardian.api.API.Status.INTERNAL;
 
 import java.util.ArrayList;
@@ -20,8 +18,10 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.ServiceLoader;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
@@ -43,6 +43,10 @@ import org.junit.platform.engine.ConfigurationParameters;
  * performed first in the current registry itself and then recursively in its
  * ancestors.
  *
+ * <p>The extensions of each requested type are collected once and reused for
+ * subsequent lookups until another extension is registered in the registry
+ * or one of its ancestors.
+ *
  * @since 5.0
  */
 @API(status = INTERNAL, since = "5.0")
@@ -128,6 +132,15 @@ public class ExtensionRegistry {
 
 	private final List<Extension> registeredExtensions = new ArrayList<>();
 
+	/**
+	 * Extensions of this registry and its ancestors indexed by extension type;
+	 * populated lazily and validated against the {@link #registrationCount}
+	 * of this registry and its ancestors.
+	 */
+	private final Map<Class<? extends Extension>, IndexedExtensions> extensionsByType = new ConcurrentHashMap<>();
+
+	private volatile int registrationCount;
+
 	private ExtensionRegistry(ExtensionRegistry parent) {
 		this.parent = parent;
 	}
@@ -141,27 +154,7 @@ public class ExtensionRegistry {
 	 * @see #getExtensions(Class)
 	 */
 	public <E extends Extension> Stream<E> stream(Class<E> extensionType) {
-		if (this.parent == null) {
-			return streamLocal(extensionType);
-		}
-		return concat(this.parent.stream(extensionType), streamLocal(extensionType));
-	}
-
-	/**
-	 * Stream all {@code Extensions} of the specified type that are present
-	 * in this registry.
-	 *
-	 * <p>Extensions in ancestors are ignored.
-	 *
-	 * @param extensionType the type of {@link Extension} to stream
-	 * @see #getReversedExtensions(Class)
-	 */
-	private <E extends Extension> Stream<E> streamLocal(Class<E> extensionType) {
-		// @formatter:off
-		return this.registeredExtensions.stream()
-				.filter(extensionType::isInstance)
-				.map(extensionType::cast);
-		// @formatter:on
+		return getExtensions(extensionType).stream();
 	}
 
 	/**
@@ -169,11 +162,13 @@ public class ExtensionRegistry {
 	 * in this registry or one of its ancestors.
 	 *
 	 * @param extensionType the type of {@link Extension} to get
+	 * @return an unmodifiable list of extensions; never {@code null}
 	 * @see #getReversedExtensions(Class)
 	 * @see #stream(Class)
 	 */
+	@SuppressWarnings("unchecked")
 	public <E extends Extension> List<E> getExtensions(Class<E> extensionType) {
-		return stream(extensionType).collect(toCollection(ArrayList::new));
+		return (List<E>) getIndexedExtensions(extensionType).extensions;
 	}
 
 	/**
@@ -181,12 +176,45 @@ public class ExtensionRegistry {
 	 * in this registry or one of its ancestors, in reverse order.
 	 *
 	 * @param extensionType the type of {@link Extension} to get
+	 * @return an unmodifiable list of extensions; never {@code null}
 	 * @see #getExtensions(Class)
 	 * @see #stream(Class)
 	 */
+	@SuppressWarnings("unchecked")
 	public <E extends Extension> List<E> getReversedExtensions(Class<E> extensionType) {
-		List<E> extensions = getExtensions(extensionType);
-		Collections.reverse(extensions);
+		return (List<E>) getIndexedExtensions(extensionType).reversedExtensions;
+	}
+
+	private IndexedExtensions getIndexedExtensions(Class<? extends Extension> extensionType) {
+		int totalRegistrationCount = getTotalRegistrationCount();
+		IndexedExtensions indexedExtensions = this.extensionsByType.get(extensionType);
+		if (indexedExtensions == null || indexedExtensions.totalRegistrationCount != totalRegistrationCount) {
+			indexedExtensions = new IndexedExtensions(totalRegistrationCount, collectExtensions(extensionType));
+			this.extensionsByType.put(extensionType, indexedExtensions);
+		}
+		return indexedExtensions;
+	}
+
+	/**
+	 * Get the number of extensions registered in this registry and its
+	 * ancestors, which changes whenever an extension is registered in any of
+	 * them.
+	 */
+	private int getTotalRegistrationCount() {
+		int count = this.registrationCount;
+		return (this.parent == null ? count : count + this.parent.getTotalRegistrationCount());
+	}
+
+	private List<Extension> collectExtensions(Class<? extends Extension> extensionType) {
+		List<Extension> extensions = new ArrayList<>();
+		if (this.parent != null) {
+			extensions.addAll(this.parent.getExtensions(extensionType));
+		}
+		for (Extension extension : this.registeredExtensions) {
+			if (extensionType.isInstance(extension)) {
+				extensions.add(extension);
+			}
+		}
 		return extensions;
 	}
 
@@ -218,6 +246,7 @@ public class ExtensionRegistry {
 	private void registerDefaultExtension(Extension extension) {
 		this.registeredExtensions.add(extension);
 		this.registeredExtensionTypes.add(extension.getClass());
+		this.registrationCount++;
 	}
 
 	private void registerExtension(Extension extension) {
@@ -247,6 +276,27 @@ public class ExtensionRegistry {
 	public void registerExtension(Extension extension, Object source) {
 		logger.trace(() -> String.format("Registering extension [%s] from source [%s].", extension, source));
 		this.registeredExtensions.add(extension);
+		this.registrationCount++;
+	}
+
+	/**
+	 * Extensions of a particular type in registration order and in reverse
+	 * order along with the total registration count they were collected for.
+	 */
+	private static class IndexedExtensions {
+
+		private final int totalRegistrationCount;
+		private final List<Extension> extensions;
+		private final List<Extension> reversedExtensions;
+
+		IndexedExtensions(int totalRegistrationCount, List<Extension> extensions) {
+			this.totalRegistrationCount = totalRegistrationCount;
+			this.extensions = Collections.unmodifiableList(extensions);
+			List<Extension> reversedExtensions = new ArrayList<>(extensions);
+			Collections.reverse(reversedExtensions);
+			this.reversedExtensions = Collections.unmodifiableList(reversedExtensions);
+		}
+
 	}
 
 }
@@ -33,6 +33,11 @@ class TestInfoParameterResolver implements ParameterResolver {
 		return (parameterContext.getParameter().getType() == TestInfo.class);
 	}
 
+	@Override
+	public boolean isParameterSupportCacheable() {
+		return true;
+	}
+
 	@Override
 	public TestInfo resolveParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
 		return new DefaultTestInfo(extensionContext);
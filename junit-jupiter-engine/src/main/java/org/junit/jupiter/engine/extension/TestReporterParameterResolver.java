@@ -27,6 +27,11 @@ class TestReporterParameterResolver implements ParameterResolver {
 		return (parameterContext.getParameter().getType() == TestReporter.class);
 	}
 
+	@Override
+	public boolean isParameterSupportCacheable() {
+		return true;
+	}
+
 	@Override
 	public TestReporter resolveParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
 		return extensionContext::publishReportEntry;
@@ -18,6 +18,8 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.DynamicContainer.dynamicContainer;
 import static org.junit.jupiter.api.DynamicTest.dynamicTest;
+import static org.junit.jupiter.engine.Constants.DYNAMIC_TESTS_MAX_OUTSTANDING_PROPERTY_NAME;
+import static org.junit.jupiter.engine.Constants.STREAMING_EXECUTION_ENABLED_PROPERTY_NAME;
 import static org.junit.jupiter.engine.descriptor.TestFactoryTestDescriptor.DYNAMIC_CONTAINER_SEGMENT_TYPE;
 import static org.junit.jupiter.engine.descriptor.TestFactoryTestDescriptor.DYNAMIC_TEST_SEGMENT_TYPE;
 import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
@@ -48,6 +50,7 @@ import org.junit.jupiter.api.DynamicNode;
 import org.junit.jupiter.api.DynamicTest;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestFactory;
+import org.junit.jupiter.engine.descriptor.JupiterEngineDescriptor;
 import org.junit.platform.engine.TestDescriptor;
 import org.junit.platform.engine.UniqueId;
 import org.junit.platform.launcher.LauncherDiscoveryRequest;
@@ -291,6 +294,44 @@ class DynamicNodeGenerationTests extends AbstractJupiterTestEngineTests {
 			() -> assertEquals(5, containers.finished().count(), "# container finished"));
 	}
 
+	@Test
+	void nestedDynamicContainersAreReleasedInStreamingMode() {
+		LauncherDiscoveryRequest request = request() //
+				.selectors(selectMethod(MyDynamicTestCase.class, "nestedDynamicContainers")) //
+				.configurationParameter(STREAMING_EXECUTION_ENABLED_PROPERTY_NAME, "true") //
+				.build();
+
+		ExecutionResults executionResults = executeTests(request);
+
+		Events containers = executionResults.containers();
+		Events tests = executionResults.tests();
+
+		assertAll( //
+			() -> assertEquals(5, containers.finished().count(), "# container finished"),
+			() -> assertEquals(1, tests.succeeded().count(), "# tests succeeded"),
+			() -> assertEquals(1, tests.failed().count(), "# tests failed"),
+			() -> assertThat(executionResults.all().finished().map(Event::getTestDescriptor)) //
+					.filteredOn(descriptor -> !(descriptor instanceof JupiterEngineDescriptor)) //
+					.allSatisfy(descriptor -> assertThat(descriptor.getParent()).isEmpty()));
+	}
+
+	@Test
+	void finishedDynamicNodesAreRetainedWithoutStreamingMode() {
+		LauncherDiscoveryRequest request = request() //
+				.selectors(selectMethod(MyDynamicTestCase.class, "nestedDynamicContainers")) //
+				.configurationParameter(DYNAMIC_TESTS_MAX_OUTSTANDING_PROPERTY_NAME, "1") //
+				.build();
+
+		ExecutionResults executionResults = executeTests(request);
+
+		assertAll( //
+			() -> assertEquals(1, executionResults.tests().succeeded().count(), "# tests succeeded"),
+			() -> assertEquals(1, executionResults.tests().failed().count(), "# tests failed"),
+			() -> assertThat(executionResults.all().dynamicallyRegistered().map(Event::getTestDescriptor)) //
+					.hasSize(4) //
+					.allSatisfy(descriptor -> assertThat(descriptor.getParent()).isPresent()));
+	}
+
 	@Test
 	void legacyReportingNames() {
 		Events dynamicRegistrations = executeTests(selectMethod(MyDynamicTestCase.class, "nestedDynamicContainers"))//
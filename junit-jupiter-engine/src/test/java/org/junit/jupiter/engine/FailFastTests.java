@@ -0,0 +1,81 @@
+/*
+ * Copyright 2015-2018 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.engine;
+
+import static org.junit.jupiter.api.Assertions.fail;
+import static org.junit.jupiter.api.DynamicTest.dynamicTest;
+import static org.junit.jupiter.engine.Constants.FAIL_FAST_THRESHOLD_PROPERTY_NAME;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
+import static org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder.request;
+import static org.junit.platform.testkit.engine.EventConditions.container;
+import static org.junit.platform.testkit.engine.EventConditions.event;
+import static org.junit.platform.testkit.engine.EventConditions.skippedWithReason;
+
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestFactory;
+import org.junit.platform.launcher.LauncherDiscoveryRequest;
+import org.junit.platform.testkit.engine.ExecutionResults;
+
+/**
+ * Integration tests for the {@value Constants#FAIL_FAST_THRESHOLD_PROPERTY_NAME}
+ * configuration parameter.
+ *
+ * @since 5.4
+ */
+class FailFastTests extends AbstractJupiterTestEngineTests {
+
+	@Test
+	void remainingTestsAreSkippedOnceThresholdIsReached() {
+		ExecutionResults results = executeTests(FailingDynamicTestCase.class, SucceedingTestCase.class, "1");
+
+		results.tests().assertStatistics(stats -> stats.dynamicallyRegistered(1).failed(1).succeeded(0));
+		results.containers().assertStatistics(stats -> stats.skipped(1));
+		results.containers().skipped().assertEventsMatchExactly(
+			event(container(SucceedingTestCase.class), skippedWithReason("Execution cancelled after 1 failure")));
+	}
+
+	@Test
+	void allTestsAreExecutedWhileBelowThreshold() {
+		ExecutionResults results = executeTests(FailingDynamicTestCase.class, SucceedingTestCase.class, "3");
+
+		results.tests().assertStatistics(stats -> stats.dynamicallyRegistered(2).failed(2).succeeded(1));
+		results.containers().assertStatistics(stats -> stats.skipped(0));
+	}
+
+	private ExecutionResults executeTests(Class<?> firstTestClass, Class<?> secondTestClass, String threshold) {
+		LauncherDiscoveryRequest request = request() //
+				.selectors(selectClass(firstTestClass), selectClass(secondTestClass)) //
+				.configurationParameter(FAIL_FAST_THRESHOLD_PROPERTY_NAME, threshold) //
+				.build();
+		return executeTests(request);
+	}
+
+	// -------------------------------------------------------------------
+
+	static class FailingDynamicTestCase {
+
+		@TestFactory
+		Stream<DynamicTest> failingDynamicTests() {
+			return Stream.of(dynamicTest("first", () -> fail("first")), dynamicTest("second", () -> fail("second")));
+		}
+	}
+
+	static class SucceedingTestCase {
+
+		@Test
+		void succeedingTest() {
+		}
+	}
+
+}
@@ -30,15 +30,18 @@ import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass
 import static org.junit.platform.engine.discovery.DiscoverySelectors.selectMethod;
 import static org.junit.platform.engine.discovery.DiscoverySelectors.selectPackage;
 import static org.junit.platform.engine.discovery.DiscoverySelectors.selectUniqueId;
+import static org.junit.platform.engine.support.filter.ClasspathScanningSupport.DISCOVERY_INDEX_DIRECTORY_PROPERTY_NAME;
 import static org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder.request;
 
 import java.lang.reflect.Method;
 import java.net.URL;
 import java.net.URLClassLoader;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.logging.Level;
 import java.util.logging.LogRecord;
 import java.util.stream.Stream;
@@ -61,6 +64,10 @@ import org.junit.platform.commons.JUnitException;
 import org.junit.platform.commons.logging.LogRecordListener;
 import org.junit.platform.commons.util.PreconditionViolationException;
 import org.junit.platform.commons.util.ReflectionUtils;
+import org.junit.platform.engine.ConfigurationParameters;
+import org.junit.platform.engine.DiscoveryFilter;
+import org.junit.platform.engine.DiscoverySelector;
+import org.junit.platform.engine.EngineDiscoveryListener;
 import org.junit.platform.engine.EngineDiscoveryRequest;
 import org.junit.platform.engine.TestDescriptor;
 import org.junit.platform.engine.UniqueId;
@@ -144,6 +151,50 @@ class DiscoverySelectorResolverTests {
 		assertThat(uniqueIds).contains(uniqueIdForMethod(YourTestClass.class, "test4()"));
 	}
 
+	@Test
+	void completelyResolvedTopLevelClassesAreReportedToDiscoveryListenerOnce() {
+		List<UniqueId> reportedUniqueIds = new ArrayList<>();
+		LauncherDiscoveryRequest request = request() //
+				.selectors(selectClass(MyTestClass.class), selectClass(YourTestClass.class), //
+					selectMethod(MyTestClass.class, "test1"), //
+					selectUniqueId(uniqueIdForMethod(YourTestClass.class, "test3()"))) //
+				.build();
+
+		resolver.resolveSelectors(withDiscoveryListener(request,
+			testDescriptor -> reportedUniqueIds.add(testDescriptor.getUniqueId())), engineDescriptor);
+
+		assertThat(reportedUniqueIds).containsExactly(uniqueIdForClass(MyTestClass.class),
+			uniqueIdForClass(YourTestClass.class));
+		assertEquals(7, engineDescriptor.getDescendants().size());
+		assertUniqueIdsForMyTestClass(uniqueIds());
+	}
+
+	private static EngineDiscoveryRequest withDiscoveryListener(EngineDiscoveryRequest request,
+			EngineDiscoveryListener discoveryListener) {
+		return new EngineDiscoveryRequest() {
+
+			@Override
+			public <T extends DiscoverySelector> List<T> getSelectorsByType(Class<T> selectorType) {
+				return request.getSelectorsByType(selectorType);
+			}
+
+			@Override
+			public <T extends DiscoveryFilter<?>> List<T> getFiltersByType(Class<T> filterType) {
+				return request.getFiltersByType(filterType);
+			}
+
+			@Override
+			public ConfigurationParameters getConfigurationParameters() {
+				return request.getConfigurationParameters();
+			}
+
+			@Override
+			public Optional<EngineDiscoveryListener> getDiscoveryListener() {
+				return Optional.of(discoveryListener);
+			}
+		};
+	}
+
 	private void assertUniqueIdsForMyTestClass(List<UniqueId> uniqueIds) {
 		assertThat(uniqueIds).contains(uniqueIdForClass(MyTestClass.class));
 		assertThat(uniqueIds).contains(uniqueIdForMethod(MyTestClass.class, "test1()"));
@@ -189,6 +240,20 @@ class DiscoverySelectorResolverTests {
 		assertThat(uniqueIds).contains(uniqueIdForMethod(HerTestClass.class, "test1()"));
 	}
 
+	@Test
+	void methodResolutionForMethodsOfDifferentClasses() {
+		EngineDiscoveryRequest request = request().selectors(selectMethod(MyTestClass.class, "test2"),
+			selectMethod(YourTestClass.class, "test3"), selectMethod(MyTestClass.class, "test1")).build();
+
+		resolver.resolveSelectors(request, engineDescriptor);
+
+		assertThat(engineDescriptor.getChildren()).extracting(TestDescriptor::getUniqueId).containsExactly(
+			uniqueIdForClass(MyTestClass.class), uniqueIdForClass(YourTestClass.class));
+		assertThat(uniqueIds()).containsExactlyInAnyOrder(uniqueIdForClass(MyTestClass.class),
+			uniqueIdForMethod(MyTestClass.class, "test2()"), uniqueIdForMethod(MyTestClass.class, "test1()"),
+			uniqueIdForClass(YourTestClass.class), uniqueIdForMethod(YourTestClass.class, "test3()"));
+	}
+
 	@Test
 	void resolvingSelectorOfNonTestMethodResolvesNothing() throws NoSuchMethodException {
 		Method notATest = MyTestClass.class.getDeclaredMethod("notATest");
@@ -430,6 +495,32 @@ class DiscoverySelectorResolverTests {
 			uniqueIdForMethod(ClassWithStaticInnerTestCases.ShouldBeDiscovered.class, "test1()"));
 	}
 
+	@Test
+	void packageResolutionUsingDiscoveryIndex() throws Exception {
+		PackageSelector selector = selectPackage("org.junit.jupiter.engine.descriptor.subpackage");
+		Path indexDirectory = Files.createTempDirectory("discovery-index");
+		try {
+			LauncherDiscoveryRequest request = request().selectors(selector).configurationParameter(
+				DISCOVERY_INDEX_DIRECTORY_PROPERTY_NAME, indexDirectory.toString()).build();
+
+			resolver.resolveSelectors(request, engineDescriptor);
+			JupiterEngineDescriptor secondEngineDescriptor = new JupiterEngineDescriptor(engineId());
+			resolver.resolveSelectors(request, secondEngineDescriptor);
+
+			assertThat(indexDirectory.resolve("junit-discovery-index-junit-jupiter.properties")).isRegularFile();
+			assertEquals(6, engineDescriptor.getDescendants().size());
+			assertEquals(6, secondEngineDescriptor.getDescendants().size());
+		}
+		finally {
+			try (Stream<Path> files = Files.list(indexDirectory)) {
+				for (Path file : files.collect(toList())) {
+					Files.delete(file);
+				}
+			}
+			Files.delete(indexDirectory);
+		}
+	}
+
 	@Test
 	void packageResolutionUsingDefaultPackage() {
 		resolver.resolveSelectors(request().selectors(selectPackage("")).build(), engineDescriptor);
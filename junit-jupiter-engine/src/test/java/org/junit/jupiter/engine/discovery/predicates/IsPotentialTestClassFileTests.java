@@ -0,0 +1,112 @@
+/*
+ * Copyright 2015-2018 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.engine.discovery.predicates;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestFactory;
+import org.junit.platform.commons.util.ClassFileMetadata;
+
+/**
+ * @since 5.4
+ */
+class IsPotentialTestClassFileTests {
+
+	private final IsPotentialTestClassFile isPotentialTestClassFile = new IsPotentialTestClassFile();
+
+	@Test
+	void classWithAnnotatedMethodEvaluatesToTrue() throws Exception {
+		assertTrue(isPotentialTestClassFile.test(read(ClassWithAnnotatedMethod.class)));
+	}
+
+	@Test
+	void classWithMemberClassEvaluatesToTrue() throws Exception {
+		assertTrue(isPotentialTestClassFile.test(read(ClassWithMemberClass.class)));
+	}
+
+	@Test
+	void subclassEvaluatesToTrue() throws Exception {
+		assertTrue(isPotentialTestClassFile.test(read(Subclass.class)));
+	}
+
+	@Test
+	void classImplementingInterfaceEvaluatesToTrue() throws Exception {
+		assertTrue(isPotentialTestClassFile.test(read(ClassImplementingInterface.class)));
+	}
+
+	@Test
+	void classWithoutAnnotatedMethodsEvaluatesToFalse() throws Exception {
+		assertFalse(isPotentialTestClassFile.test(read(ClassWithoutAnnotatedMethods.class)));
+	}
+
+	@Test
+	void abstractClassEvaluatesToFalse() throws Exception {
+		assertFalse(isPotentialTestClassFile.test(read(AbstractClassWithAnnotatedMethod.class)));
+	}
+
+	private static ClassFileMetadata read(Class<?> type) throws IOException {
+		String resourceName = "/" + type.getName().replace('.', '/') + ".class";
+		try (InputStream inputStream = type.getResourceAsStream(resourceName)) {
+			return ClassFileMetadata.read(inputStream);
+		}
+	}
+
+	static class ClassWithAnnotatedMethod {
+
+		@Deprecated
+		void method() {
+		}
+
+	}
+
+	static class ClassWithMemberClass {
+
+		class InnerClass {
+		}
+
+	}
+
+	static class Subclass extends ClassWithoutAnnotatedMethods {
+	}
+
+	static class ClassImplementingInterface implements Supplier<String> {
+
+		@Override
+		public String get() {
+			return "";
+		}
+
+	}
+
+	static class ClassWithoutAnnotatedMethods {
+
+		@Deprecated
+		Object field;
+
+		void method() {
+		}
+
+	}
+
+	abstract static class AbstractClassWithAnnotatedMethod {
+
+		@TestFactory
+		abstract Object method();
+
+	}
+
+}
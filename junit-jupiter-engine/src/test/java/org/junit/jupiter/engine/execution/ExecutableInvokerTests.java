@@ -16,11 +16,14 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Method;
 import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.Map;
 import java.util.function.Function;
 import java.util.function.Predicate;
 
@@ -136,6 +139,56 @@ class ExecutableInvokerTests {
 		verify(instance).singleStringParameter("something");
 	}
 
+	@Test
+	void cacheSupportDecisionsOfParameterResolversThatDeclareThemCacheable() {
+		testMethodWithASingleStringParameter();
+		CountingParameterResolver nonCacheableResolver = new CountingParameterResolver(false, false);
+		CountingParameterResolver cacheableResolver = new CountingParameterResolver(true, true);
+		register(nonCacheableResolver, cacheableResolver);
+
+		invokeMethod();
+		invokeMethod();
+
+		verify(instance, times(2)).singleStringParameter(ENIGMA);
+		assertEquals(2, nonCacheableResolver.supportsParameterCalls);
+		assertEquals(1, cacheableResolver.supportsParameterCalls);
+		assertEquals(2, cacheableResolver.resolveParameterCalls);
+	}
+
+	@Test
+	void shareCachedSupportDecisionsBetweenInstancesOfSameResolverClass() {
+		testMethodWithASingleStringParameter();
+		CountingParameterResolver firstResolver = new CacheableCountingParameterResolver();
+		register(firstResolver);
+		invokeMethod();
+
+		extensionRegistry = ExtensionRegistry.createRegistryWithDefaultExtensions(configParams);
+		CountingParameterResolver secondResolver = new CacheableCountingParameterResolver();
+		register(secondResolver);
+		invokeMethod();
+
+		verify(instance, times(2)).singleStringParameter(ENIGMA);
+		assertEquals(1, firstResolver.supportsParameterCalls);
+		assertEquals(0, secondResolver.supportsParameterCalls);
+		assertEquals(1, secondResolver.resolveParameterCalls);
+	}
+
+	@Test
+	void cachedSupportDecisionsDoNotRetainTheClassLoaderOfTheEngine() {
+		testMethodWithASingleStringParameter();
+		register(new CountingParameterResolver(true, true) {
+		});
+		invokeMethod();
+
+		ClassValue<?> caches = (ClassValue<?>) ReflectionUtils.readFieldValue(ParameterSupportCache.class, "caches",
+			null).get();
+		Object cache = caches.get(method.getDeclaringClass());
+
+		assertThat(cache).isInstanceOf(Map.class);
+		assertThat((Map<?, ?>) cache).isNotEmpty();
+		assertOnlyJdkTypes(cache);
+	}
+
 	@Test
 	void passContextInformationToParameterResolverMethods() {
 		anyTestMethodWithAtLeastOneParameter();
@@ -304,6 +357,19 @@ class ExecutableInvokerTests {
 		newInvoker().invoke(this.method, this.instance, this.extensionContext, this.extensionRegistry);
 	}
 
+	private static void assertOnlyJdkTypes(Object object) {
+		assertThat(object.getClass().getClassLoader()).as("class loader of " + object.getClass()).isNull();
+		if (object instanceof Map) {
+			((Map<?, ?>) object).forEach((key, value) -> {
+				assertOnlyJdkTypes(key);
+				assertOnlyJdkTypes(value);
+			});
+		}
+		else if (object instanceof Collection) {
+			((Collection<?>) object).forEach(ExecutableInvokerTests::assertOnlyJdkTypes);
+		}
+	}
+
 	// -------------------------------------------------------------------------
 
 	static class ArgumentRecordingParameterResolver implements ParameterResolver {
@@ -375,6 +441,43 @@ class ExecutableInvokerTests {
 		}
 	}
 
+	static class CountingParameterResolver implements ParameterResolver {
+
+		private final boolean supported;
+		private final boolean cacheable;
+		int supportsParameterCalls;
+		int resolveParameterCalls;
+
+		CountingParameterResolver(boolean supported, boolean cacheable) {
+			this.supported = supported;
+			this.cacheable = cacheable;
+		}
+
+		@Override
+		public boolean supportsParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
+			supportsParameterCalls++;
+			return supported;
+		}
+
+		@Override
+		public Object resolveParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
+			resolveParameterCalls++;
+			return ENIGMA;
+		}
+
+		@Override
+		public boolean isParameterSupportCacheable() {
+			return cacheable;
+		}
+	}
+
+	static class CacheableCountingParameterResolver extends CountingParameterResolver {
+
+		CacheableCountingParameterResolver() {
+			super(true, true);
+		}
+	}
+
 	interface MethodSource {
 
 		void noParameter();
@@ -0,0 +1,165 @@
+/*
+ * Copyright 2015-2018 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.engine.execution;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+
+import org.junit.jupiter.api.Test;
+import org.junit.platform.commons.util.PreconditionViolationException;
+import org.junit.platform.commons.util.ReflectionUtils;
+
+/**
+ * Unit tests for {@link MethodHandleInvoker}.
+ *
+ * @since 5.4
+ */
+class MethodHandleInvokerTests {
+
+	@Test
+	void invokesPrivateInstanceMethodRepeatedly() throws Exception {
+		Method method = TestCase.class.getDeclaredMethod("concat", String.class, int.class);
+		TestCase target = new TestCase("a");
+
+		assertEquals("a-b-1", MethodHandleInvoker.invokeMethod(method, target, new Object[] { "b", 1 }));
+		assertEquals("a-c-2", MethodHandleInvoker.invokeMethod(method, target, new Object[] { "c", 2 }));
+	}
+
+	@Test
+	void invokesStaticAndVoidMethods() throws Exception {
+		Method staticMethod = TestCase.class.getDeclaredMethod("join", String[].class);
+		Method voidMethod = TestCase.class.getDeclaredMethod("run");
+
+		assertEquals("x,y",
+			MethodHandleInvoker.invokeMethod(staticMethod, null, new Object[] { new String[] { "x", "y" } }));
+		assertNull(MethodHandleInvoker.invokeMethod(voidMethod, new TestCase("a"), new Object[0]));
+	}
+
+	@Test
+	void createsNewInstance() throws Exception {
+		TestCase instance = MethodHandleInvoker.newInstance(
+			TestCase.class.getDeclaredConstructor(String.class), new Object[] { "z" });
+
+		assertEquals("z", instance.prefix);
+	}
+
+	@Test
+	void rethrowsExceptionThrownByInvokedMethodLikeReflectionUtils() throws Exception {
+		Method method = TestCase.class.getDeclaredMethod("fail");
+		TestCase target = new TestCase("a");
+
+		IOException expected = assertThrows(IOException.class,
+			() -> ReflectionUtils.invokeMethod(method, target));
+		IOException actual = assertThrows(IOException.class,
+			() -> MethodHandleInvoker.invokeMethod(method, target, new Object[0]));
+
+		assertEquals(expected.getMessage(), actual.getMessage());
+	}
+
+	@Test
+	void rethrowsExceptionThrownByInvokedConstructor() throws Exception {
+		IllegalStateException exception = assertThrows(IllegalStateException.class,
+			() -> MethodHandleInvoker.newInstance(TestCase.class.getDeclaredConstructor(), new Object[0]));
+
+		assertEquals("constructor", exception.getMessage());
+	}
+
+	@Test
+	void rejectsNullTargetForNonStaticMethod() throws Exception {
+		Method method = TestCase.class.getDeclaredMethod("run");
+
+		PreconditionViolationException exception = assertThrows(PreconditionViolationException.class,
+			() -> MethodHandleInvoker.invokeMethod(method, null, new Object[0]));
+
+		assertThat(exception).hasMessageStartingWith("Cannot invoke non-static method");
+	}
+
+	@Test
+	void rejectsTargetOfWrongTypeLikeReflection() throws Exception {
+		Method method = TestCase.class.getDeclaredMethod("run");
+
+		IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+			() -> MethodHandleInvoker.invokeMethod(method, "wrong", new Object[0]));
+
+		assertEquals("object is not an instance of declaring class", exception.getMessage());
+	}
+
+	@Test
+	void rejectsNullForPrimitiveParameterLikeReflection() throws Exception {
+		Method method = TestCase.class.getDeclaredMethod("concat", String.class, int.class);
+		TestCase target = new TestCase("a");
+
+		IllegalArgumentException expected = assertThrows(IllegalArgumentException.class,
+			() -> ReflectionUtils.invokeMethod(method, target, "b", null));
+		IllegalArgumentException actual = assertThrows(IllegalArgumentException.class,
+			() -> MethodHandleInvoker.invokeMethod(method, target, new Object[] { "b", null }));
+
+		assertEquals(expected.getMessage(), actual.getMessage());
+	}
+
+	@Test
+	void rejectsArgumentOfWrongTypeLikeReflection() throws Exception {
+		Method method = TestCase.class.getDeclaredMethod("concat", String.class, int.class);
+		TestCase target = new TestCase("a");
+
+		IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+			() -> MethodHandleInvoker.invokeMethod(method, target, new Object[] { 42, 1 }));
+
+		assertThat(exception).hasMessageStartingWith("argument type mismatch");
+	}
+
+	@Test
+	void appliesWideningConversionsLikeReflection() throws Exception {
+		Method method = TestCase.class.getDeclaredMethod("twice", long.class);
+
+		assertEquals(84L, MethodHandleInvoker.invokeMethod(method, null, new Object[] { 42 }));
+	}
+
+	@SuppressWarnings("unused")
+	static class TestCase {
+
+		private final String prefix;
+
+		private TestCase() {
+			throw new IllegalStateException("constructor");
+		}
+
+		private TestCase(String prefix) {
+			this.prefix = prefix;
+		}
+
+		private String concat(String suffix, int number) {
+			return prefix + "-" + suffix + "-" + number;
+		}
+
+		private static long twice(long number) {
+			return 2 * number;
+		}
+
+		private static String join(String... parts) {
+			return String.join(",", parts);
+		}
+
+		private void run() {
+		}
+
+		private void fail() throws IOException {
+			throw new IOException("method");
+		}
+
+	}
+
+}
@@ -131,6 +131,21 @@ class ExtensionRegistryTests {
 		assertEquals(2, countExtensions(grandChild, MyExtensionApi.class));
 	}
 
+	@Test
+	void extensionsRegisteredInParentAfterLookupAreVisibleInChild() {
+		ExtensionRegistry parent = registry;
+		ExtensionRegistry child = createRegistryFrom(parent, singletonList(YourExtension.class));
+		assertEquals(1, countExtensions(child, MyExtensionApi.class));
+
+		parent.registerExtension(MyExtension.class);
+
+		List<MyExtensionApi> extensions = child.getExtensions(MyExtensionApi.class);
+		assertEquals(2, extensions.size());
+		assertEquals(MyExtension.class, extensions.get(0).getClass());
+		assertEquals(YourExtension.class, extensions.get(1).getClass());
+		assertEquals(extensions.get(1), child.getReversedExtensions(MyExtensionApi.class).get(0));
+	}
+
 	@Test
 	void canStreamOverRegisteredExtension() {
 		registry.registerExtension(MyExtension.class);
@@ -19,7 +19,9 @@ import java.lang.annotation.Inherited;
 import java.lang.annotation.Repeatable;
 import java.lang.reflect.AnnotatedElement;
 import java.lang.reflect.Field;
+import java.lang.reflect.Member;
 import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -27,8 +29,10 @@ import java.util.Collections;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
 
 import org.apiguardian.api.API;
@@ -95,15 +99,36 @@ public final class AnnotationUtils {
 			return Optional.empty();
 		}
 
-		boolean inherited = annotationType.isAnnotationPresent(Inherited.class);
-
-		return findAnnotation(element.get(), annotationType, inherited, new HashSet<>());
+		return findAnnotation(element.get(), annotationType);
 	}
 
 	/**
 	 * @see org.junit.platform.commons.support.AnnotationSupport#findAnnotation(AnnotatedElement, Class)
 	 */
 	public static <A extends Annotation> Optional<A> findAnnotation(AnnotatedElement element, Class<A> annotationType) {
+		Preconditions.notNull(annotationType, "annotationType must not be null");
+
+		if (element == null) {
+			return Optional.empty();
+		}
+
+		Optional<Map<Object, Object>> cache = AnnotationCache.forElement(AnnotationCache.annotations, element,
+			annotationType);
+		if (!cache.isPresent()) {
+			return findAnnotationUncached(element, annotationType);
+		}
+		Object key = AnnotationCache.key(element, annotationType);
+		Optional<?> annotation = (Optional<?>) cache.get().get(key);
+		if (annotation == null) {
+			annotation = findAnnotationUncached(element, annotationType);
+			cache.get().putIfAbsent(key, annotation);
+		}
+		return annotation.map(annotationType::cast);
+	}
+
+	private static <A extends Annotation> Optional<A> findAnnotationUncached(AnnotatedElement element,
+			Class<A> annotationType) {
+
 		boolean inherited = annotationType.isAnnotationPresent(Inherited.class);
 		return findAnnotation(element, annotationType, inherited, new HashSet<>());
 	}
@@ -193,6 +218,24 @@ public final class AnnotationUtils {
 			return Collections.emptyList();
 		}
 
+		Optional<Map<Object, Object>> cache = AnnotationCache.forElement(AnnotationCache.repeatableAnnotations, element,
+			annotationType);
+		if (!cache.isPresent()) {
+			return findRepeatableAnnotationsUncached(element, annotationType, containerType, inherited);
+		}
+		Object key = AnnotationCache.key(element, annotationType);
+		@SuppressWarnings("unchecked")
+		List<A> annotations = (List<A>) cache.get().get(key);
+		if (annotations == null) {
+			annotations = findRepeatableAnnotationsUncached(element, annotationType, containerType, inherited);
+			cache.get().putIfAbsent(key, annotations);
+		}
+		return annotations;
+	}
+
+	private static <A extends Annotation> List<A> findRepeatableAnnotationsUncached(AnnotatedElement element,
+			Class<A> annotationType, Class<? extends Annotation> containerType, boolean inherited) {
+
 		// We use a LinkedHashSet because the search algorithm may discover
 		// duplicates, but we need to maintain the original order.
 		Set<A> found = new LinkedHashSet<>(16);
@@ -336,4 +379,88 @@ public final class AnnotationUtils {
 		return (annotationType != null && annotationType.getName().startsWith("java.lang.annotation"));
 	}
 
+	/**
+	 * Caches of the results of {@link #findAnnotation(AnnotatedElement, Class)}
+	 * and {@link #findRepeatableAnnotations(AnnotatedElement, Class)},
+	 * including negative results, for the elements of a class, i.e. the class
+	 * itself and its fields, methods, constructors, and their parameters.
+	 *
+	 * <p>Each cache is associated with its class via a {@link ClassValue} so
+	 * that the cached annotations do not prevent the class from being
+	 * unloaded. Since the values of a {@code ClassValue} are strongly
+	 * reachable from their class, the caches and their keys only consist of
+	 * JDK types; otherwise, they would prevent JUnit's class loader from
+	 * being unloaded as long as the class is alive.
+	 *
+	 * @since 1.4
+	 */
+	private static class AnnotationCache {
+
+		static final ClassValue<Map<Object, Object>> annotations = new ConcurrentMapClassValue();
+
+		static final ClassValue<Map<Object, Object>> repeatableAnnotations = new ConcurrentMapClassValue();
+
+		/**
+		 * Get the cache for the supplied element unless the element is not
+		 * declared by a class or the supplied annotation type is not visible
+		 * to the class loader of that class, in which case caching results
+		 * for the annotation type could prevent it from being unloaded.
+		 */
+		static Optional<Map<Object, Object>> forElement(ClassValue<Map<Object, Object>> caches,
+				AnnotatedElement element, Class<? extends Annotation> annotationType) {
+
+			// @formatter:off
+			return getDeclaringClass(element)
+					.filter(declaringClass -> isVisible(annotationType, declaringClass))
+					.map(caches::get);
+			// @formatter:on
+		}
+
+		/**
+		 * Create the cache key for the supplied element and annotation type.
+		 */
+		static Object key(AnnotatedElement element, Class<? extends Annotation> annotationType) {
+			return asList(element, annotationType);
+		}
+
+		private static boolean isVisible(Class<?> type, Class<?> fromClass) {
+			ClassLoader typeClassLoader = type.getClassLoader();
+			if (typeClassLoader == null) {
+				return true;
+			}
+			ClassLoader classLoader = fromClass.getClassLoader();
+			while (classLoader != null) {
+				if (classLoader == typeClassLoader) {
+					return true;
+				}
+				classLoader = classLoader.getParent();
+			}
+			return false;
+		}
+
+		private static Optional<Class<?>> getDeclaringClass(AnnotatedElement element) {
+			if (element instanceof Class) {
+				return Optional.of((Class<?>) element);
+			}
+			if (element instanceof Member) {
+				return Optional.of(((Member) element).getDeclaringClass());
+			}
+			if (element instanceof Parameter) {
+				return Optional.of(((Parameter) element).getDeclaringExecutable().getDeclaringClass());
+			}
+			// Other elements, e.g. packages, are not cached
+			return Optional.empty();
+		}
+
+	}
+
+	private static class ConcurrentMapClassValue extends ClassValue<Map<Object, Object>> {
+
+		@Override
+		protected Map<Object, Object> computeValue(Class<?> type) {
+			return new ConcurrentHashMap<>();
+		}
+
+	}
+
 }
@@ -0,0 +1,252 @@
+/*
+ * Copyright 2015-2018 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.commons.util;
+
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static org.apiguardian.api.API.Status.INTERNAL;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apiguardian.api.API;
+import org.junit.platform.commons.logging.Logger;
+import org.junit.platform.commons.logging.LoggerFactory;
+
+/**
+ * Persistent index of the results of the class file predicate of a
+ * {@link ClassFilter} keyed by the location of each class file.
+ *
+ * <p>Each entry records the size and a fingerprint of the class file it was
+ * computed for: its last modification time or, for entries of archives, its
+ * CRC-32 checksum. Classpath scanning uses an entry instead of reading and
+ * parsing the class file as long as both match; otherwise, the entry is
+ * replaced.
+ *
+ * <p>The index is stored as a properties file in a local directory. Since
+ * the results depend on the class file predicate, each predicate has to use
+ * its own index {@linkplain #load(Path, String, String) name}, and the whole
+ * index is discarded if its version does not match.
+ *
+ * <h3>DISCLAIMER</h3>
+ *
+ * <p>These utilities are intended solely for usage within the JUnit framework
+ * itself. <strong>Any usage by external parties is not supported.</strong>
+ * Use at your own risk!
+ *
+ * @since 1.4
+ * @see ClassFilter#withClassFileIndex(ClassFileIndex)
+ */
+@API(status = INTERNAL, since = "1.4")
+public final class ClassFileIndex {
+
+	static final String VERSION_KEY = "version";
+
+	private static final Logger logger = LoggerFactory.getLogger(ClassFileIndex.class);
+
+	private final Path file;
+	private final String version;
+	private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+	private final Set<String> usedKeys = ConcurrentHashMap.newKeySet();
+	private volatile boolean modified;
+
+	/**
+	 * Load the index with the supplied name from the supplied directory.
+	 *
+	 * <p>If the index does not exist, cannot be read, or was written for a
+	 * different version, an empty index is returned.
+	 *
+	 * @param directory the directory to load the index from and save it to
+	 * @param name the name of the index; used as part of its file name
+	 * @param version the version of the class file predicate
+	 */
+	public static ClassFileIndex load(Path directory, String name, String version) {
+		Preconditions.notNull(directory, "directory must not be null");
+		Preconditions.notBlank(name, "name must not be null or blank");
+		Preconditions.notBlank(version, "version must not be null or blank");
+		ClassFileIndex index = new ClassFileIndex(directory.resolve(fileName(name)), version);
+		index.readEntries();
+		return index;
+	}
+
+	static String fileName(String name) {
+		return "junit-discovery-index-" + name + ".properties";
+	}
+
+	private ClassFileIndex(Path file, String version) {
+		this.file = file;
+		this.version = version;
+	}
+
+	private void readEntries() {
+		if (!Files.isRegularFile(this.file)) {
+			return;
+		}
+		Properties properties = new Properties();
+		try (InputStream inputStream = Files.newInputStream(this.file)) {
+			properties.load(inputStream);
+		}
+		catch (IOException ex) {
+			logger.warn(ex, () -> "Failed to read discovery index from " + this.file);
+			return;
+		}
+		if (!this.version.equals(properties.getProperty(VERSION_KEY))) {
+			logger.config(() -> "Ignoring discovery index written for a different version: " + this.file);
+			return;
+		}
+		for (String key : properties.stringPropertyNames()) {
+			if (!VERSION_KEY.equals(key)) {
+				Entry.parse(properties.getProperty(key)).ifPresent(entry -> this.entries.put(key, entry));
+			}
+		}
+	}
+
+	/**
+	 * Get the recorded result for the class file with the supplied key if
+	 * it was recorded for the supplied size and fingerprint.
+	 */
+	Optional<Boolean> getResult(String key, long size, long fingerprint) {
+		Entry entry = this.entries.get(key);
+		if (entry == null || entry.size != size || entry.fingerprint != fingerprint) {
+			return Optional.empty();
+		}
+		this.usedKeys.add(key);
+		return Optional.of(entry.result);
+	}
+
+	/**
+	 * Record the result for the class file with the supplied key, size, and
+	 * fingerprint.
+	 */
+	void putResult(String key, long size, long fingerprint, boolean result) {
+		this.entries.put(key, new Entry(size, fingerprint, result));
+		this.usedKeys.add(key);
+		this.modified = true;
+	}
+
+	/**
+	 * Write the index to its file if any result has been recorded since it
+	 * was loaded, creating the parent directories if necessary.
+	 *
+	 * <p>Entries that have been loaded but neither used nor recorded since
+	 * are retained, e.g. for class files that were not scanned because
+	 * discovery was limited to a single package, unless the class file or the
+	 * archive containing it no longer exists, so that entries for deleted
+	 * class files do not accumulate.
+	 *
+	 * <p>The file is replaced atomically if supported by the file system so
+	 * that concurrent test runs never read a partially written index.
+	 */
+	public void save() {
+		if (!this.modified) {
+			return;
+		}
+		Properties properties = new Properties();
+		this.entries.forEach((key, entry) -> {
+			if (this.usedKeys.contains(key) || classFileExists(key)) {
+				properties.setProperty(key, entry.toString());
+			}
+		});
+		properties.setProperty(VERSION_KEY, this.version);
+		try {
+			Files.createDirectories(this.file.getParent());
+			Path tempFile = Files.createTempFile(this.file.getParent(), this.file.getFileName().toString(), ".tmp");
+			try {
+				try (OutputStream outputStream = Files.newOutputStream(tempFile)) {
+					properties.store(outputStream, "Discovery index written by JUnit");
+				}
+				moveAtomically(tempFile, this.file);
+			}
+			finally {
+				Files.deleteIfExists(tempFile);
+			}
+			this.modified = false;
+		}
+		catch (IOException ex) {
+			logger.warn(ex, () -> "Failed to write discovery index to " + this.file);
+		}
+	}
+
+	/**
+	 * Determine if the class file with the supplied key, i.e. its URI, or the
+	 * archive containing it still exists.
+	 */
+	static boolean classFileExists(String key) {
+		String uri = key;
+		if (uri.startsWith(CloseablePath.JAR_URI_SCHEME + ':')) {
+			int separatorIndex = uri.indexOf(CloseablePath.JAR_URI_SEPARATOR);
+			uri = uri.substring(CloseablePath.JAR_URI_SCHEME.length() + 1,
+				separatorIndex != -1 ? separatorIndex : uri.length());
+		}
+		try {
+			return Files.exists(Paths.get(new URI(uri)));
+		}
+		catch (Exception ex) {
+			// e.g. an invalid URI or one of an unsupported file system
+			return false;
+		}
+	}
+
+	private static void moveAtomically(Path source, Path target) throws IOException {
+		try {
+			Files.move(source, target, ATOMIC_MOVE, REPLACE_EXISTING);
+		}
+		catch (AtomicMoveNotSupportedException ex) {
+			Files.move(source, target, REPLACE_EXISTING);
+		}
+	}
+
+	private static class Entry {
+
+		private final long size;
+		private final long fingerprint;
+		private final boolean result;
+
+		static Optional<Entry> parse(String value) {
+			String[] parts = value.split(":");
+			if (parts.length == 3) {
+				try {
+					return Optional.of(
+						new Entry(Long.parseLong(parts[0]), Long.parseLong(parts[1]), Boolean.parseBoolean(parts[2])));
+				}
+				catch (NumberFormatException ex) {
+					// fall through
+				}
+			}
+			logger.debug(() -> "Ignoring invalid discovery index entry: " + value);
+			return Optional.empty();
+		}
+
+		Entry(long size, long fingerprint, boolean result) {
+			this.size = size;
+			this.fingerprint = fingerprint;
+			this.result = result;
+		}
+
+		@Override
+		public String toString() {
+			return this.size + ":" + this.fingerprint + ":" + this.result;
+		}
+
+	}
+
+}
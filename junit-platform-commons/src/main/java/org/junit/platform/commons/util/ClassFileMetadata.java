@@ -0,0 +1,384 @@
+/*
+ * Copyright 2015-2018 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.commons.util;
+
+import static java.util.Collections.unmodifiableList;
+import static java.util.Collections.unmodifiableSet;
+import static org.apiguardian.api.API.Status.INTERNAL;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.apiguardian.api.API;
+
+/**
+ * Metadata of a class read from its class file without loading the class.
+ *
+ * <p>Used by classpath scanning to decide whether a class is a candidate
+ * before loading it; see {@link ClassFilter#match(ClassFileMetadata)}.
+ *
+ * <h3>DISCLAIMER</h3>
+ *
+ * <p>These utilities are intended solely for usage within the JUnit framework
+ * itself. <strong>Any usage by external parties is not supported.</strong>
+ * Use at your own risk!
+ *
+ * @since 1.4
+ */
+@API(status = INTERNAL, since = "1.4")
+public final class ClassFileMetadata {
+
+	private static final int MAGIC = 0xCAFEBABE;
+
+	private static final String RUNTIME_VISIBLE_ANNOTATIONS = "RuntimeVisibleAnnotations";
+	private static final String INNER_CLASSES = "InnerClasses";
+
+	private final int accessFlags;
+	private final String className;
+	private final String superclassName;
+	private final List<String> interfaceNames;
+	private final Set<String> classAnnotationNames;
+	private final Set<String> methodNames;
+	private final Set<String> methodAnnotationNames;
+	private final Set<String> memberClassNames;
+
+	private ClassFileMetadata(int accessFlags, String className, String superclassName, List<String> interfaceNames,
+			Set<String> classAnnotationNames, Set<String> methodNames, Set<String> methodAnnotationNames,
+			Set<String> memberClassNames) {
+		this.accessFlags = accessFlags;
+		this.className = className;
+		this.superclassName = superclassName;
+		this.interfaceNames = unmodifiableList(interfaceNames);
+		this.classAnnotationNames = unmodifiableSet(classAnnotationNames);
+		this.methodNames = unmodifiableSet(methodNames);
+		this.methodAnnotationNames = unmodifiableSet(methodAnnotationNames);
+		this.memberClassNames = unmodifiableSet(memberClassNames);
+	}
+
+	/**
+	 * Get the fully qualified name of the class.
+	 */
+	public String getClassName() {
+		return this.className;
+	}
+
+	/**
+	 * Determine if the class is public.
+	 */
+	public boolean isPublic() {
+		return Modifier.isPublic(this.accessFlags);
+	}
+
+	/**
+	 * Determine if the class is abstract; interfaces and annotations are
+	 * always abstract.
+	 */
+	public boolean isAbstract() {
+		return Modifier.isAbstract(this.accessFlags);
+	}
+
+	/**
+	 * Get the fully qualified name of the superclass, or an empty
+	 * {@code Optional} for {@code java.lang.Object} and {@code module-info}.
+	 */
+	public Optional<String> getSuperclassName() {
+		return Optional.ofNullable(this.superclassName);
+	}
+
+	/**
+	 * Determine if the class extends a class other than {@code java.lang.Object}.
+	 */
+	public boolean hasSuperclassOtherThanObject() {
+		return this.superclassName != null && !Object.class.getName().equals(this.superclassName);
+	}
+
+	/**
+	 * Get the fully qualified names of the interfaces directly implemented
+	 * by the class.
+	 */
+	public List<String> getInterfaceNames() {
+		return this.interfaceNames;
+	}
+
+	/**
+	 * Get the fully qualified names of the runtime-visible annotations
+	 * declared directly on the class.
+	 */
+	public Set<String> getClassAnnotationNames() {
+		return this.classAnnotationNames;
+	}
+
+	/**
+	 * Get the names of the methods and constructors declared by the class.
+	 */
+	public Set<String> getMethodNames() {
+		return this.methodNames;
+	}
+
+	/**
+	 * Get the fully qualified names of the runtime-visible annotations
+	 * declared directly on any method or constructor of the class.
+	 */
+	public Set<String> getMethodAnnotationNames() {
+		return this.methodAnnotationNames;
+	}
+
+	/**
+	 * Get the fully qualified names of the member classes declared by the
+	 * class.
+	 */
+	public Set<String> getMemberClassNames() {
+		return this.memberClassNames;
+	}
+
+	@Override
+	public String toString() {
+		return this.className;
+	}
+
+	/**
+	 * Read the metadata from the supplied class file input stream.
+	 *
+	 * <p>The stream is not closed by this method.
+	 *
+	 * @throws IOException if the stream cannot be read or does not contain
+	 * a valid class file
+	 */
+	public static ClassFileMetadata read(InputStream inputStream) throws IOException {
+		return new Reader(new DataInputStream(inputStream)).read();
+	}
+
+	/**
+	 * Reads the parts of the class file format relevant for
+	 * {@link ClassFileMetadata} and skips everything else.
+	 *
+	 * @see <a href="https://docs.oracle.com/javase/specs/jvms/se8/html/jvms-4.html">JVMS Chapter 4</a>
+	 */
+	private static class Reader {
+
+		private final DataInputStream in;
+		private String[] utf8Constants;
+		private int[] classConstants;
+
+		Reader(DataInputStream in) {
+			this.in = in;
+		}
+
+		ClassFileMetadata read() throws IOException {
+			if (in.readInt() != MAGIC) {
+				throw new IOException("Not a class file");
+			}
+			in.readUnsignedShort(); // minor version
+			in.readUnsignedShort(); // major version
+			readConstantPool();
+
+			int accessFlags = in.readUnsignedShort();
+			int thisClassIndex = in.readUnsignedShort();
+			String className = className(thisClassIndex);
+			int superclassIndex = in.readUnsignedShort();
+			String superclassName = superclassIndex == 0 ? null : className(superclassIndex);
+			int interfacesCount = in.readUnsignedShort();
+			List<String> interfaceNames = new ArrayList<>(interfacesCount);
+			for (int i = 0; i < interfacesCount; i++) {
+				interfaceNames.add(className(in.readUnsignedShort()));
+			}
+
+			int fieldsCount = in.readUnsignedShort();
+			for (int i = 0; i < fieldsCount; i++) {
+				in.readUnsignedShort(); // access flags
+				in.readUnsignedShort(); // name
+				in.readUnsignedShort(); // descriptor
+				skipAttributes();
+			}
+
+			Set<String> methodNames = new LinkedHashSet<>();
+			Set<String> methodAnnotationNames = new LinkedHashSet<>();
+			int methodsCount = in.readUnsignedShort();
+			for (int i = 0; i < methodsCount; i++) {
+				in.readUnsignedShort(); // access flags
+				methodNames.add(utf8(in.readUnsignedShort()));
+				in.readUnsignedShort(); // descriptor
+				readAttributes(methodAnnotationNames, null, -1);
+			}
+
+			Set<String> classAnnotationNames = new LinkedHashSet<>();
+			Set<String> memberClassNames = new LinkedHashSet<>();
+			readAttributes(classAnnotationNames, memberClassNames, thisClassIndex);
+
+			return new ClassFileMetadata(accessFlags, className, superclassName, interfaceNames,
+				classAnnotationNames, methodNames, methodAnnotationNames, memberClassNames);
+		}
+
+		private void readConstantPool() throws IOException {
+			int count = in.readUnsignedShort();
+			utf8Constants = new String[count];
+			classConstants = new int[count];
+			for (int i = 1; i < count; i++) {
+				int tag = in.readUnsignedByte();
+				switch (tag) {
+					case 1: // Utf8
+						utf8Constants[i] = in.readUTF();
+						break;
+					case 7: // Class
+						classConstants[i] = in.readUnsignedShort();
+						break;
+					case 8: // String
+					case 16: // MethodType
+					case 19: // Module
+					case 20: // Package
+						skip(2);
+						break;
+					case 15: // MethodHandle
+						skip(3);
+						break;
+					case 3: // Integer
+					case 4: // Float
+					case 9: // Fieldref
+					case 10: // Methodref
+					case 11: // InterfaceMethodref
+					case 12: // NameAndType
+					case 17: // Dynamic
+					case 18: // InvokeDynamic
+						skip(4);
+						break;
+					case 5: // Long
+					case 6: // Double
+						skip(8);
+						i++; // takes up two entries
+						break;
+					default:
+						throw new IOException("Invalid constant pool tag " + tag + " at index " + i);
+				}
+			}
+		}
+
+		private void readAttributes(Set<String> annotationNames, Set<String> memberClassNames, int thisClassIndex)
+				throws IOException {
+			int attributesCount = in.readUnsignedShort();
+			for (int i = 0; i < attributesCount; i++) {
+				String name = utf8(in.readUnsignedShort());
+				int length = in.readInt();
+				if (RUNTIME_VISIBLE_ANNOTATIONS.equals(name)) {
+					int annotationsCount = in.readUnsignedShort();
+					for (int j = 0; j < annotationsCount; j++) {
+						annotationNames.add(readAnnotation());
+					}
+				}
+				else if (INNER_CLASSES.equals(name) && memberClassNames != null) {
+					int classesCount = in.readUnsignedShort();
+					for (int j = 0; j < classesCount; j++) {
+						int innerClassIndex = in.readUnsignedShort();
+						int outerClassIndex = in.readUnsignedShort();
+						in.readUnsignedShort(); // inner name
+						in.readUnsignedShort(); // inner class access flags
+						if (outerClassIndex == thisClassIndex) {
+							memberClassNames.add(className(innerClassIndex));
+						}
+					}
+				}
+				else {
+					skip(length);
+				}
+			}
+		}
+
+		private void skipAttributes() throws IOException {
+			int attributesCount = in.readUnsignedShort();
+			for (int i = 0; i < attributesCount; i++) {
+				in.readUnsignedShort(); // name
+				skip(in.readInt());
+			}
+		}
+
+		/**
+		 * Read an annotation and return the fully qualified name of its type.
+		 */
+		private String readAnnotation() throws IOException {
+			String descriptor = utf8(in.readUnsignedShort());
+			int elementValuePairsCount = in.readUnsignedShort();
+			for (int i = 0; i < elementValuePairsCount; i++) {
+				in.readUnsignedShort(); // element name
+				skipElementValue();
+			}
+			if (descriptor.length() < 3 || descriptor.charAt(0) != 'L' || !descriptor.endsWith(";")) {
+				throw new IOException("Invalid annotation type descriptor: " + descriptor);
+			}
+			return descriptor.substring(1, descriptor.length() - 1).replace('/', '.');
+		}
+
+		private void skipElementValue() throws IOException {
+			int tag = in.readUnsignedByte();
+			switch (tag) {
+				case 'B':
+				case 'C':
+				case 'D':
+				case 'F':
+				case 'I':
+				case 'J':
+				case 'S':
+				case 'Z':
+				case 's':
+				case 'c':
+					skip(2);
+					break;
+				case 'e':
+					skip(4);
+					break;
+				case '@':
+					readAnnotation();
+					break;
+				case '[':
+					int valuesCount = in.readUnsignedShort();
+					for (int i = 0; i < valuesCount; i++) {
+						skipElementValue();
+					}
+					break;
+				default:
+					throw new IOException("Invalid element value tag " + tag);
+			}
+		}
+
+		private String className(int classIndex) throws IOException {
+			if (classIndex <= 0 || classIndex >= classConstants.length || classConstants[classIndex] == 0) {
+				throw new IOException("Invalid class constant index " + classIndex);
+			}
+			return utf8(classConstants[classIndex]).replace('/', '.');
+		}
+
+		private String utf8(int index) throws IOException {
+			if (index <= 0 || index >= utf8Constants.length || utf8Constants[index] == null) {
+				throw new IOException("Invalid UTF-8 constant index " + index);
+			}
+			return utf8Constants[index];
+		}
+
+		private void skip(int length) throws IOException {
+			int remaining = length;
+			while (remaining > 0) {
+				int skipped = in.skipBytes(remaining);
+				if (skipped <= 0) {
+					in.readByte(); // throws EOFException at the end of the stream
+					skipped = 1;
+				}
+				remaining -= skipped;
+			}
+		}
+
+	}
+
+}
@@ -30,8 +30,8 @@ class ClassFileVisitor extends SimpleFileVisitor<Path> {
 	private static final Logger logger = LoggerFactory.getLogger(ClassFileVisitor.class);
 
 	static final String CLASS_FILE_SUFFIX = ".class";
-	private static final String PACKAGE_INFO_FILE_NAME = "package-info" + CLASS_FILE_SUFFIX;
-	private static final String MODULE_INFO_FILE_NAME = "module-info" + CLASS_FILE_SUFFIX;
+	static final String PACKAGE_INFO_FILE_NAME = "package-info" + CLASS_FILE_SUFFIX;
+	static final String MODULE_INFO_FILE_NAME = "module-info" + CLASS_FILE_SUFFIX;
 
 	private final Consumer<Path> classFileConsumer;
 
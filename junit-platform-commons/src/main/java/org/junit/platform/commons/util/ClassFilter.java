@@ -12,6 +12,7 @@ package org.junit.platform.commons.util;
 
 import static org.apiguardian.api.API.Status.INTERNAL;
 
+import java.util.Optional;
 import java.util.function.Predicate;
 
 import org.apiguardian.api.API;
@@ -41,17 +42,56 @@ public class ClassFilter implements Predicate<Class<?>> {
 	 * Create a {@link ClassFilter} instance that filters by names and classes.
 	 */
 	public static ClassFilter of(Predicate<String> namePredicate, Predicate<Class<?>> classPredicate) {
-		return new ClassFilter(namePredicate, classPredicate);
+		return new ClassFilter(namePredicate, null, null, classPredicate);
+	}
+
+	/**
+	 * Create a {@link ClassFilter} instance that filters by names, class file
+	 * metadata, and classes.
+	 *
+	 * <p>The class file predicate is applied by classpath scanning before a
+	 * class is loaded in order to avoid loading classes that cannot match the
+	 * class predicate. It must therefore accept every class file whose class
+	 * might be accepted by the class predicate.
+	 *
+	 * @since 1.4
+	 */
+	public static ClassFilter of(Predicate<String> namePredicate, Predicate<ClassFileMetadata> classFilePredicate,
+			Predicate<Class<?>> classPredicate) {
+		Preconditions.notNull(classFilePredicate, "class file predicate must not be null");
+		return new ClassFilter(namePredicate, classFilePredicate, null, classPredicate);
 	}
 
 	private final Predicate<String> namePredicate;
+	private final Predicate<ClassFileMetadata> classFilePredicate;
+	private final ClassFileIndex classFileIndex;
 	private final Predicate<Class<?>> classPredicate;
 
-	private ClassFilter(Predicate<String> namePredicate, Predicate<Class<?>> classPredicate) {
+	private ClassFilter(Predicate<String> namePredicate, Predicate<ClassFileMetadata> classFilePredicate,
+			ClassFileIndex classFileIndex, Predicate<Class<?>> classPredicate) {
 		this.namePredicate = Preconditions.notNull(namePredicate, "name predicate must not be null");
+		this.classFilePredicate = classFilePredicate;
+		this.classFileIndex = classFileIndex;
 		this.classPredicate = Preconditions.notNull(classPredicate, "class predicate must not be null");
 	}
 
+	/**
+	 * Create a copy of this {@link ClassFilter} that records the results of
+	 * its class file predicate in the supplied {@link ClassFileIndex} and
+	 * reuses results recorded for unchanged class files.
+	 *
+	 * @since 1.4
+	 */
+	public ClassFilter withClassFileIndex(ClassFileIndex classFileIndex) {
+		Preconditions.notNull(classFileIndex, "class file index must not be null");
+		Preconditions.condition(hasClassFilePredicate(), "class file index requires a class file predicate");
+		return new ClassFilter(namePredicate, classFilePredicate, classFileIndex, classPredicate);
+	}
+
+	Optional<ClassFileIndex> getClassFileIndex() {
+		return Optional.ofNullable(classFileIndex);
+	}
+
 	/**
 	 * Test name using the stored name predicate.
 	 */
@@ -59,6 +99,25 @@ public class ClassFilter implements Predicate<Class<?>> {
 		return namePredicate.test(name);
 	}
 
+	/**
+	 * Determine if this filter has a class file predicate that should be
+	 * applied to the {@link ClassFileMetadata} of a class before loading it.
+	 *
+	 * @since 1.4
+	 */
+	public boolean hasClassFilePredicate() {
+		return classFilePredicate != null;
+	}
+
+	/**
+	 * Test class file metadata using the stored class file predicate, if any.
+	 *
+	 * @since 1.4
+	 */
+	public boolean match(ClassFileMetadata classFileMetadata) {
+		return classFilePredicate == null || classFilePredicate.test(classFileMetadata);
+	}
+
 	/**
 	 * Test class using the stored class predicate.
 	 */
@@ -69,7 +128,8 @@ public class ClassFilter implements Predicate<Class<?>> {
 	/**
 	 * @implNote This implementation combines all tests stored in the predicates
 	 * of this instance. Any new predicate must be added to this test method as
-	 * well.
+	 * well. The class file predicate is not applied since it only serves as a
+	 * pre-filter for classpath scanning.
 	 */
 	@Override
 	public boolean test(Class<?> type) {
@@ -12,25 +12,43 @@ package org.junit.platform.commons.util;
 
 import static java.lang.String.format;
 import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
 import static java.util.stream.Collectors.joining;
 import static java.util.stream.Collectors.toList;
 import static org.junit.platform.commons.util.BlacklistedExceptions.rethrowIfBlacklisted;
 import static org.junit.platform.commons.util.ClassFileVisitor.CLASS_FILE_SUFFIX;
-
+import static org.junit.platform.commons.util.ClassFileVisitor.MODULE_INFO_FILE_NAME;
+import static org.junit.platform.commons.util.ClassFileVisitor.PACKAGE_INFO_FILE_NAME;
+import static org.junit.platform.commons.util.CloseablePath.FILE_URI_SCHEME;
+import static org.junit.platform.commons.util.CloseablePath.JAR_FILE_EXTENSION;
+import static org.junit.platform.commons.util.CloseablePath.JAR_URI_SCHEME;
+import static org.junit.platform.commons.util.CloseablePath.JAR_URI_SEPARATOR;
+
+import java.io.BufferedInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
+import java.net.URISyntaxException;
 import java.net.URL;
+import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
+import java.nio.file.LinkOption;
 import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Enumeration;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
 import java.util.function.BiFunction;
-import java.util.function.Consumer;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
 
 import org.junit.platform.commons.logging.Logger;
 import org.junit.platform.commons.logging.LoggerFactory;
@@ -48,9 +66,21 @@ class ClasspathScanner {
 
 	private static final Logger logger = LoggerFactory.getLogger(ClasspathScanner.class);
 
+	/**
+	 * Name of the JVM system property used to set the number of threads used
+	 * to scan the classpath: {@value}
+	 *
+	 * <p>Value must be a positive integer; defaults to {@code 1} which means
+	 * that the classpath is scanned sequentially in the calling thread.
+	 *
+	 * @since 1.4
+	 */
+	static final String PARALLELISM_PROPERTY_NAME = "junit.platform.classpath.scanning.parallelism";
+
 	private static final char CLASSPATH_RESOURCE_PATH_SEPARATOR = '/';
 	private static final char PACKAGE_SEPARATOR_CHAR = '.';
 	private static final String PACKAGE_SEPARATOR_STRING = String.valueOf(PACKAGE_SEPARATOR_CHAR);
+	private static final String ZIP_FILE_ATTRIBUTE_VIEW = "zip";
 
 	/**
 	 * Malformed class name InternalError like reported in #401.
@@ -61,11 +91,52 @@ class ClasspathScanner {
 
 	private final BiFunction<String, ClassLoader, Optional<Class<?>>> loadClass;
 
+	private final int parallelism;
+
 	ClasspathScanner(Supplier<ClassLoader> classLoaderSupplier,
 			BiFunction<String, ClassLoader, Optional<Class<?>>> loadClass) {
 
+		this(classLoaderSupplier, loadClass, 1);
+	}
+
+	/**
+	 * @param parallelism the number of threads used to walk directories and
+	 * to load and filter classes; {@code 1} to scan sequentially in the
+	 * calling thread
+	 * @since 1.4
+	 */
+	ClasspathScanner(Supplier<ClassLoader> classLoaderSupplier,
+			BiFunction<String, ClassLoader, Optional<Class<?>>> loadClass, int parallelism) {
+
+		Preconditions.condition(parallelism > 0, "parallelism must be greater than 0");
 		this.classLoaderSupplier = classLoaderSupplier;
 		this.loadClass = loadClass;
+		this.parallelism = parallelism;
+	}
+
+	/**
+	 * Determine the parallelism configured via the
+	 * {@value #PARALLELISM_PROPERTY_NAME} JVM system property.
+	 *
+	 * @since 1.4
+	 */
+	static int getConfiguredParallelism() {
+		String value = System.getProperty(PARALLELISM_PROPERTY_NAME);
+		if (value == null) {
+			return 1;
+		}
+		try {
+			int parallelism = Integer.parseInt(value.trim());
+			if (parallelism > 0) {
+				return parallelism;
+			}
+		}
+		catch (NumberFormatException ex) {
+			// fall through
+		}
+		logger.warn(() -> format("Invalid value '%s' for system property '%s'; scanning the classpath sequentially",
+			value, PARALLELISM_PROPERTY_NAME));
+		return 1;
 	}
 
 	List<Class<?>> scanForClassesInPackage(String basePackageName, ClassFilter classFilter) {
@@ -81,26 +152,72 @@ class ClasspathScanner {
 		Preconditions.notNull(root, "root must not be null");
 		Preconditions.notNull(classFilter, "classFilter must not be null");
 
-		return findClassesForUri(root, PackageUtils.DEFAULT_PACKAGE_NAME, classFilter);
+		return findClassesForUris(singletonList(root), PackageUtils.DEFAULT_PACKAGE_NAME, classFilter);
 	}
 
 	/**
 	 * Recursively scan for classes in all of the supplied source directories.
 	 */
 	private List<Class<?>> findClassesForUris(List<URI> baseUris, String basePackageName, ClassFilter classFilter) {
+		// Determine the class loader in the calling thread since it may depend
+		// on the thread's context class loader.
+		ClassLoader classLoader = getClassLoader();
+		if (this.parallelism > 1) {
+			return findClassesForUrisInParallel(baseUris, basePackageName, classFilter, classLoader);
+		}
 		// @formatter:off
 		return baseUris.stream()
-				.map(baseUri -> findClassesForUri(baseUri, basePackageName, classFilter))
+				.map(baseUri -> findClassesForUri(baseUri, basePackageName, classFilter, classLoader))
 				.flatMap(Collection::stream)
 				.distinct()
 				.collect(toList());
 		// @formatter:on
 	}
 
-	private List<Class<?>> findClassesForUri(URI baseUri, String basePackageName, ClassFilter classFilter) {
+	/**
+	 * Scan all of the supplied source directories and their subdirectories
+	 * concurrently while preserving the order in which the classes would have
+	 * been found by a sequential scan.
+	 */
+	private List<Class<?>> findClassesForUrisInParallel(List<URI> baseUris, String basePackageName,
+			ClassFilter classFilter, ClassLoader classLoader) {
+
+		ForkJoinPool forkJoinPool = new ForkJoinPool(this.parallelism);
+		try {
+			List<ForkJoinTask<List<Class<?>>>> tasks = new ArrayList<>(baseUris.size());
+			for (URI baseUri : baseUris) {
+				tasks.add(
+					forkJoinPool.submit(() -> findClassesForUri(baseUri, basePackageName, classFilter, classLoader)));
+			}
+			// @formatter:off
+			return tasks.stream()
+					.map(ForkJoinTask::join)
+					.flatMap(Collection::stream)
+					.distinct()
+					.collect(toList());
+			// @formatter:on
+		}
+		finally {
+			forkJoinPool.shutdownNow();
+		}
+	}
+
+	private List<Class<?>> findClassesForUri(URI baseUri, String basePackageName, ClassFilter classFilter,
+			ClassLoader classLoader) {
+
+		try {
+			Optional<JarFileRoot> jarFileRoot = JarFileRoot.from(baseUri);
+			if (jarFileRoot.isPresent()) {
+				return findClassesInJarFile(jarFileRoot.get(), classFilter, classLoader);
+			}
+		}
+		catch (Exception ex) {
+			logger.warn(ex, () -> "Error scanning files for URI " + baseUri);
+			return emptyList();
+		}
 		try (CloseablePath closeablePath = CloseablePath.create(baseUri)) {
 			Path baseDir = closeablePath.getPath();
-			return findClassesForPath(baseDir, basePackageName, classFilter);
+			return findClassesForPath(baseDir, basePackageName, classFilter, classLoader);
 		}
 		catch (PreconditionViolationException ex) {
 			throw ex;
@@ -111,12 +228,54 @@ class ClasspathScanner {
 		}
 	}
 
-	private List<Class<?>> findClassesForPath(Path baseDir, String basePackageName, ClassFilter classFilter) {
+	/**
+	 * Scan the entries of a JAR file by reading its central directory instead
+	 * of mounting it as a {@link java.nio.file.FileSystem}, which avoids
+	 * creating a {@link Path} for each directory and file in the archive.
+	 *
+	 * <p>If the scanner is parallel, this method is called by a worker of its
+	 * {@link ForkJoinPool} so that the class files are processed by the same
+	 * pool.
+	 */
+	private List<Class<?>> findClassesInJarFile(JarFileRoot jarFileRoot, ClassFilter classFilter,
+			ClassLoader classLoader) throws IOException {
+
+		try (ZipFile zipFile = new ZipFile(jarFileRoot.jarFile.toFile())) {
+			// @formatter:off
+			List<ZipEntry> entries = zipFile.stream()
+					.filter(entry -> isClassFileEntry(entry, jarFileRoot.entryPrefix))
+					.collect(toList());
+			return (this.parallelism > 1 ? entries.parallelStream() : entries.stream())
+					.map(entry -> new JarEntryClassFile(jarFileRoot.jarFile, zipFile, entry))
+					.map(classFile -> processClassFileSafely(classFile, classFilter, classLoader))
+					.filter(Optional::isPresent)
+					.map(Optional::get)
+					.collect(toList());
+			// @formatter:on
+		}
+	}
+
+	private static boolean isClassFileEntry(ZipEntry entry, String entryPrefix) {
+		String name = entry.getName();
+		if (entry.isDirectory() || !name.startsWith(entryPrefix) || !name.endsWith(CLASS_FILE_SUFFIX)) {
+			return false;
+		}
+		String fileName = name.substring(name.lastIndexOf(CLASSPATH_RESOURCE_PATH_SEPARATOR) + 1);
+		return !fileName.equals(PACKAGE_INFO_FILE_NAME) && !fileName.equals(MODULE_INFO_FILE_NAME);
+	}
+
+	private List<Class<?>> findClassesForPath(Path baseDir, String basePackageName, ClassFilter classFilter,
+			ClassLoader classLoader) {
+
 		Preconditions.condition(Files.exists(baseDir), () -> "baseDir must exist: " + baseDir);
+		if (this.parallelism > 1) {
+			return new ClassFileScanTask(baseDir, baseDir, basePackageName, classFilter, classLoader).invoke();
+		}
 		List<Class<?>> classes = new ArrayList<>();
 		try {
-			Files.walkFileTree(baseDir, new ClassFileVisitor(
-				classFile -> processClassFileSafely(baseDir, basePackageName, classFilter, classFile, classes::add)));
+			Files.walkFileTree(baseDir, new ClassFileVisitor(classFile -> processClassFileSafely(
+				new PathClassFile(baseDir, basePackageName, classFile), classFilter, classLoader).ifPresent(
+					classes::add)));
 		}
 		catch (IOException ex) {
 			logger.warn(ex, () -> "I/O error scanning files in " + baseDir);
@@ -124,16 +283,15 @@ class ClasspathScanner {
 		return classes;
 	}
 
-	private void processClassFileSafely(Path baseDir, String basePackageName, ClassFilter classFilter, Path classFile,
-			Consumer<Class<?>> classConsumer) {
+	private Optional<Class<?>> processClassFileSafely(ClassFile classFile, ClassFilter classFilter,
+			ClassLoader classLoader) {
 		try {
-			String fullyQualifiedClassName = determineFullyQualifiedClassName(baseDir, basePackageName, classFile);
-			if (classFilter.match(fullyQualifiedClassName)) {
+			String fullyQualifiedClassName = classFile.getClassName();
+			if (classFilter.match(fullyQualifiedClassName) && matchesClassFile(classFilter, classFile)) {
 				try {
 					// @formatter:off
-					loadClass.apply(fullyQualifiedClassName, getClassLoader())
-							.filter(classFilter) // Always use ".filter(classFilter)" to include future predicates.
-							.ifPresent(classConsumer);
+					return loadClass.apply(fullyQualifiedClassName, classLoader)
+							.filter(classFilter); // Always use ".filter(classFilter)" to include future predicates.
 					// @formatter:on
 				}
 				catch (InternalError internalError) {
@@ -144,6 +302,67 @@ class ClasspathScanner {
 		catch (Throwable throwable) {
 			handleThrowable(classFile, throwable);
 		}
+		return Optional.empty();
+	}
+
+	/**
+	 * Apply the class file predicate of the supplied {@link ClassFilter}, if
+	 * any, to the metadata read from the class file in order to avoid loading
+	 * classes that cannot match the filter.
+	 *
+	 * <p>If the filter has a {@link ClassFileIndex}, the result recorded for
+	 * an unchanged class file is used instead of reading it again.
+	 */
+	private boolean matchesClassFile(ClassFilter classFilter, ClassFile classFile) {
+		if (!classFilter.hasClassFilePredicate()) {
+			return true;
+		}
+		Optional<ClassFileIndex> classFileIndex = classFilter.getClassFileIndex();
+		if (!classFileIndex.isPresent()) {
+			return readAndMatchClassFile(classFilter, classFile);
+		}
+		long size;
+		long fingerprint;
+		try {
+			size = classFile.getSize();
+			fingerprint = classFile.getFingerprint();
+		}
+		catch (IOException ex) {
+			return readAndMatchClassFile(classFilter, classFile);
+		}
+		String key = classFile.getUri();
+		Optional<Boolean> recordedResult = classFileIndex.get().getResult(key, size, fingerprint);
+		if (recordedResult.isPresent()) {
+			return recordedResult.get();
+		}
+		boolean result = readAndMatchClassFile(classFilter, classFile);
+		classFileIndex.get().putResult(key, size, fingerprint, result);
+		return result;
+	}
+
+	/**
+	 * Use the CRC-32 checksum of entries of archives since their modification
+	 * times are often fixed for reproducible builds.
+	 */
+	private long determineFingerprint(Path classFile, BasicFileAttributes attributes) throws IOException {
+		if (classFile.getFileSystem().supportedFileAttributeViews().contains(ZIP_FILE_ATTRIBUTE_VIEW)) {
+			Object crc = Files.getAttribute(classFile, ZIP_FILE_ATTRIBUTE_VIEW + ":crc");
+			if (crc instanceof Long) {
+				return (Long) crc;
+			}
+		}
+		return attributes.lastModifiedTime().toMillis();
+	}
+
+	private boolean readAndMatchClassFile(ClassFilter classFilter, ClassFile classFile) {
+		try (InputStream inputStream = new BufferedInputStream(classFile.newInputStream())) {
+			return classFilter.match(ClassFileMetadata.read(inputStream));
+		}
+		catch (IOException ex) {
+			// Let the class predicate decide instead
+			logger.debug(ex, () -> format("Failed to read class file [%s] during classpath scanning.", classFile));
+			return true;
+		}
 	}
 
 	private String determineFullyQualifiedClassName(Path baseDir, String basePackageName, Path classFile) {
@@ -174,7 +393,7 @@ class ClasspathScanner {
 		return subpackageName;
 	}
 
-	private void handleInternalError(Path classFile, String fullyQualifiedClassName, InternalError ex) {
+	private void handleInternalError(ClassFile classFile, String fullyQualifiedClassName, InternalError ex) {
 		if (MALFORMED_CLASS_NAME_ERROR_MESSAGE.equals(ex.getMessage())) {
 			logMalformedClassName(classFile, fullyQualifiedClassName, ex);
 		}
@@ -183,15 +402,15 @@ class ClasspathScanner {
 		}
 	}
 
-	private void handleThrowable(Path classFile, Throwable throwable) {
+	private void handleThrowable(ClassFile classFile, Throwable throwable) {
 		rethrowIfBlacklisted(throwable);
 		logGenericFileProcessingException(classFile, throwable);
 	}
 
-	private void logMalformedClassName(Path classFile, String fullyQualifiedClassName, InternalError ex) {
+	private void logMalformedClassName(ClassFile classFile, String fullyQualifiedClassName, InternalError ex) {
 		try {
 			logger.debug(ex, () -> format("The java.lang.Class loaded from path [%s] has a malformed class name [%s].",
-				classFile.toAbsolutePath(), fullyQualifiedClassName));
+				classFile, fullyQualifiedClassName));
 		}
 		catch (Throwable t) {
 			ex.addSuppressed(t);
@@ -199,9 +418,9 @@ class ClasspathScanner {
 		}
 	}
 
-	private void logGenericFileProcessingException(Path classFile, Throwable throwable) {
-		logger.debug(throwable, () -> format("Failed to load java.lang.Class for path [%s] during classpath scanning.",
-			classFile.toAbsolutePath()));
+	private void logGenericFileProcessingException(ClassFile classFile, Throwable throwable) {
+		logger.debug(throwable,
+			() -> format("Failed to load java.lang.Class for path [%s] during classpath scanning.", classFile));
 	}
 
 	private ClassLoader getClassLoader() {
@@ -228,4 +447,245 @@ class ClasspathScanner {
 		}
 	}
 
+	/**
+	 * Scans a file or directory below a source directory in a
+	 * {@link ForkJoinPool} and returns the classes found in the same order as
+	 * {@link Files#walkFileTree} would visit them. Subdirectories and class
+	 * files are processed by separate tasks so that both walking directories
+	 * and loading classes happen concurrently.
+	 */
+	private class ClassFileScanTask extends RecursiveTask<List<Class<?>>> {
+
+		private static final long serialVersionUID = 1L;
+
+		private final Path baseDir;
+		private final Path path;
+		private final String basePackageName;
+		private final ClassFilter classFilter;
+		private final ClassLoader classLoader;
+
+		ClassFileScanTask(Path baseDir, Path path, String basePackageName, ClassFilter classFilter,
+				ClassLoader classLoader) {
+			this.baseDir = baseDir;
+			this.path = path;
+			this.basePackageName = basePackageName;
+			this.classFilter = classFilter;
+			this.classLoader = classLoader;
+		}
+
+		@Override
+		protected List<Class<?>> compute() {
+			List<Class<?>> classes = new ArrayList<>();
+			ClassFileVisitor visitor = new ClassFileVisitor(classFile -> processClassFileSafely(
+				new PathClassFile(this.baseDir, this.basePackageName, classFile), this.classFilter,
+				this.classLoader).ifPresent(classes::add));
+			BasicFileAttributes attributes;
+			try {
+				// Like Files.walkFileTree(), do not follow symbolic links
+				attributes = Files.readAttributes(this.path, BasicFileAttributes.class, LinkOption.NOFOLLOW_LINKS);
+			}
+			catch (IOException ex) {
+				visitor.visitFileFailed(this.path, ex);
+				return classes;
+			}
+			if (!attributes.isDirectory()) {
+				visitor.visitFile(this.path, attributes);
+				return classes;
+			}
+			List<ClassFileScanTask> subtasks = new ArrayList<>();
+			try (DirectoryStream<Path> directoryStream = Files.newDirectoryStream(this.path)) {
+				for (Path child : directoryStream) {
+					ClassFileScanTask subtask = new ClassFileScanTask(this.baseDir, child, this.basePackageName,
+						this.classFilter, this.classLoader);
+					subtask.fork();
+					subtasks.add(subtask);
+				}
+			}
+			catch (IOException ex) {
+				visitor.postVisitDirectory(this.path, ex);
+			}
+			for (ClassFileScanTask subtask : subtasks) {
+				classes.addAll(subtask.join());
+			}
+			return classes;
+		}
+
+	}
+
+	/**
+	 * A class file found in a directory or in a JAR file.
+	 *
+	 * <p>{@link #toString()} returns the location used in log messages.
+	 */
+	private interface ClassFile {
+
+		String getClassName();
+
+		/**
+		 * Get the URI of this class file which is used as key of the
+		 * {@link ClassFileIndex}.
+		 */
+		String getUri();
+
+		long getSize() throws IOException;
+
+		/**
+		 * Get a value that changes when the content of this class file
+		 * changes, e.g. its last modification time.
+		 */
+		long getFingerprint() throws IOException;
+
+		InputStream newInputStream() throws IOException;
+
+	}
+
+	private class PathClassFile implements ClassFile {
+
+		private final Path baseDir;
+		private final String basePackageName;
+		private final Path path;
+		private BasicFileAttributes attributes;
+
+		PathClassFile(Path baseDir, String basePackageName, Path path) {
+			this.baseDir = baseDir;
+			this.basePackageName = basePackageName;
+			this.path = path;
+		}
+
+		@Override
+		public String getClassName() {
+			return determineFullyQualifiedClassName(this.baseDir, this.basePackageName, this.path);
+		}
+
+		@Override
+		public String getUri() {
+			return this.path.toUri().toString();
+		}
+
+		@Override
+		public long getSize() throws IOException {
+			return getAttributes().size();
+		}
+
+		@Override
+		public long getFingerprint() throws IOException {
+			return determineFingerprint(this.path, getAttributes());
+		}
+
+		private BasicFileAttributes getAttributes() throws IOException {
+			if (this.attributes == null) {
+				this.attributes = Files.readAttributes(this.path, BasicFileAttributes.class);
+			}
+			return this.attributes;
+		}
+
+		@Override
+		public InputStream newInputStream() throws IOException {
+			return Files.newInputStream(this.path);
+		}
+
+		@Override
+		public String toString() {
+			return this.path.toAbsolutePath().toString();
+		}
+
+	}
+
+	private static class JarEntryClassFile implements ClassFile {
+
+		private final Path jarFile;
+		private final ZipFile zipFile;
+		private final ZipEntry entry;
+
+		JarEntryClassFile(Path jarFile, ZipFile zipFile, ZipEntry entry) {
+			this.jarFile = jarFile;
+			this.zipFile = zipFile;
+			this.entry = entry;
+		}
+
+		@Override
+		public String getClassName() {
+			String name = this.entry.getName();
+			return name.substring(0, name.length() - CLASS_FILE_SUFFIX.length()).replace(
+				CLASSPATH_RESOURCE_PATH_SEPARATOR, PACKAGE_SEPARATOR_CHAR);
+		}
+
+		@Override
+		public String getUri() {
+			return JAR_URI_SCHEME + ':' + this.jarFile.toUri() + JAR_URI_SEPARATOR + CLASSPATH_RESOURCE_PATH_SEPARATOR
+					+ this.entry.getName();
+		}
+
+		@Override
+		public long getSize() {
+			return this.entry.getSize();
+		}
+
+		/**
+		 * Use the CRC-32 checksum since the modification times of entries
+		 * are often fixed for reproducible builds.
+		 */
+		@Override
+		public long getFingerprint() {
+			long crc = this.entry.getCrc();
+			return crc != -1 ? crc : this.entry.getTime();
+		}
+
+		@Override
+		public InputStream newInputStream() throws IOException {
+			return this.zipFile.getInputStream(this.entry);
+		}
+
+		@Override
+		public String toString() {
+			return getUri();
+		}
+
+	}
+
+	/**
+	 * A JAR file in the local file system and the prefix of the names of the
+	 * entries to scan, i.e. the path of a package within the JAR file.
+	 */
+	private static class JarFileRoot {
+
+		private final Path jarFile;
+		private final String entryPrefix;
+
+		/**
+		 * Create a {@code JarFileRoot} for {@code jar:} URIs of entries in a
+		 * local JAR file and for {@code file:} URIs of JAR files. Other URIs,
+		 * e.g. of entries in nested JAR files, are scanned via
+		 * {@link CloseablePath}.
+		 */
+		static Optional<JarFileRoot> from(URI uri) throws URISyntaxException {
+			if (JAR_URI_SCHEME.equals(uri.getScheme())) {
+				String[] parts = uri.toString().split(JAR_URI_SEPARATOR);
+				if (parts.length != 2) {
+					return Optional.empty();
+				}
+				URI jarFileUri = new URI(parts[0].substring(JAR_URI_SCHEME.length() + 1));
+				if (!FILE_URI_SCHEME.equals(jarFileUri.getScheme())) {
+					return Optional.empty();
+				}
+				return Optional.of(new JarFileRoot(Paths.get(jarFileUri), parts[1]));
+			}
+			if (FILE_URI_SCHEME.equals(uri.getScheme()) && uri.getPath().endsWith(JAR_FILE_EXTENSION)) {
+				return Optional.of(new JarFileRoot(Paths.get(uri), ""));
+			}
+			return Optional.empty();
+		}
+
+		private JarFileRoot(Path jarFile, String entryPath) {
+			this.jarFile = jarFile;
+			// Entry names are relative and directories are separated by slashes
+			String entryPrefix = entryPath.replaceFirst("^/+", "");
+			if (!entryPrefix.isEmpty() && !entryPrefix.endsWith("/")) {
+				entryPrefix += CLASSPATH_RESOURCE_PATH_SEPARATOR;
+			}
+			this.entryPrefix = entryPrefix;
+		}
+
+	}
+
 }
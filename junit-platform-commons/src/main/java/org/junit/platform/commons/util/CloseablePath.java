@@ -27,10 +27,10 @@ import java.util.function.Function;
  */
 final class CloseablePath implements Closeable {
 
-	private static final String FILE_URI_SCHEME = "file";
-	private static final String JAR_URI_SCHEME = "jar";
-	private static final String JAR_FILE_EXTENSION = ".jar";
-	private static final String JAR_URI_SEPARATOR = "!";
+	static final String FILE_URI_SCHEME = "file";
+	static final String JAR_URI_SCHEME = "jar";
+	static final String JAR_FILE_EXTENSION = ".jar";
+	static final String JAR_URI_SEPARATOR = "!";
 
 	private static final Closeable NULL_CLOSEABLE = () -> {
 	};
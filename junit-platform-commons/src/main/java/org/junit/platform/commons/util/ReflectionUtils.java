@@ -37,6 +37,7 @@ import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.IdentityHashMap;
 import java.util.LinkedHashSet;
@@ -44,6 +45,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.BiFunction;
 import java.util.function.Predicate;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -115,7 +117,30 @@ public final class ReflectionUtils {
 	private static final Class<?>[] EMPTY_CLASS_ARRAY = new Class<?>[0];
 
 	private static final ClasspathScanner classpathScanner = new ClasspathScanner(
-		ClassLoaderUtils::getDefaultClassLoader, ReflectionUtils::loadClass);
+		ClassLoaderUtils::getDefaultClassLoader, ReflectionUtils::loadClass,
+		ClasspathScanner.getConfiguredParallelism());
+
+	/**
+	 * Internal caches of the sorted methods and fields of classes.
+	 *
+	 * <p>Backed by {@link ClassValue} so that cached members do not prevent
+	 * the classes they belong to from being unloaded.
+	 *
+	 * @since 1.4
+	 */
+	private static final MemberCache<Method> allMethodsInHierarchyCache = //
+		new MemberCache<>(ReflectionUtils::computeAllMethodsInHierarchy);
+	private static final MemberCache<Field> allFieldsInHierarchyCache = //
+		new MemberCache<>(ReflectionUtils::computeAllFieldsInHierarchy);
+	private static final MemberCache<Method> declaredMethodsCache = //
+		new MemberCache<>(ReflectionUtils::computeDeclaredMethods);
+	private static final ClassValue<List<Method>> methodsCache = new ClassValue<List<Method>>() {
+
+		@Override
+		protected List<Method> computeValue(Class<?> clazz) {
+			return Collections.unmodifiableList(toSortedMutableList(clazz.getMethods()));
+		}
+	};
 
 	/**
 	 * Internal cache of common class names mapped to their types.
@@ -890,6 +915,10 @@ public final class ReflectionUtils {
 		Preconditions.notNull(clazz, "Class must not be null");
 		Preconditions.notNull(traversalMode, "HierarchyTraversalMode must not be null");
 
+		return allFieldsInHierarchyCache.get(clazz, traversalMode);
+	}
+
+	private static List<Field> computeAllFieldsInHierarchy(Class<?> clazz, HierarchyTraversalMode traversalMode) {
 		// @formatter:off
 		List<Field> localFields = getDeclaredFields(clazz).stream()
 				.filter(field -> !field.isSynthetic())
@@ -1073,6 +1102,10 @@ public final class ReflectionUtils {
 		Preconditions.notNull(clazz, "Class must not be null");
 		Preconditions.notNull(traversalMode, "HierarchyTraversalMode must not be null");
 
+		return allMethodsInHierarchyCache.get(clazz, traversalMode);
+	}
+
+	private static List<Method> computeAllMethodsInHierarchy(Class<?> clazz, HierarchyTraversalMode traversalMode) {
 		// @formatter:off
 		List<Method> localMethods = getDeclaredMethods(clazz, traversalMode).stream()
 				.filter(method -> !method.isSynthetic())
@@ -1116,21 +1149,25 @@ public final class ReflectionUtils {
 
 	/**
 	 * Custom alternative to {@link Class#getMethods()} that sorts the methods
-	 * and converts them to a mutable list.
+	 * and caches them in an immutable list.
 	 */
 	private static List<Method> getMethods(Class<?> clazz) {
-		return toSortedMutableList(clazz.getMethods());
+		return methodsCache.get(clazz);
 	}
 
 	/**
 	 * Custom alternative to {@link Class#getDeclaredMethods()} that sorts the
-	 * methods and converts them to a mutable list.
+	 * methods and caches them in an immutable list.
 	 *
 	 * <p>In addition, the list returned by this method includes interface
 	 * default methods which are either prepended or appended to the list of
 	 * declared methods depending on the supplied traversal mode.
 	 */
 	private static List<Method> getDeclaredMethods(Class<?> clazz, HierarchyTraversalMode traversalMode) {
+		return declaredMethodsCache.get(clazz, traversalMode);
+	}
+
+	private static List<Method> computeDeclaredMethods(Class<?> clazz, HierarchyTraversalMode traversalMode) {
 		// Note: getDefaultMethods() already sorts the methods,
 		List<Method> defaultMethods = getDefaultMethods(clazz);
 		List<Method> declaredMethods = toSortedMutableList(clazz.getDeclaredMethods());
@@ -1393,4 +1430,33 @@ public final class ReflectionUtils {
 		return t;
 	}
 
+	/**
+	 * Lazily computes and caches an immutable list of members of each class
+	 * per {@link HierarchyTraversalMode}.
+	 *
+	 * @since 1.4
+	 */
+	private static class MemberCache<T extends Member> {
+
+		private final Map<HierarchyTraversalMode, ClassValue<List<T>>> classValues = new EnumMap<>(
+			HierarchyTraversalMode.class);
+
+		MemberCache(BiFunction<Class<?>, HierarchyTraversalMode, List<T>> computation) {
+			for (HierarchyTraversalMode traversalMode : HierarchyTraversalMode.values()) {
+				this.classValues.put(traversalMode, new ClassValue<List<T>>() {
+
+					@Override
+					protected List<T> computeValue(Class<?> clazz) {
+						return Collections.unmodifiableList(computation.apply(clazz, traversalMode));
+					}
+				});
+			}
+		}
+
+		List<T> get(Class<?> clazz, HierarchyTraversalMode traversalMode) {
+			return this.classValues.get(traversalMode).get(clazz);
+		}
+
+	}
+
 }
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2015-2018 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.engine;
+
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+import org.apiguardian.api.API;
+
+/**
+ * {@code EngineDiscoveryListener} is notified by a {@link TestEngine} while it
+ * is discovering tests so that the tests it has already discovered can be
+ * executed while discovery is still in progress.
+ *
+ * <p>A listener is only available if the caller executes tests while they are
+ * being discovered; see {@link EngineDiscoveryRequest#getDiscoveryListener()}.
+ * Test engines are not required to use it. However, a test engine that
+ * notifies the listener must support executing an
+ * {@link ExecutionRequest} with
+ * {@linkplain ExecutionRequest#getPendingTestDescriptors() pending test
+ * descriptors}.
+ *
+ * @see EngineDiscoveryRequest#getDiscoveryListener()
+ * @see PendingTestDescriptors
+ * @since 1.4
+ */
+@API(status = EXPERIMENTAL, since = "1.4")
+public interface EngineDiscoveryListener {
+
+	/**
+	 * Must be called when the supplied direct child of the engine's root
+	 * {@link TestDescriptor} and all of its descendants have been completely
+	 * discovered.
+	 *
+	 * <p>Once this method has been called, the test engine must neither
+	 * modify nor traverse the subtree of the supplied {@code TestDescriptor}
+	 * during discovery since it may already be executed concurrently. Moreover,
+	 * the test engine must not remove direct children from its root
+	 * {@code TestDescriptor} after having called this method. Children that
+	 * are not reported via this method are handled once
+	 * {@link TestEngine#discover(EngineDiscoveryRequest, UniqueId) discover()}
+	 * has returned.
+	 *
+	 * @param testDescriptor the discovered child of the engine's root
+	 * {@code TestDescriptor}; never {@code null}
+	 */
+	void testDescriptorDiscovered(TestDescriptor testDescriptor);
+
+}
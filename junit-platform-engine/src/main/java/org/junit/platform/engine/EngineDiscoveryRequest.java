@@ -10,9 +10,11 @@
 
 package org.junit.platform.engine;
 
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
 import static org.apiguardian.api.API.Status.STABLE;
 
 import java.util.List;
+import java.util.Optional;
 
 import org.apiguardian.api.API;
 
@@ -65,4 +67,20 @@ public interface EngineDiscoveryRequest {
 	 */
 	ConfigurationParameters getConfigurationParameters();
 
+	/**
+	 * Get the {@link EngineDiscoveryListener} to be notified of the tests
+	 * discovered so far.
+	 *
+	 * <p>The listener is only present if the caller executes tests while they
+	 * are still being discovered. Test engines that do not support this may
+	 * ignore it.
+	 *
+	 * @return the discovery listener; never {@code null} but potentially empty
+	 * @since 1.4
+	 */
+	@API(status = EXPERIMENTAL, since = "1.4")
+	default Optional<EngineDiscoveryListener> getDiscoveryListener() {
+		return Optional.empty();
+	}
+
 }
@@ -10,9 +10,12 @@
 
 package org.junit.platform.engine;
 
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
 import static org.apiguardian.api.API.Status.INTERNAL;
 import static org.apiguardian.api.API.Status.STABLE;
 
+import java.util.Optional;
+
 import org.apiguardian.api.API;
 
 /**
@@ -36,12 +39,24 @@ public class ExecutionRequest {
 
 	private final ConfigurationParameters configurationParameters;
 
+	private final PendingTestDescriptors pendingTestDescriptors;
+
 	@API(status = INTERNAL, since = "1.0")
 	public ExecutionRequest(TestDescriptor rootTestDescriptor, EngineExecutionListener engineExecutionListener,
 			ConfigurationParameters configurationParameters) {
+		this(rootTestDescriptor, engineExecutionListener, configurationParameters, null);
+	}
+
+	/**
+	 * @since 1.4
+	 */
+	@API(status = INTERNAL, since = "1.4")
+	public ExecutionRequest(TestDescriptor rootTestDescriptor, EngineExecutionListener engineExecutionListener,
+			ConfigurationParameters configurationParameters, PendingTestDescriptors pendingTestDescriptors) {
 		this.rootTestDescriptor = rootTestDescriptor;
 		this.engineExecutionListener = engineExecutionListener;
 		this.configurationParameters = configurationParameters;
+		this.pendingTestDescriptors = pendingTestDescriptors;
 	}
 
 	/**
@@ -72,4 +87,22 @@ public class ExecutionRequest {
 		return this.configurationParameters;
 	}
 
+	/**
+	 * Get the {@link PendingTestDescriptors} of the engine's root
+	 * {@link TestDescriptor} if its tests are still being discovered.
+	 *
+	 * <p>Only test engines that have notified the
+	 * {@linkplain EngineDiscoveryRequest#getDiscoveryListener() discovery
+	 * listener} during discovery receive pending test descriptors.
+	 *
+	 * @return the pending test descriptors; never {@code null} but
+	 * potentially empty
+	 * @since 1.4
+	 * @see EngineDiscoveryListener
+	 */
+	@API(status = EXPERIMENTAL, since = "1.4")
+	public Optional<PendingTestDescriptors> getPendingTestDescriptors() {
+		return Optional.ofNullable(this.pendingTestDescriptors);
+	}
+
 }
@@ -0,0 +1,48 @@
+/*
+ * Copyright 2015-2018 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.engine;
+
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+import java.util.Optional;
+
+import org.apiguardian.api.API;
+
+/**
+ * {@code PendingTestDescriptors} provides a {@link TestEngine} access to the
+ * direct children of its root {@link TestDescriptor} while they are still
+ * being discovered.
+ *
+ * <p>If an {@link ExecutionRequest} has pending test descriptors, the test
+ * engine must not iterate over the children of the root
+ * {@code TestDescriptor} but execute each child returned by
+ * {@link #next()} instead.
+ *
+ * @see ExecutionRequest#getPendingTestDescriptors()
+ * @see EngineDiscoveryListener
+ * @since 1.4
+ */
+@API(status = EXPERIMENTAL, since = "1.4")
+public interface PendingTestDescriptors {
+
+	/**
+	 * Get the next direct child of the root {@link TestDescriptor}, waiting
+	 * until it has been discovered if necessary.
+	 *
+	 * <p>Each child is only returned once.
+	 *
+	 * @return the next child; or an empty {@code Optional} once discovery has
+	 * finished and all children have been returned
+	 * @throws InterruptedException if interrupted while waiting
+	 */
+	Optional<TestDescriptor> next() throws InterruptedException;
+
+}
@@ -14,7 +14,10 @@ import static java.util.Collections.emptySet;
 import static org.apiguardian.api.API.Status.STABLE;
 
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
@@ -24,6 +27,7 @@ import org.junit.platform.engine.TestDescriptor;
 import org.junit.platform.engine.TestSource;
 import org.junit.platform.engine.TestTag;
 import org.junit.platform.engine.UniqueId;
+import org.junit.platform.engine.UniqueId.Segment;
 
 /**
  * Abstract base implementation of {@link TestDescriptor} that may be used by
@@ -54,10 +58,35 @@ public abstract class AbstractTestDescriptor implements TestDescriptor {
 	 * returned by {@link #getChildren()}.
 	 *
 	 * <p>If a subclass overrides any of the methods related to children, this
-	 * set should be used instead of a set local to the subclass.
+	 * set should be used instead of a set local to the subclass. Children that
+	 * are added to this set without calling {@link #addChild(TestDescriptor)}
+	 * are not indexed by their unique IDs so that
+	 * {@link #findByUniqueId(UniqueId)} has to search all children.
 	 */
 	protected final Set<TestDescriptor> children = Collections.synchronizedSet(new LinkedHashSet<>(16));
 
+	/**
+	 * The children added via {@link #addChild(TestDescriptor)} keyed by the
+	 * last segment of their unique ID.
+	 *
+	 * <p>Together with the indexes of all descendants, this map forms a trie
+	 * over the segments of their unique IDs that allows
+	 * {@link #findByUniqueId(UniqueId)} to find a descendant in time
+	 * proportional to the depth of the tree instead of its size. The index is
+	 * only used as long as {@link #uniqueIdsFormHierarchy} is {@code true}.
+	 */
+	private final Map<Segment, TestDescriptor> childrenByLastSegment = Collections.synchronizedMap(
+		new HashMap<>(16));
+
+	/**
+	 * Whether each descendant of this {@code TestDescriptor} is an
+	 * {@code AbstractTestDescriptor} whose unique ID is the one of its parent
+	 * with a single segment appended.
+	 *
+	 * <p>Once {@code false}, this flag is never reset.
+	 */
+	private volatile boolean uniqueIdsFormHierarchy = true;
+
 	/**
 	 * Create a new {@code AbstractTestDescriptor} with the supplied
 	 * {@link UniqueId} and display name.
@@ -129,13 +158,42 @@ public abstract class AbstractTestDescriptor implements TestDescriptor {
 	public void addChild(TestDescriptor child) {
 		Preconditions.notNull(child, "child must not be null");
 		child.setParent(this);
-		this.children.add(child);
+		if (this.children.add(child)) {
+			indexChild(child);
+		}
+	}
+
+	private void indexChild(TestDescriptor child) {
+		if (child instanceof AbstractTestDescriptor && ((AbstractTestDescriptor) child).uniqueIdsFormHierarchy
+				&& isParentOf(child.getUniqueId())
+				&& this.childrenByLastSegment.putIfAbsent(getLastSegment(child.getUniqueId()), child) == null) {
+			return;
+		}
+		// Descendants can no longer be found by walking down their unique IDs.
+		// Ancestors of descriptors that have already been marked are marked as
+		// well which also stops this loop for cyclic hierarchies.
+		TestDescriptor current = this;
+		while (current instanceof AbstractTestDescriptor && ((AbstractTestDescriptor) current).uniqueIdsFormHierarchy) {
+			((AbstractTestDescriptor) current).uniqueIdsFormHierarchy = false;
+			current = current.getParent().orElse(null);
+		}
+	}
+
+	private boolean isParentOf(UniqueId uniqueId) {
+		return uniqueId.getSegments().size() == this.uniqueId.getSegments().size() + 1
+				&& uniqueId.hasPrefix(this.uniqueId);
+	}
+
+	private static Segment getLastSegment(UniqueId uniqueId) {
+		List<Segment> segments = uniqueId.getSegments();
+		return segments.get(segments.size() - 1);
 	}
 
 	@Override
 	public void removeChild(TestDescriptor child) {
 		Preconditions.notNull(child, "child must not be null");
 		this.children.remove(child);
+		this.childrenByLastSegment.remove(getLastSegment(child.getUniqueId()), child);
 		child.setParent(null);
 	}
 
@@ -145,6 +203,7 @@ public abstract class AbstractTestDescriptor implements TestDescriptor {
 		this.parent.removeChild(this);
 		this.children.forEach(child -> child.setParent(null));
 		this.children.clear();
+		this.childrenByLastSegment.clear();
 	}
 
 	@Override
@@ -153,6 +212,9 @@ public abstract class AbstractTestDescriptor implements TestDescriptor {
 		if (getUniqueId().equals(uniqueId)) {
 			return Optional.of(this);
 		}
+		if (isIndexed()) {
+			return findIndexedDescendant(uniqueId);
+		}
 		// @formatter:off
 		return this.children.stream()
 				.map(child -> child.findByUniqueId(uniqueId))
@@ -162,6 +224,25 @@ public abstract class AbstractTestDescriptor implements TestDescriptor {
 		// @formatter:on
 	}
 
+	/**
+	 * Determine whether all children are contained in the index, i.e. they
+	 * have been added via {@link #addChild(TestDescriptor)} and the unique IDs
+	 * of all descendants form a hierarchy.
+	 */
+	private boolean isIndexed() {
+		return this.uniqueIdsFormHierarchy && this.childrenByLastSegment.size() == this.children.size();
+	}
+
+	private Optional<? extends TestDescriptor> findIndexedDescendant(UniqueId uniqueId) {
+		List<Segment> segments = uniqueId.getSegments();
+		int depth = this.uniqueId.getSegments().size();
+		if (segments.size() <= depth || !uniqueId.hasPrefix(this.uniqueId)) {
+			return Optional.empty();
+		}
+		TestDescriptor child = this.childrenByLastSegment.get(segments.get(depth));
+		return child == null ? Optional.empty() : child.findByUniqueId(uniqueId);
+	}
+
 	@Override
 	public final int hashCode() {
 		return this.uniqueId.hashCode();
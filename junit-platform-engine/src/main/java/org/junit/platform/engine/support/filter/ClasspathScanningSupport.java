@@ -10,14 +10,19 @@
 
 package org.junit.platform.engine.support.filter;
 
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
 import static org.apiguardian.api.API.Status.INTERNAL;
 import static org.junit.platform.engine.Filter.composeFilters;
 
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.function.Predicate;
 
 import org.apiguardian.api.API;
+import org.junit.platform.commons.util.ClassFileIndex;
+import org.junit.platform.commons.util.ClassFileMetadata;
 import org.junit.platform.commons.util.ClassFilter;
 import org.junit.platform.engine.DiscoveryFilter;
 import org.junit.platform.engine.EngineDiscoveryRequest;
@@ -32,6 +37,18 @@ import org.junit.platform.engine.discovery.PackageNameFilter;
 @API(status = INTERNAL, since = "1.0")
 public final class ClasspathScanningSupport {
 
+	/**
+	 * Property name used to set the local directory in which the results of
+	 * class file predicates are stored between test runs: {@value}
+	 *
+	 * <p>If not set, class files are read and parsed in every test run.
+	 *
+	 * @since 1.4
+	 * @see #loadClassFileIndex(EngineDiscoveryRequest, String, String)
+	 */
+	@API(status = EXPERIMENTAL, since = "1.4")
+	public static final String DISCOVERY_INDEX_DIRECTORY_PROPERTY_NAME = "junit.platform.discovery.index.directory";
+
 	private ClasspathScanningSupport() {
 		/* no-op */
 	}
@@ -61,4 +78,47 @@ public final class ClasspathScanningSupport {
 		return ClassFilter.of(buildClassNamePredicate(request), classPredicate);
 	}
 
+	/**
+	 * Build a {@link ClassFilter} by combining the name predicate built by
+	 * {@link #buildClassNamePredicate(EngineDiscoveryRequest)}, the passed-in
+	 * class file predicate, and the passed-in class predicate.
+	 *
+	 * @param request the request to build a name predicate from
+	 * @param classFilePredicate the class file predicate used to avoid loading
+	 * classes that cannot match the class predicate
+	 * @param classPredicate the class predicate
+	 * @since 1.4
+	 * @see ClassFilter#of(Predicate, Predicate, Predicate)
+	 */
+	public static ClassFilter buildClassFilter(EngineDiscoveryRequest request,
+			Predicate<ClassFileMetadata> classFilePredicate, Predicate<Class<?>> classPredicate) {
+		return ClassFilter.of(buildClassNamePredicate(request), classFilePredicate, classPredicate);
+	}
+
+	/**
+	 * Load the {@link ClassFileIndex} with the supplied name from the
+	 * directory configured via the {@value #DISCOVERY_INDEX_DIRECTORY_PROPERTY_NAME}
+	 * configuration parameter, if set.
+	 *
+	 * <p>Callers should {@linkplain ClassFilter#withClassFileIndex(ClassFileIndex)
+	 * attach} the index to their {@link ClassFilter} and
+	 * {@linkplain ClassFileIndex#save() save} it once discovery has finished.
+	 *
+	 * @param request the request to read the configuration parameter from
+	 * @param name the name of the index, e.g. the ID of the test engine
+	 * @param version the version of the class file predicate; a stored index
+	 * is discarded if its version differs
+	 * @since 1.4
+	 */
+	public static Optional<ClassFileIndex> loadClassFileIndex(EngineDiscoveryRequest request, String name,
+			String version) {
+		// @formatter:off
+		return request.getConfigurationParameters()
+				.get(DISCOVERY_INDEX_DIRECTORY_PROPERTY_NAME)
+				.map(String::trim)
+				.filter(directory -> !directory.isEmpty())
+				.map(directory -> ClassFileIndex.load(Paths.get(directory), name, version));
+		// @formatter:on
+	}
+
 }
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2015-2018 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.engine.support.hierarchical;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Determines how many consecutive leaf tasks are executed as a single batch
+ * based on the average duration of the leaf tasks executed so far.
+ *
+ * <p>Batches are sized so that each of them takes about
+ * {@link #TARGET_BATCH_DURATION_NANOS} to execute, but never contain more
+ * than {@value #MAX_BATCH_SIZE} tasks and are never so large that there are
+ * fewer batches than workers. As long as no durations have been recorded,
+ * every task is executed on its own.
+ *
+ * @since 1.4
+ * @see ForkJoinPoolHierarchicalTestExecutorService#CONFIG_BATCHING_ENABLED_PROPERTY_NAME
+ */
+class AdaptiveBatchSizer {
+
+	static final long TARGET_BATCH_DURATION_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+	static final int MAX_BATCH_SIZE = 64;
+
+	private final LongAdder executedTasks = new LongAdder();
+	private final LongAdder totalDurationNanos = new LongAdder();
+
+	/**
+	 * Record that the supplied number of leaf tasks took the supplied number
+	 * of nanoseconds to execute.
+	 */
+	void record(int numberOfTasks, long durationNanos) {
+		executedTasks.add(numberOfTasks);
+		totalDurationNanos.add(durationNanos);
+	}
+
+	/**
+	 * Compute the size of the batches to split the supplied number of
+	 * consecutive leaf tasks into.
+	 */
+	int computeBatchSize(int numberOfTasks, int parallelism) {
+		long count = executedTasks.sum();
+		if (count == 0) {
+			return 1;
+		}
+		long averageDurationNanos = Math.max(1, totalDurationNanos.sum() / count);
+		long sizeForTargetDuration = Math.min(MAX_BATCH_SIZE, TARGET_BATCH_DURATION_NANOS / averageDurationNanos);
+		int sizeForParallelism = (numberOfTasks + parallelism - 1) / parallelism;
+		return (int) Math.max(1, Math.min(sizeForTargetDuration, sizeForParallelism));
+	}
+
+}
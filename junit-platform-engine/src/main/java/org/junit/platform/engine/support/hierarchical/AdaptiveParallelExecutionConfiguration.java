@@ -0,0 +1,40 @@
+/*
+ * Copyright 2015-2018 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.engine.support.hierarchical;
+
+/**
+ * {@link ParallelExecutionConfiguration} whose parallelism is adjusted
+ * between a minimum and a maximum while tests are being executed.
+ *
+ * @since 1.4
+ * @see AdaptiveParallelismController
+ */
+class AdaptiveParallelExecutionConfiguration extends DefaultParallelExecutionConfiguration {
+
+	private final int minParallelism;
+	private final int maxParallelism;
+
+	AdaptiveParallelExecutionConfiguration(int parallelism, int minParallelism, int maxParallelism,
+			int keepAliveSeconds) {
+		super(parallelism, minParallelism, 256 + maxParallelism, minParallelism, keepAliveSeconds);
+		this.minParallelism = minParallelism;
+		this.maxParallelism = maxParallelism;
+	}
+
+	int getMinParallelism() {
+		return minParallelism;
+	}
+
+	int getMaxParallelism() {
+		return maxParallelism;
+	}
+
+}
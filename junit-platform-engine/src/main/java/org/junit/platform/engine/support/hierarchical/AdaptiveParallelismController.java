@@ -0,0 +1,174 @@
+/*
+ * Copyright 2015-2018 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.engine.support.hierarchical;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.OperatingSystemMXBean;
+import java.lang.reflect.Method;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.junit.platform.commons.logging.Logger;
+import org.junit.platform.commons.logging.LoggerFactory;
+
+/**
+ * Periodically samples the utilization of a {@link ForkJoinPool}, the time its
+ * workers spent blocked on {@linkplain ResourceLock resource locks}, and the
+ * system load average in order to grow or shrink the pool's parallelism
+ * within the bounds of an {@link AdaptiveParallelExecutionConfiguration}.
+ *
+ * <p>The parallelism is increased if tasks are queued while all workers are
+ * busy although neither the CPU is saturated nor the workers are mostly
+ * blocked on resource locks, i.e. if the workers are likely waiting for I/O.
+ * It is decreased if the CPU is saturated, if the workers spent most of the
+ * time blocked on resource locks, or if workers are idle.
+ *
+ * <p>Changing the parallelism of a running {@code ForkJoinPool} requires
+ * Java 19 or later.
+ *
+ * @since 1.4
+ * @see DefaultParallelExecutionConfigurationStrategy#ADAPTIVE
+ */
+class AdaptiveParallelismController implements Runnable {
+
+	static final long SAMPLING_INTERVAL_MILLIS = 500;
+
+	private static final Logger logger = LoggerFactory.getLogger(AdaptiveParallelismController.class);
+
+	private final ForkJoinPool forkJoinPool;
+	private final Method setParallelismMethod;
+	private final int minParallelism;
+	private final int maxParallelism;
+	private final LongAdder lockWaitNanos = new LongAdder();
+	private final OperatingSystemMXBean operatingSystem = ManagementFactory.getOperatingSystemMXBean();
+	private ScheduledExecutorService scheduler;
+
+	/**
+	 * Create a controller for the supplied pool if its parallelism can be
+	 * changed on the current JVM.
+	 */
+	static Optional<AdaptiveParallelismController> create(ForkJoinPool forkJoinPool,
+			AdaptiveParallelExecutionConfiguration configuration) {
+		try {
+			Method method = ForkJoinPool.class.getMethod("setParallelism", Integer.TYPE);
+			return Optional.of(new AdaptiveParallelismController(forkJoinPool, method,
+				configuration.getMinParallelism(), configuration.getMaxParallelism()));
+		}
+		catch (NoSuchMethodException e) {
+			logger.warn(() -> "Adaptive parallelism requires Java 19 or later; using a fixed parallelism of "
+					+ configuration.getParallelism());
+			return Optional.empty();
+		}
+	}
+
+	AdaptiveParallelismController(ForkJoinPool forkJoinPool, Method setParallelismMethod, int minParallelism,
+			int maxParallelism) {
+		this.forkJoinPool = forkJoinPool;
+		this.setParallelismMethod = setParallelismMethod;
+		this.minParallelism = minParallelism;
+		this.maxParallelism = maxParallelism;
+	}
+
+	void start() {
+		scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "junit-adaptive-parallelism");
+			thread.setDaemon(true);
+			return thread;
+		});
+		scheduler.scheduleWithFixedDelay(this, SAMPLING_INTERVAL_MILLIS, SAMPLING_INTERVAL_MILLIS,
+			TimeUnit.MILLISECONDS);
+	}
+
+	void stop() {
+		if (scheduler != null) {
+			scheduler.shutdownNow();
+		}
+	}
+
+	/**
+	 * Record that a worker was blocked for the supplied number of nanoseconds
+	 * while waiting for a resource lock.
+	 */
+	void recordLockWait(long nanos) {
+		lockWaitNanos.add(nanos);
+	}
+
+	@Override
+	public void run() {
+		int parallelism = forkJoinPool.getParallelism();
+		long totalWorkerNanos = TimeUnit.MILLISECONDS.toNanos(SAMPLING_INTERVAL_MILLIS) * parallelism;
+		Sample sample = new Sample(forkJoinPool.getActiveThreadCount(),
+			forkJoinPool.getQueuedTaskCount() + forkJoinPool.getQueuedSubmissionCount(),
+			(double) lockWaitNanos.sumThenReset() / totalWorkerNanos,
+			operatingSystem.getSystemLoadAverage() / operatingSystem.getAvailableProcessors());
+		int newParallelism = computeParallelism(parallelism, sample);
+		if (newParallelism != parallelism) {
+			try {
+				setParallelismMethod.invoke(forkJoinPool, newParallelism);
+				logger.config(() -> String.format("Changed parallelism from %d to %d based on %s", parallelism,
+					newParallelism, sample));
+			}
+			catch (Exception e) {
+				logger.warn(e, () -> "Failed to change parallelism; stopping adaptive parallelism");
+				stop();
+			}
+		}
+	}
+
+	int computeParallelism(int parallelism, Sample sample) {
+		int result = parallelism;
+		if (sample.lockWaitRatio >= 0.5 || sample.loadPerProcessor > 1.0) {
+			result = parallelism - 1;
+		}
+		else if (sample.queuedTasks > 0 && sample.activeThreads >= parallelism) {
+			result = parallelism + Math.max(1, parallelism / 4);
+		}
+		else if (sample.queuedTasks == 0 && sample.activeThreads < parallelism) {
+			result = parallelism - 1;
+		}
+		return Math.max(minParallelism, Math.min(maxParallelism, result));
+	}
+
+	static class Sample {
+
+		private final int activeThreads;
+		private final long queuedTasks;
+		private final double lockWaitRatio;
+		private final double loadPerProcessor;
+
+		/**
+		 * @param activeThreads the number of workers currently executing tasks
+		 * @param queuedTasks the number of tasks waiting to be executed
+		 * @param lockWaitRatio the time workers spent blocked on resource
+		 * locks relative to the total time of all workers
+		 * @param loadPerProcessor the system load average per processor; or a
+		 * negative value if not available
+		 */
+		Sample(int activeThreads, long queuedTasks, double lockWaitRatio, double loadPerProcessor) {
+			this.activeThreads = activeThreads;
+			this.queuedTasks = queuedTasks;
+			this.lockWaitRatio = lockWaitRatio;
+			this.loadPerProcessor = loadPerProcessor;
+		}
+
+		@Override
+		public String toString() {
+			return String.format("activeThreads=%d, queuedTasks=%d, lockWaitRatio=%.2f, loadPerProcessor=%.2f",
+				activeThreads, queuedTasks, lockWaitRatio, loadPerProcessor);
+		}
+
+	}
+
+}
@@ -51,6 +51,19 @@ class CompositeLock implements ResourceLock {
 		}
 	}
 
+	@Override
+	public boolean tryAcquire() {
+		List<Lock> acquiredLocks = new ArrayList<>(locks.size());
+		for (Lock lock : locks) {
+			if (!lock.tryLock()) {
+				release(acquiredLocks);
+				return false;
+			}
+			acquiredLocks.add(lock);
+		}
+		return true;
+	}
+
 	@Override
 	public void release() {
 		release(locks);
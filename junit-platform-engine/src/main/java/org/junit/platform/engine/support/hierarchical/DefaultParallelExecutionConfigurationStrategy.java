@@ -69,6 +69,48 @@ public enum DefaultParallelExecutionConfigurationStrategy implements ParallelExe
 		}
 	},
 
+	/**
+	 * Starts with a parallelism equal to the number of available
+	 * processors/cores and adjusts it during execution within the bounds
+	 * specified by the {@value CONFIG_ADAPTIVE_MIN_PARALLELISM_PROPERTY_NAME}
+	 * and {@value CONFIG_ADAPTIVE_MAX_PARALLELISM_PROPERTY_NAME} configuration
+	 * parameters.
+	 *
+	 * <p>The parallelism is increased while tasks are waiting to be executed
+	 * and all workers are busy without saturating the CPU, e.g. because they
+	 * are waiting for I/O. It is decreased when the system load average exceeds
+	 * the number of available processors/cores, when workers are mostly
+	 * blocked on resource locks, or when workers are idle.
+	 *
+	 * <p>Adjusting the parallelism during execution requires Java 19 or later.
+	 * On earlier Java versions, the initial parallelism is kept.
+	 *
+	 * @since 1.4
+	 */
+	@API(status = EXPERIMENTAL, since = "1.4")
+	ADAPTIVE {
+		@Override
+		public ParallelExecutionConfiguration createConfiguration(ConfigurationParameters configurationParameters) {
+			int availableProcessors = Runtime.getRuntime().availableProcessors();
+			int minParallelism = configurationParameters.get(CONFIG_ADAPTIVE_MIN_PARALLELISM_PROPERTY_NAME,
+				Integer::valueOf).orElse(1);
+			int maxParallelism = configurationParameters.get(CONFIG_ADAPTIVE_MAX_PARALLELISM_PROPERTY_NAME,
+				Integer::valueOf).orElse(Math.max(minParallelism, 4 * availableProcessors));
+
+			Preconditions.condition(minParallelism > 0,
+				() -> String.format("Value '%d' specified via configuration parameter '%s' must be greater than 0",
+					minParallelism, CONFIG_ADAPTIVE_MIN_PARALLELISM_PROPERTY_NAME));
+			Preconditions.condition(maxParallelism >= minParallelism,
+				() -> String.format("Value '%d' specified via configuration parameter '%s' must not be less than %d",
+					maxParallelism, CONFIG_ADAPTIVE_MAX_PARALLELISM_PROPERTY_NAME, minParallelism));
+
+			int parallelism = Math.max(minParallelism, Math.min(maxParallelism, availableProcessors));
+
+			return new AdaptiveParallelExecutionConfiguration(parallelism, minParallelism, maxParallelism,
+				KEEP_ALIVE_SECONDS);
+		}
+	},
+
 	/**
 	 * Allows the specification of a custom {@link ParallelExecutionConfigurationStrategy}
 	 * implementation via the mandatory {@value CONFIG_CUSTOM_CLASS_PROPERTY_NAME}
@@ -102,8 +144,8 @@ public enum DefaultParallelExecutionConfigurationStrategy implements ParallelExe
 	/**
 	 * Property name used to determine the desired configuration strategy.
 	 *
-	 * <p>Value must be one of {@code dynamic}, {@code fixed}, or
-	 * {@code custom}.
+	 * <p>Value must be one of {@code dynamic}, {@code fixed},
+	 * {@code adaptive}, or {@code custom}.
 	 */
 	public static final String CONFIG_STRATEGY_PROPERTY_NAME = "strategy";
 
@@ -127,6 +169,31 @@ public enum DefaultParallelExecutionConfigurationStrategy implements ParallelExe
 	 */
 	public static final String CONFIG_DYNAMIC_FACTOR_PROPERTY_NAME = "dynamic.factor";
 
+	/**
+	 * Property name used to determine the minimum parallelism for the
+	 * {@link #ADAPTIVE} configuration strategy.
+	 *
+	 * <p>Value must be a positive integer; defaults to {@code 1}.
+	 *
+	 * @see #ADAPTIVE
+	 * @since 1.4
+	 */
+	@API(status = EXPERIMENTAL, since = "1.4")
+	public static final String CONFIG_ADAPTIVE_MIN_PARALLELISM_PROPERTY_NAME = "adaptive.min.parallelism";
+
+	/**
+	 * Property name used to determine the maximum parallelism for the
+	 * {@link #ADAPTIVE} configuration strategy.
+	 *
+	 * <p>Value must be an integer not less than the minimum parallelism;
+	 * defaults to four times the number of available processors/cores.
+	 *
+	 * @see #ADAPTIVE
+	 * @since 1.4
+	 */
+	@API(status = EXPERIMENTAL, since = "1.4")
+	public static final String CONFIG_ADAPTIVE_MAX_PARALLELISM_PROPERTY_NAME = "adaptive.max.parallelism";
+
 	/**
 	 * Property name used to specify the fully qualified class name of the
 	 * {@link ParallelExecutionConfigurationStrategy} to be used by the
@@ -23,6 +23,13 @@ import org.junit.platform.commons.util.ToStringBuilder;
  * An exclusive resource identified by a key with a lock mode that is used to
  * synchronize access to shared resources when executing nodes in parallel.
  *
+ * <p>A resource may also be declared as a pool with a fixed number of
+ * {@linkplain #getPermits() permits}. A node that declares such a pooled
+ * resource requires one permit and may be executed concurrently with as many
+ * other nodes as there are permits. Other nodes that declare the same key
+ * without permits require one permit for {@link LockMode#READ READ} access
+ * and all permits for {@link LockMode#READ_WRITE READ_WRITE} access.
+ *
  * @see Node#getExecutionMode()
  * @since 1.3
  */
@@ -31,6 +38,7 @@ public class ExclusiveResource {
 
 	private final String key;
 	private final LockMode lockMode;
+	private final int permits;
 	private int hash;
 
 	/**
@@ -43,6 +51,27 @@ public class ExclusiveResource {
 	public ExclusiveResource(String key, LockMode lockMode) {
 		this.key = Preconditions.notBlank(key, "key must not be blank");
 		this.lockMode = Preconditions.notNull(lockMode, "lockMode must not be null");
+		this.permits = 0;
+	}
+
+	/**
+	 * Create a new pooled {@code ExclusiveResource} with the supplied number
+	 * of permits.
+	 *
+	 * <p>The lock mode of a pooled resource is {@link LockMode#READ READ}
+	 * since it may be shared with other nodes.
+	 *
+	 * @param key the identifier of the resource; never {@code null} or blank
+	 * @param permits the number of permits of the resource; must be greater
+	 * than zero
+	 * @since 1.4
+	 */
+	@API(status = EXPERIMENTAL, since = "1.4")
+	public ExclusiveResource(String key, int permits) {
+		this.key = Preconditions.notBlank(key, "key must not be blank");
+		Preconditions.condition(permits > 0, () -> "permits must be greater than 0 for resource '" + key + "'");
+		this.lockMode = LockMode.READ;
+		this.permits = permits;
 	}
 
 	/**
@@ -59,6 +88,17 @@ public class ExclusiveResource {
 		return lockMode;
 	}
 
+	/**
+	 * Get the number of permits of this resource.
+	 *
+	 * @return the number of permits; {@code 0} if this resource is not pooled
+	 * @since 1.4
+	 */
+	@API(status = EXPERIMENTAL, since = "1.4")
+	public int getPermits() {
+		return permits;
+	}
+
 	@Override
 	public boolean equals(Object o) {
 		if (this == o) {
@@ -68,21 +108,25 @@ public class ExclusiveResource {
 			return false;
 		}
 		ExclusiveResource that = (ExclusiveResource) o;
-		return Objects.equals(key, that.key) && lockMode == that.lockMode;
+		return Objects.equals(key, that.key) && lockMode == that.lockMode && permits == that.permits;
 	}
 
 	@Override
 	public int hashCode() {
 		int h = hash;
 		if (h == 0) {
-			h = hash = Objects.hash(key, lockMode);
+			h = hash = Objects.hash(key, lockMode, permits);
 		}
 		return h;
 	}
 
 	@Override
 	public String toString() {
-		return new ToStringBuilder(this).append("key", key).append("lockMode", lockMode).toString();
+		ToStringBuilder builder = new ToStringBuilder(this).append("key", key).append("lockMode", lockMode);
+		if (permits > 0) {
+			builder.append("permits", permits);
+		}
+		return builder.toString();
 	}
 
 	/**
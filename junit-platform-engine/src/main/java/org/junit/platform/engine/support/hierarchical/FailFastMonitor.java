@@ -0,0 +1,56 @@
+/*
+ * Copyright 2015-2018 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.engine.support.hierarchical;
+
+import static org.junit.platform.engine.TestExecutionResult.Status.FAILED;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.platform.engine.TestExecutionResult;
+
+/**
+ * Counts the failures reported during the execution of a node hierarchy and
+ * signals that the execution should be cancelled once their number reaches
+ * the configured threshold.
+ *
+ * @since 1.4
+ * @see HierarchicalTestEngine#getFailFastThreshold(org.junit.platform.engine.ExecutionRequest)
+ */
+class FailFastMonitor {
+
+	static final FailFastMonitor DISABLED = new FailFastMonitor(0);
+
+	private final int threshold;
+	private final AtomicInteger failures = new AtomicInteger();
+
+	/**
+	 * @param threshold the number of failures after which the execution is
+	 * cancelled; {@code 0} to never cancel the execution
+	 */
+	FailFastMonitor(int threshold) {
+		this.threshold = threshold;
+	}
+
+	void recordResult(TestExecutionResult result) {
+		if (threshold > 0 && result.getStatus() == FAILED) {
+			failures.incrementAndGet();
+		}
+	}
+
+	boolean isCancelled() {
+		return threshold > 0 && failures.get() >= threshold;
+	}
+
+	String getCancellationReason() {
+		return "Execution cancelled after " + threshold + (threshold == 1 ? " failure" : " failures");
+	}
+
+}
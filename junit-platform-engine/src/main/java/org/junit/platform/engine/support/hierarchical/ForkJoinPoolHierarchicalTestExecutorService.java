@@ -16,6 +16,8 @@ import static org.junit.platform.engine.support.hierarchical.Node.ExecutionMode.
 
 import java.lang.Thread.UncaughtExceptionHandler;
 import java.lang.reflect.Constructor;
+import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Deque;
 import java.util.LinkedList;
 import java.util.List;
@@ -29,9 +31,11 @@ import java.util.concurrent.TimeUnit;
 import java.util.function.Predicate;
 
 import org.apiguardian.api.API;
+import org.junit.platform.commons.JUnitException;
 import org.junit.platform.commons.logging.LoggerFactory;
 import org.junit.platform.commons.util.ExceptionUtils;
 import org.junit.platform.engine.ConfigurationParameters;
+import org.junit.platform.engine.TestDescriptor;
 
 /**
  * A {@link ForkJoinPool}-based
@@ -45,8 +49,58 @@ import org.junit.platform.engine.ConfigurationParameters;
 @API(status = EXPERIMENTAL, since = "1.3")
 public class ForkJoinPoolHierarchicalTestExecutorService implements HierarchicalTestExecutorService {
 
+	/**
+	 * Property name used to determine the order in which {@link #invokeAll(List)}
+	 * forks concurrent sibling tasks.
+	 *
+	 * <p>Value must be one of {@code declaration_order} or {@code longest_first};
+	 * defaults to {@code declaration_order}.
+	 *
+	 * <p>{@code longest_first} forks the tasks with the longest durations
+	 * recorded in previous runs first so they are picked up by idle workers
+	 * early instead of becoming stragglers at the end of the run. It requires
+	 * the {@value #CONFIG_SCHEDULING_DURATIONS_DIRECTORY_PROPERTY_NAME}
+	 * configuration parameter to be set.
+	 *
+	 * @since 1.4
+	 */
+	public static final String CONFIG_SCHEDULING_ORDER_PROPERTY_NAME = "scheduling.order";
+
+	/**
+	 * Property name used to specify the local directory in which task
+	 * durations are stored between runs when the {@code longest_first}
+	 * {@linkplain #CONFIG_SCHEDULING_ORDER_PROPERTY_NAME scheduling order} is
+	 * used.
+	 *
+	 * <p>No default value; must be a path to a directory which will be created
+	 * if it does not exist.
+	 *
+	 * @since 1.4
+	 */
+	public static final String CONFIG_SCHEDULING_DURATIONS_DIRECTORY_PROPERTY_NAME = "scheduling.durations.directory";
+
+	/**
+	 * Property name used to enable batching of consecutive concurrent leaf
+	 * tasks in {@link #invokeAll(List)}.
+	 *
+	 * <p>Value must be {@code true} or {@code false}; defaults to
+	 * {@code false}.
+	 *
+	 * <p>When enabled, consecutive concurrent sibling tasks that execute tests
+	 * without children and without resource locks are grouped into batches
+	 * that are each forked as a single {@link ForkJoinTask} and executed
+	 * sequentially. The size of the batches is derived from the average
+	 * duration of the tests executed so far so that suites with many very
+	 * short tests spend less time on scheduling.
+	 *
+	 * @since 1.4
+	 */
+	public static final String CONFIG_BATCHING_ENABLED_PROPERTY_NAME = "batching.enabled";
+
 	private final ForkJoinPool forkJoinPool;
-	private final int parallelism;
+	private final AdaptiveParallelismController adaptiveParallelismController;
+	private final TaskDurationStore taskDurationStore;
+	private final AdaptiveBatchSizer batchSizer;
 
 	/**
 	 * Create a new {@code ForkJoinPoolHierarchicalTestExecutorService} based on
@@ -55,15 +109,53 @@ public class ForkJoinPoolHierarchicalTestExecutorService implements Hierarchical
 	 * @see DefaultParallelExecutionConfigurationStrategy
 	 */
 	public ForkJoinPoolHierarchicalTestExecutorService(ConfigurationParameters configurationParameters) {
-		forkJoinPool = createForkJoinPool(configurationParameters);
-		parallelism = forkJoinPool.getParallelism();
+		ParallelExecutionConfiguration configuration = createConfiguration(configurationParameters);
+		forkJoinPool = createForkJoinPool(configuration);
+		adaptiveParallelismController = createAdaptiveParallelismController(configuration);
+		taskDurationStore = createTaskDurationStore(configurationParameters);
+		batchSizer = configurationParameters.getBoolean(CONFIG_BATCHING_ENABLED_PROPERTY_NAME).orElse(false)
+				? new AdaptiveBatchSizer()
+				: null;
+		int parallelism = forkJoinPool.getParallelism();
 		LoggerFactory.getLogger(getClass()).config(() -> "Using ForkJoinPool with parallelism of " + parallelism);
 	}
 
-	private ForkJoinPool createForkJoinPool(ConfigurationParameters configurationParameters) {
+	private AdaptiveParallelismController createAdaptiveParallelismController(
+			ParallelExecutionConfiguration configuration) {
+		if (!(configuration instanceof AdaptiveParallelExecutionConfiguration)) {
+			return null;
+		}
+		AdaptiveParallelismController controller = AdaptiveParallelismController.create(forkJoinPool,
+			(AdaptiveParallelExecutionConfiguration) configuration).orElse(null);
+		if (controller != null) {
+			controller.start();
+		}
+		return controller;
+	}
+
+	private TaskDurationStore createTaskDurationStore(ConfigurationParameters configurationParameters) {
+		String schedulingOrder = configurationParameters.get(CONFIG_SCHEDULING_ORDER_PROPERTY_NAME).orElse(
+			"declaration_order");
+		if ("declaration_order".equalsIgnoreCase(schedulingOrder)) {
+			return null;
+		}
+		if (!"longest_first".equalsIgnoreCase(schedulingOrder)) {
+			throw new JUnitException(String.format("Invalid value '%s' for configuration parameter '%s'",
+				schedulingOrder, CONFIG_SCHEDULING_ORDER_PROPERTY_NAME));
+		}
+		String directory = configurationParameters.get(CONFIG_SCHEDULING_DURATIONS_DIRECTORY_PROPERTY_NAME).orElseThrow(
+			() -> new JUnitException(String.format("Configuration parameter '%s' must be set",
+				CONFIG_SCHEDULING_DURATIONS_DIRECTORY_PROPERTY_NAME)));
+		return TaskDurationStore.load(Paths.get(directory));
+	}
+
+	private ParallelExecutionConfiguration createConfiguration(ConfigurationParameters configurationParameters) {
 		ParallelExecutionConfigurationStrategy strategy = DefaultParallelExecutionConfigurationStrategy.getStrategy(
 			configurationParameters);
-		ParallelExecutionConfiguration configuration = strategy.createConfiguration(configurationParameters);
+		return strategy.createConfiguration(configurationParameters);
+	}
+
+	private ForkJoinPool createForkJoinPool(ParallelExecutionConfiguration configuration) {
 		ForkJoinWorkerThreadFactory threadFactory = new WorkerThreadFactory();
 		try {
 			// Try to use constructor available in Java >= 9
@@ -97,7 +189,8 @@ public class ForkJoinPoolHierarchicalTestExecutorService implements Hierarchical
 		// can be stolen by otherwise idle workers and the new task takes significantly
 		// longer, parallelism will drop. However, that only happens if the enclosing test
 		// task is the only one remaining which should rarely be the case.
-		if (testTask.getExecutionMode() == CONCURRENT && ForkJoinTask.getSurplusQueuedTaskCount() < parallelism) {
+		if (testTask.getExecutionMode() == CONCURRENT
+				&& ForkJoinTask.getSurplusQueuedTaskCount() < forkJoinPool.getParallelism()) {
 			return exclusiveTask.fork();
 		}
 		exclusiveTask.compute();
@@ -115,24 +208,75 @@ public class ForkJoinPoolHierarchicalTestExecutorService implements Hierarchical
 			return;
 		}
 		Deque<ExclusiveTask> nonConcurrentTasks = new LinkedList<>();
-		Deque<ExclusiveTask> concurrentTasksInReverseOrder = new LinkedList<>();
+		Deque<ForkJoinTask<?>> concurrentTasksInReverseOrder = new LinkedList<>();
 		forkConcurrentTasks(tasks, nonConcurrentTasks, concurrentTasksInReverseOrder);
 		executeNonConcurrentTasks(nonConcurrentTasks);
 		joinConcurrentTasksInReverseOrderToEnableWorkStealing(concurrentTasksInReverseOrder);
 	}
 
 	private void forkConcurrentTasks(List<? extends TestTask> tasks, Deque<ExclusiveTask> nonConcurrentTasks,
-			Deque<ExclusiveTask> concurrentTasksInReverseOrder) {
+			Deque<ForkJoinTask<?>> concurrentTasksInReverseOrder) {
+		List<TestTask> concurrentTasks = new ArrayList<>(tasks.size());
 		for (TestTask testTask : tasks) {
-			ExclusiveTask exclusiveTask = new ExclusiveTask(testTask);
 			if (testTask.getExecutionMode() == CONCURRENT) {
+				concurrentTasks.add(testTask);
+			}
+			else {
+				nonConcurrentTasks.add(new ExclusiveTask(testTask));
+			}
+		}
+		if (batchSizer != null) {
+			forkInBatches(inSchedulingOrder(concurrentTasks), concurrentTasksInReverseOrder);
+			return;
+		}
+		for (TestTask testTask : inSchedulingOrder(concurrentTasks)) {
+			ExclusiveTask exclusiveTask = new ExclusiveTask(testTask);
+			exclusiveTask.fork();
+			concurrentTasksInReverseOrder.addFirst(exclusiveTask);
+		}
+	}
+
+	private void forkInBatches(List<TestTask> concurrentTasks, Deque<ForkJoinTask<?>> concurrentTasksInReverseOrder) {
+		int batchSize = batchSizer.computeBatchSize(concurrentTasks.size(), forkJoinPool.getParallelism());
+		List<ExclusiveTask> batch = new ArrayList<>(batchSize);
+		for (TestTask testTask : concurrentTasks) {
+			if (!isBatchable(testTask)) {
+				forkBatch(batch, concurrentTasksInReverseOrder);
+				ExclusiveTask exclusiveTask = new ExclusiveTask(testTask);
 				exclusiveTask.fork();
 				concurrentTasksInReverseOrder.addFirst(exclusiveTask);
+				continue;
 			}
-			else {
-				nonConcurrentTasks.add(exclusiveTask);
+			batch.add(new ExclusiveTask(testTask));
+			if (batch.size() == batchSize) {
+				forkBatch(batch, concurrentTasksInReverseOrder);
 			}
 		}
+		forkBatch(batch, concurrentTasksInReverseOrder);
+	}
+
+	private void forkBatch(List<ExclusiveTask> batch, Deque<ForkJoinTask<?>> concurrentTasksInReverseOrder) {
+		if (!batch.isEmpty()) {
+			BatchTask batchTask = new BatchTask(new ArrayList<>(batch));
+			batchTask.fork();
+			concurrentTasksInReverseOrder.addFirst(batchTask);
+			batch.clear();
+		}
+	}
+
+	private static boolean isBatchable(TestTask testTask) {
+		// Only tests without children are known to not fork any tasks themselves
+		return testTask instanceof NodeTestTask
+				&& ((NodeTestTask<?>) testTask).getTestDescriptor().getType() == TestDescriptor.Type.TEST
+				&& testTask.getResourceLock() == NopLock.INSTANCE;
+	}
+
+	private List<TestTask> inSchedulingOrder(List<TestTask> concurrentTasks) {
+		// Tasks forked first are the first ones to be stolen by idle workers
+		if (taskDurationStore == null || concurrentTasks.size() < 2) {
+			return concurrentTasks;
+		}
+		return taskDurationStore.sortLongestFirst(concurrentTasks);
 	}
 
 	private void executeNonConcurrentTasks(Deque<ExclusiveTask> nonConcurrentTasks) {
@@ -142,23 +286,33 @@ public class ForkJoinPoolHierarchicalTestExecutorService implements Hierarchical
 	}
 
 	private void joinConcurrentTasksInReverseOrderToEnableWorkStealing(
-			Deque<ExclusiveTask> concurrentTasksInReverseOrder) {
-		for (ExclusiveTask forkedTask : concurrentTasksInReverseOrder) {
+			Deque<ForkJoinTask<?>> concurrentTasksInReverseOrder) {
+		for (ForkJoinTask<?> forkedTask : concurrentTasksInReverseOrder) {
 			forkedTask.join();
 		}
 	}
 
 	@Override
 	public void close() {
+		if (adaptiveParallelismController != null) {
+			adaptiveParallelismController.stop();
+		}
 		forkJoinPool.shutdownNow();
+		if (taskDurationStore != null) {
+			taskDurationStore.save();
+		}
 	}
 
 	// this class cannot not be serialized because TestTask is not Serializable
 	@SuppressWarnings("serial")
-	static class ExclusiveTask extends RecursiveAction {
+	class ExclusiveTask extends RecursiveAction {
 
 		private final TestTask testTask;
 
+		// set if the lock was acquired by a worker before executing this task
+		// while waiting for another lock
+		private ResourceLock acquiredResourceLock;
+
 		ExclusiveTask(TestTask testTask) {
 			this.testTask = testTask;
 		}
@@ -166,14 +320,115 @@ public class ForkJoinPoolHierarchicalTestExecutorService implements Hierarchical
 		@SuppressWarnings("try")
 		@Override
 		public void compute() {
-			try (ResourceLock lock = testTask.getResourceLock().acquire()) {
-				testTask.execute();
+			ResourceLock resourceLock = testTask.getResourceLock();
+			try (ResourceLock lock = (acquiredResourceLock != null ? acquiredResourceLock : acquire(resourceLock))) {
+				if (resourceLock == NopLock.INSTANCE) {
+					execute();
+				}
+				else {
+					WorkerThread.executeHoldingResourceLock(this::execute);
+				}
 			}
 			catch (InterruptedException e) {
 				ExceptionUtils.throwAsUncheckedException(e);
 			}
 		}
 
+		private ResourceLock acquire(ResourceLock resourceLock) throws InterruptedException {
+			// Instead of parking this worker while another task holds the lock,
+			// execute the next task that was forked by this worker but has not
+			// been started yet if its own lock is available, and retry
+			// afterwards. Since locks are reentrant, this must not happen while
+			// this worker already holds a resource lock. In order to limit the
+			// nesting of tasks on this worker's stack, it must also not happen
+			// while executing such a task.
+			while (!resourceLock.tryAcquire()) {
+				if (WorkerThread.holdsResourceLock() || WorkerThread.isExecutingReadyTask()
+						|| !tryExecuteReadyTask()) {
+					return acquireBlocking(resourceLock);
+				}
+			}
+			return resourceLock;
+		}
+
+		/**
+		 * Execute the next task in this worker's queue if it is an
+		 * {@code ExclusiveTask} whose resource lock can be acquired without
+		 * blocking.
+		 *
+		 * @return {@code true} if the task was executed or stolen by another
+		 * worker in the meantime; {@code false} if there is no such task
+		 */
+		private boolean tryExecuteReadyTask() throws InterruptedException {
+			if (!(Thread.currentThread() instanceof WorkerThread)) {
+				return false;
+			}
+			ForkJoinTask<?> nextTask = peekNextLocalTask();
+			if (!(nextTask instanceof ExclusiveTask)) {
+				return false;
+			}
+			ExclusiveTask readyTask = (ExclusiveTask) nextTask;
+			ResourceLock readyLock = readyTask.testTask.getResourceLock();
+			if (!readyLock.tryAcquire()) {
+				return false;
+			}
+			if (!readyTask.tryUnfork()) {
+				readyLock.release();
+				return true;
+			}
+			readyTask.acquiredResourceLock = readyLock;
+			WorkerThread.executeReadyTask(readyTask::quietlyInvoke);
+			return true;
+		}
+
+		private ResourceLock acquireBlocking(ResourceLock resourceLock) throws InterruptedException {
+			if (adaptiveParallelismController == null) {
+				return resourceLock.acquire();
+			}
+			long startTime = System.nanoTime();
+			try {
+				return resourceLock.acquire();
+			}
+			finally {
+				adaptiveParallelismController.recordLockWait(System.nanoTime() - startTime);
+			}
+		}
+
+		private void execute() {
+			if (taskDurationStore == null) {
+				testTask.execute();
+				return;
+			}
+			long startTime = System.nanoTime();
+			testTask.execute();
+			taskDurationStore.record(testTask, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
+		}
+
+	}
+
+	/**
+	 * Executes a batch of leaf tasks sequentially and records their total
+	 * duration in order to adapt the size of subsequent batches.
+	 */
+	// this class cannot not be serialized because TestTask is not Serializable
+	@SuppressWarnings("serial")
+	class BatchTask extends RecursiveAction {
+
+		private final List<ExclusiveTask> exclusiveTasks;
+
+		BatchTask(List<ExclusiveTask> exclusiveTasks) {
+			this.exclusiveTasks = exclusiveTasks;
+		}
+
+		@Override
+		public void compute() {
+			long startTime = System.nanoTime();
+			for (ExclusiveTask exclusiveTask : exclusiveTasks) {
+				exclusiveTask.compute();
+			}
+			batchSizer.record(exclusiveTasks.size(), System.nanoTime() - startTime);
+		}
+
 	}
 
 	static class WorkerThreadFactory implements ForkJoinPool.ForkJoinWorkerThreadFactory {
@@ -188,10 +443,53 @@ public class ForkJoinPoolHierarchicalTestExecutorService implements Hierarchical
 
 	static class WorkerThread extends ForkJoinWorkerThread {
 
+		// only accessed by this thread
+		private int heldResourceLocks;
+
+		// only accessed by this thread
+		private boolean executingReadyTask;
+
 		WorkerThread(ForkJoinPool pool, ClassLoader contextClassLoader) {
 			super(pool);
 			setContextClassLoader(contextClassLoader);
 		}
+
+		static boolean holdsResourceLock() {
+			Thread thread = Thread.currentThread();
+			return thread instanceof WorkerThread && ((WorkerThread) thread).heldResourceLocks > 0;
+		}
+
+		static void executeHoldingResourceLock(Runnable action) {
+			Thread thread = Thread.currentThread();
+			if (!(thread instanceof WorkerThread)) {
+				action.run();
+				return;
+			}
+			WorkerThread workerThread = (WorkerThread) thread;
+			workerThread.heldResourceLocks++;
+			try {
+				action.run();
+			}
+			finally {
+				workerThread.heldResourceLocks--;
+			}
+		}
+
+		static boolean isExecutingReadyTask() {
+			Thread thread = Thread.currentThread();
+			return thread instanceof WorkerThread && ((WorkerThread) thread).executingReadyTask;
+		}
+
+		static void executeReadyTask(Runnable action) {
+			WorkerThread workerThread = (WorkerThread) Thread.currentThread();
+			workerThread.executingReadyTask = true;
+			try {
+				action.run();
+			}
+			finally {
+				workerThread.executingReadyTask = false;
+			}
+		}
 	}
 
 }
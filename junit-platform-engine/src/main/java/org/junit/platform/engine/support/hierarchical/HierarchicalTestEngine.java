@@ -16,6 +16,7 @@ import static org.apiguardian.api.API.Status.MAINTAINED;
 import org.apiguardian.api.API;
 import org.junit.platform.commons.JUnitException;
 import org.junit.platform.engine.ExecutionRequest;
+import org.junit.platform.engine.TestDescriptor;
 import org.junit.platform.engine.TestEngine;
 
 /**
@@ -29,6 +30,16 @@ import org.junit.platform.engine.TestEngine;
 @API(status = MAINTAINED, since = "1.0")
 public abstract class HierarchicalTestEngine<C extends EngineExecutionContext> implements TestEngine {
 
+	/**
+	 * Default maximum number of dynamic tests registered by a single node that
+	 * may be outstanding at the same time: {@value}
+	 *
+	 * @since 1.4
+	 * @see #getMaxOutstandingDynamicTests(ExecutionRequest)
+	 */
+	@API(status = EXPERIMENTAL, since = "1.4")
+	public static final int DEFAULT_MAX_OUTSTANDING_DYNAMIC_TESTS = 256;
+
 	/**
 	 * Create an {@linkplain #createExecutorService(ExecutionRequest) executor
 	 * service}; create an initial {@linkplain #createExecutionContext execution
@@ -47,8 +58,13 @@ public abstract class HierarchicalTestEngine<C extends EngineExecutionContext> i
 		try (HierarchicalTestExecutorService executorService = createExecutorService(request)) {
 			C executionContext = createExecutionContext(request);
 			ThrowableCollector.Factory throwableCollectorFactory = createThrowableCollectorFactory(request);
-			new HierarchicalTestExecutor<>(request, executionContext, executorService,
-				throwableCollectorFactory).execute().get();
+			ResourceAnalysisMode resourceAnalysisMode = getResourceAnalysisMode(request);
+			boolean streamingExecution = isStreamingExecutionEnabled(request);
+			int failFastThreshold = getFailFastThreshold(request);
+			int maxOutstandingDynamicTests = getMaxOutstandingDynamicTests(request);
+			new HierarchicalTestExecutor<>(request, executionContext, executorService, throwableCollectorFactory,
+				resourceAnalysisMode, streamingExecution, failFastThreshold,
+				maxOutstandingDynamicTests).execute().get();
 		}
 		catch (Exception exception) {
 			throw new JUnitException("Error executing tests for engine " + getId(), exception);
@@ -100,6 +116,113 @@ public abstract class HierarchicalTestEngine<C extends EngineExecutionContext> i
 		return OpenTest4JAwareThrowableCollector::new;
 	}
 
+	/**
+	 * Get the {@linkplain ResourceAnalysisMode mode} used to analyze the
+	 * {@linkplain Node#getExclusiveResources() exclusive resources} of the
+	 * nodes in the hierarchy of the supplied {@linkplain ExecutionRequest
+	 * request}.
+	 *
+	 * <p>An engine may use the information in the supplied <em>request</em>
+	 * such as the contained
+	 * {@linkplain ExecutionRequest#getConfigurationParameters() configuration parameters}
+	 * to decide which mode to return.
+	 *
+	 * <p>By default, this method returns {@link ResourceAnalysisMode#SUBTREE}.
+	 *
+	 * @param request the request about to be executed
+	 * @see ResourceAnalysisMode
+	 * @since 1.4
+	 */
+	@API(status = EXPERIMENTAL, since = "1.4")
+	protected ResourceAnalysisMode getResourceAnalysisMode(ExecutionRequest request) {
+		return ResourceAnalysisMode.SUBTREE;
+	}
+
+	/**
+	 * Determine whether the supplied {@linkplain ExecutionRequest request}
+	 * should be executed in <em>streaming</em> mode.
+	 *
+	 * <p>In streaming mode, each {@link TestDescriptor} is
+	 * {@linkplain TestDescriptor#removeFromHierarchy() removed from the
+	 * hierarchy} as soon as its {@code executionFinished} or
+	 * {@code executionSkipped} event has been reported so that the subtrees of
+	 * finished containers can be garbage collected while the remaining tests
+	 * are still being executed. Only the root of the hierarchy is retained.
+	 * Children of the root that are executed while they are still being
+	 * discovered are only removed once discovery has finished. Engines must
+	 * therefore not rely on the children of a descriptor still being present
+	 * once they have been executed.
+	 *
+	 * <p>An engine may use the information in the supplied <em>request</em>
+	 * such as the contained
+	 * {@linkplain ExecutionRequest#getConfigurationParameters() configuration parameters}
+	 * to decide whether to enable streaming mode.
+	 *
+	 * <p>By default, this method returns {@code false}.
+	 *
+	 * @param request the request about to be executed
+	 * @since 1.4
+	 */
+	@API(status = EXPERIMENTAL, since = "1.4")
+	protected boolean isStreamingExecutionEnabled(ExecutionRequest request) {
+		return false;
+	}
+
+	/**
+	 * Get the number of failures after which the execution of the supplied
+	 * {@linkplain ExecutionRequest request} should be cancelled.
+	 *
+	 * <p>Once the configured number of tests or containers has failed, all
+	 * nodes that have not been started yet are reported as
+	 * {@linkplain org.junit.platform.engine.EngineExecutionListener#executionSkipped
+	 * skipped} without acquiring their resource locks or executing any of
+	 * their behavior, and dynamic tests registered afterwards are ignored.
+	 * Nodes that are already being executed are allowed to finish.
+	 *
+	 * <p>An engine may use the information in the supplied <em>request</em>
+	 * such as the contained
+	 * {@linkplain ExecutionRequest#getConfigurationParameters() configuration parameters}
+	 * to decide which threshold to return.
+	 *
+	 * <p>By default, this method returns {@code 0} which disables cancellation.
+	 *
+	 * @param request the request about to be executed
+	 * @since 1.4
+	 */
+	@API(status = EXPERIMENTAL, since = "1.4")
+	protected int getFailFastThreshold(ExecutionRequest request) {
+		return 0;
+	}
+
+	/**
+	 * Get the maximum number of dynamic tests registered by a single node that
+	 * may be outstanding at the same time when executing the supplied
+	 * {@linkplain ExecutionRequest request}.
+	 *
+	 * <p>Once this number has been reached, registering another dynamic test
+	 * waits for the oldest outstanding one to finish. If
+	 * {@linkplain #isStreamingExecutionEnabled(ExecutionRequest) streaming
+	 * execution} is enabled, finished dynamic tests are also
+	 * {@linkplain TestDescriptor#removeFromHierarchy() removed from the
+	 * hierarchy} so that nodes registering a large number of dynamic tests are
+	 * executed in bounded memory.
+	 *
+	 * <p>An engine may use the information in the supplied <em>request</em>
+	 * such as the contained
+	 * {@linkplain ExecutionRequest#getConfigurationParameters() configuration parameters}
+	 * to decide which maximum to return.
+	 *
+	 * <p>By default, this method returns
+	 * {@value #DEFAULT_MAX_OUTSTANDING_DYNAMIC_TESTS}.
+	 *
+	 * @param request the request about to be executed
+	 * @since 1.4
+	 */
+	@API(status = EXPERIMENTAL, since = "1.4")
+	protected int getMaxOutstandingDynamicTests(ExecutionRequest request) {
+		return DEFAULT_MAX_OUTSTANDING_DYNAMIC_TESTS;
+	}
+
 	/**
 	 * Create the initial execution context for executing the supplied
 	 * {@linkplain ExecutionRequest request}.
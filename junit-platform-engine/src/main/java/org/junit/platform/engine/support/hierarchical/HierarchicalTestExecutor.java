@@ -10,10 +10,13 @@
 
 package org.junit.platform.engine.support.hierarchical;
 
+import java.util.Optional;
 import java.util.concurrent.Future;
 
+import org.junit.platform.commons.util.ExceptionUtils;
 import org.junit.platform.engine.EngineExecutionListener;
 import org.junit.platform.engine.ExecutionRequest;
+import org.junit.platform.engine.PendingTestDescriptors;
 import org.junit.platform.engine.TestDescriptor;
 import org.junit.platform.engine.TestEngine;
 
@@ -37,24 +40,68 @@ class HierarchicalTestExecutor<C extends EngineExecutionContext> {
 	private final C rootContext;
 	private final HierarchicalTestExecutorService executorService;
 	private final ThrowableCollector.Factory throwableCollectorFactory;
+	private final ResourceAnalysisMode resourceAnalysisMode;
+	private final boolean streamingExecution;
+	private final int failFastThreshold;
+	private final int maxOutstandingDynamicTests;
 
 	HierarchicalTestExecutor(ExecutionRequest request, C rootContext, HierarchicalTestExecutorService executorService,
 			ThrowableCollector.Factory throwableCollectorFactory) {
+		this(request, rootContext, executorService, throwableCollectorFactory, ResourceAnalysisMode.SUBTREE);
+	}
+
+	HierarchicalTestExecutor(ExecutionRequest request, C rootContext, HierarchicalTestExecutorService executorService,
+			ThrowableCollector.Factory throwableCollectorFactory, ResourceAnalysisMode resourceAnalysisMode) {
+		this(request, rootContext, executorService, throwableCollectorFactory, resourceAnalysisMode, false, 0,
+			HierarchicalTestEngine.DEFAULT_MAX_OUTSTANDING_DYNAMIC_TESTS);
+	}
+
+	HierarchicalTestExecutor(ExecutionRequest request, C rootContext, HierarchicalTestExecutorService executorService,
+			ThrowableCollector.Factory throwableCollectorFactory, ResourceAnalysisMode resourceAnalysisMode,
+			boolean streamingExecution, int failFastThreshold, int maxOutstandingDynamicTests) {
 		this.request = request;
 		this.rootContext = rootContext;
 		this.executorService = executorService;
 		this.throwableCollectorFactory = throwableCollectorFactory;
+		this.resourceAnalysisMode = resourceAnalysisMode;
+		this.streamingExecution = streamingExecution;
+		this.failFastThreshold = failFastThreshold;
+		this.maxOutstandingDynamicTests = maxOutstandingDynamicTests;
 	}
 
 	Future<Void> execute() {
 		TestDescriptor rootTestDescriptor = this.request.getRootTestDescriptor();
 		EngineExecutionListener executionListener = this.request.getEngineExecutionListener();
-		NodeExecutionAdvisor executionAdvisor = new NodeTreeWalker().walk(rootTestDescriptor);
+		PendingTestDescriptors pendingChildren = this.request.getPendingTestDescriptors().orElse(null);
+		if (pendingChildren != null && !NodeUtils.asNode(rootTestDescriptor).getExclusiveResources().isEmpty()) {
+			// The resources of the root node have to be analyzed together with all of its descendants
+			awaitDiscovery(pendingChildren);
+			pendingChildren = null;
+		}
+		NodeTreeWalker treeWalker = new NodeTreeWalker(this.resourceAnalysisMode);
+		NodeExecutionAdvisor executionAdvisor = pendingChildren != null ? new NodeExecutionAdvisor()
+				: treeWalker.walk(rootTestDescriptor);
 		NodeTestTaskContext taskContext = new NodeTestTaskContext(executionListener, this.executorService,
-			this.throwableCollectorFactory, executionAdvisor);
+			this.throwableCollectorFactory, executionAdvisor, this.streamingExecution,
+			new FailFastMonitor(this.failFastThreshold), this.maxOutstandingDynamicTests);
 		NodeTestTask<C> rootTestTask = new NodeTestTask<>(taskContext, rootTestDescriptor);
 		rootTestTask.setParentContext(this.rootContext);
+		if (pendingChildren != null) {
+			rootTestTask.setPendingChildren(pendingChildren, treeWalker);
+		}
 		return this.executorService.submit(rootTestTask);
 	}
 
+	private static void awaitDiscovery(PendingTestDescriptors pendingChildren) {
+		try {
+			Optional<TestDescriptor> next;
+			do {
+				next = pendingChildren.next();
+			} while (next.isPresent());
+		}
+		catch (InterruptedException e) {
+			ExceptionUtils.throwAsUncheckedException(e);
+		}
+	}
+
 }
@@ -25,6 +25,8 @@ import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
+import org.junit.platform.commons.util.Preconditions;
+
 /**
  * @since 1.3
  */
@@ -34,6 +36,45 @@ class LockManager {
 		ExclusiveResource::getLockMode);
 
 	private final Map<String, ReadWriteLock> locksByKey = new ConcurrentHashMap<>();
+	private final Map<String, Integer> permitsByKey = new ConcurrentHashMap<>();
+
+	/**
+	 * Register the number of permits of all pooled resources in the supplied
+	 * collection.
+	 *
+	 * <p>Pooled resources have to be registered before any lock for their key
+	 * is requested so that requests for the same key without permits use the
+	 * same pool. Since a lock that has already been handed out cannot be
+	 * replaced, registering permits for a key that has already been locked
+	 * without permits fails.
+	 *
+	 * @throws org.junit.platform.commons.util.PreconditionViolationException
+	 * if a resource is declared with different numbers of permits or if
+	 * permits are registered for a key that has already been locked without
+	 * permits
+	 */
+	void registerPermits(Collection<ExclusiveResource> resources) {
+		resources.stream().filter(resource -> resource.getPermits() > 0).forEach(resource -> {
+			ReadWriteLock lock = locksByKey.get(resource.getKey());
+			Preconditions.condition(lock == null || lock instanceof SemaphoreReadWriteLock,
+				() -> String.format("Resource '%s' must not be declared with permits after it has been locked "
+						+ "without permits",
+					resource.getKey()));
+			Integer permits = permitsByKey.putIfAbsent(resource.getKey(), resource.getPermits());
+			Preconditions.condition(permits == null || permits == resource.getPermits(),
+				() -> String.format("Resource '%s' must not be declared with different numbers of permits: %d and %d",
+					resource.getKey(), permits, resource.getPermits()));
+		});
+	}
+
+	/**
+	 * Determine if the resource with the supplied key is a pooled resource,
+	 * i.e. if permits have been {@linkplain #registerPermits registered} for
+	 * it.
+	 */
+	boolean isPooled(String key) {
+		return permitsByKey.containsKey(key);
+	}
 
 	ResourceLock getLockForResources(Collection<ExclusiveResource> resources) {
 		List<Lock> locks = getDistinctSortedLocks(resources);
@@ -50,14 +91,18 @@ class LockManager {
 		return resourcesByKey.values().stream()
 				.map(resourcesWithSameKey -> resourcesWithSameKey.get(0))
 				.map(resource -> {
-					ReadWriteLock lock = this.locksByKey.computeIfAbsent(resource.getKey(),
-							key -> new ReentrantReadWriteLock());
+					ReadWriteLock lock = this.locksByKey.computeIfAbsent(resource.getKey(), this::createReadWriteLock);
 					return resource.getLockMode() == READ ? lock.readLock() : lock.writeLock();
 				})
 				.collect(toList());
 		// @formatter:on
 	}
 
+	private ReadWriteLock createReadWriteLock(String key) {
+		Integer permits = permitsByKey.get(key);
+		return permits == null ? new ReentrantReadWriteLock() : new SemaphoreReadWriteLock(permits);
+	}
+
 	private ResourceLock toResourceLock(List<Lock> locks) {
 		int size = locks.size();
 		if (size == 0) {
@@ -10,9 +10,9 @@
 
 package org.junit.platform.engine.support.hierarchical;
 
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.junit.platform.engine.TestDescriptor;
 import org.junit.platform.engine.support.hierarchical.Node.ExecutionMode;
@@ -22,8 +22,8 @@ import org.junit.platform.engine.support.hierarchical.Node.ExecutionMode;
  */
 class NodeExecutionAdvisor {
 
-	private final Map<TestDescriptor, ExecutionMode> forcedExecutionModeByTestDescriptor = new HashMap<>();
-	private final Map<TestDescriptor, ResourceLock> resourceLocksByTestDescriptor = new HashMap<>();
+	private final Map<TestDescriptor, ExecutionMode> forcedExecutionModeByTestDescriptor = new ConcurrentHashMap<>();
+	private final Map<TestDescriptor, ResourceLock> resourceLocksByTestDescriptor = new ConcurrentHashMap<>();
 
 	void forceExecutionMode(TestDescriptor testDescriptor, ExecutionMode executionMode) {
 		forcedExecutionModeByTestDescriptor.put(testDescriptor, executionMode);
@@ -40,4 +40,9 @@ class NodeExecutionAdvisor {
 	ResourceLock getResourceLock(TestDescriptor testDescriptor) {
 		return resourceLocksByTestDescriptor.getOrDefault(testDescriptor, NopLock.INSTANCE);
 	}
+
+	void remove(TestDescriptor testDescriptor) {
+		forcedExecutionModeByTestDescriptor.remove(testDescriptor);
+		resourceLocksByTestDescriptor.remove(testDescriptor);
+	}
 }
@@ -10,18 +10,27 @@
 
 package org.junit.platform.engine.support.hierarchical;
 
+import static java.util.Collections.emptySet;
 import static java.util.stream.Collectors.toCollection;
 import static org.junit.platform.engine.TestExecutionResult.failed;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinPool.ManagedBlocker;
 import java.util.concurrent.Future;
 
 import org.junit.platform.commons.JUnitException;
 import org.junit.platform.commons.util.ExceptionUtils;
+import org.junit.platform.commons.util.PreconditionViolationException;
+import org.junit.platform.engine.PendingTestDescriptors;
 import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.TestExecutionResult;
 import org.junit.platform.engine.support.hierarchical.HierarchicalTestExecutorService.TestTask;
 import org.junit.platform.engine.support.hierarchical.Node.DynamicTestExecutor;
 import org.junit.platform.engine.support.hierarchical.Node.ExecutionMode;
@@ -41,8 +50,13 @@ class NodeTestTask<C extends EngineExecutionContext> implements TestTask {
 
 	private SkipResult skipResult;
 	private boolean started;
+	private boolean cancelled;
 	private ThrowableCollector throwableCollector;
 
+	private PendingTestDescriptors pendingChildren;
+	private NodeTreeWalker treeWalker;
+	private boolean retainedByParent;
+
 	NodeTestTask(NodeTestTaskContext taskContext, TestDescriptor testDescriptor) {
 		this.taskContext = taskContext;
 		this.testDescriptor = testDescriptor;
@@ -51,6 +65,10 @@ class NodeTestTask<C extends EngineExecutionContext> implements TestTask {
 
 	@Override
 	public ResourceLock getResourceLock() {
+		if (taskContext.getFailFastMonitor().isCancelled()) {
+			// Cancelled tasks are only reported as skipped
+			return NopLock.INSTANCE;
+		}
 		return taskContext.getExecutionAdvisor().getResourceLock(testDescriptor);
 	}
 
@@ -59,26 +77,61 @@ class NodeTestTask<C extends EngineExecutionContext> implements TestTask {
 		return taskContext.getExecutionAdvisor().getForcedExecutionMode(testDescriptor).orElse(node.getExecutionMode());
 	}
 
+	TestDescriptor getTestDescriptor() {
+		return testDescriptor;
+	}
+
+	/**
+	 * Determine whether this task was skipped because the execution was
+	 * cancelled by the {@link FailFastMonitor}.
+	 */
+	boolean isCancelled() {
+		return cancelled;
+	}
+
 	void setParentContext(C parentContext) {
 		this.parentContext = parentContext;
 	}
 
+	/**
+	 * Execute the supplied pending children instead of the current children
+	 * of this task's test descriptor and analyze each of them using the
+	 * supplied {@link NodeTreeWalker} as soon as it becomes available.
+	 *
+	 * @since 1.4
+	 */
+	void setPendingChildren(PendingTestDescriptors pendingChildren, NodeTreeWalker treeWalker) {
+		this.pendingChildren = pendingChildren;
+		this.treeWalker = treeWalker;
+	}
+
 	@Override
 	public void execute() {
 		throwableCollector = taskContext.getThrowableCollectorFactory().create();
-		prepare();
-		if (throwableCollector.isEmpty()) {
-			checkWhetherSkipped();
+		if (taskContext.getFailFastMonitor().isCancelled()) {
+			cancel();
 		}
-		if (throwableCollector.isEmpty() && !skipResult.isSkipped()) {
-			executeRecursively();
-		}
-		if (context != null) {
-			cleanUp();
+		else {
+			prepare();
+			if (throwableCollector.isEmpty()) {
+				checkWhetherSkipped();
+			}
+			if (throwableCollector.isEmpty() && !skipResult.isSkipped()) {
+				executeRecursively();
+			}
+			if (context != null) {
+				cleanUp();
+			}
 		}
 		reportCompletion();
 	}
 
+	private void cancel() {
+		cancelled = true;
+		skipResult = SkipResult.skip(taskContext.getFailFastMonitor().getCancellationReason());
+		parentContext = null;
+	}
+
 	private void prepare() {
 		throwableCollector.execute(() -> context = node.prepare(parentContext));
 
@@ -96,8 +149,11 @@ class NodeTestTask<C extends EngineExecutionContext> implements TestTask {
 		started = true;
 
 		throwableCollector.execute(() -> {
+			// Pending children are executed once they have been discovered
+			Set<? extends TestDescriptor> childDescriptors = pendingChildren != null ? emptySet()
+					: testDescriptor.getChildren();
 			// @formatter:off
-			List<NodeTestTask<C>> children = testDescriptor.getChildren().stream()
+			List<NodeTestTask<C>> children = childDescriptors.stream()
 					.map(descriptor -> new NodeTestTask<C>(taskContext, descriptor))
 					.collect(toCollection(ArrayList::new));
 			// @formatter:on
@@ -112,12 +168,73 @@ class NodeTestTask<C extends EngineExecutionContext> implements TestTask {
 				taskContext.getExecutorService().invokeAll(children);
 			}
 
+			if (pendingChildren != null) {
+				executePendingChildren();
+			}
+
 			dynamicTestExecutor.awaitFinished();
 		});
 
 		throwableCollector.execute(() -> node.after(context));
 	}
 
+	private void executePendingChildren() throws InterruptedException {
+		Deque<ChildFuture> futures = new ArrayDeque<>();
+		List<TestDescriptor> finishedChildren = new ArrayList<>();
+		Optional<TestDescriptor> next = nextPendingChild();
+		while (next.isPresent()) {
+			TestDescriptor pendingChild = next.get();
+			try {
+				treeWalker.walkAddedSubtree(pendingChild, taskContext.getExecutionAdvisor());
+				NodeTestTask<C> child = new NodeTestTask<>(taskContext, pendingChild);
+				child.setParentContext(context);
+				child.retainedByParent = true;
+				futures.add(new ChildFuture(pendingChild, taskContext.getExecutorService().submit(child)));
+			}
+			catch (PreconditionViolationException e) {
+				// The exclusive resources of the child conflict with locks that have already been acquired
+				taskContext.getListener().executionStarted(pendingChild);
+				taskContext.getListener().executionFinished(pendingChild, failed(e));
+				finishedChildren.add(pendingChild);
+			}
+			while (!futures.isEmpty() && futures.peek().future.isDone()) {
+				ChildFuture finished = futures.remove();
+				await(finished.future);
+				finishedChildren.add(finished.descriptor);
+			}
+			next = nextPendingChild();
+		}
+		// Discovery has finished so that the children of this task's test descriptor are no longer modified
+		finishedChildren.forEach(this::releasePendingChild);
+		while (!futures.isEmpty()) {
+			ChildFuture finished = futures.remove();
+			await(finished.future);
+			releasePendingChild(finished.descriptor);
+		}
+	}
+
+	private Optional<TestDescriptor> nextPendingChild() throws InterruptedException {
+		// Allow the fork-join pool to compensate for the worker that waits for discovery
+		PendingChildBlocker blocker = new PendingChildBlocker();
+		ForkJoinPool.managedBlock(blocker);
+		return blocker.next;
+	}
+
+	private void releasePendingChild(TestDescriptor child) {
+		if (taskContext.isStreamingExecution() && child.getParent().isPresent()) {
+			child.removeFromHierarchy();
+		}
+	}
+
+	private static void await(Future<?> future) throws InterruptedException {
+		try {
+			future.get();
+		}
+		catch (ExecutionException e) {
+			ExceptionUtils.throwAsUncheckedException(e.getCause());
+		}
+	}
+
 	private void cleanUp() {
 		throwableCollector.execute(() -> node.cleanUp(context));
 
@@ -129,45 +246,132 @@ class NodeTestTask<C extends EngineExecutionContext> implements TestTask {
 	private void reportCompletion() {
 		if (throwableCollector.isEmpty() && skipResult.isSkipped()) {
 			taskContext.getListener().executionSkipped(testDescriptor, skipResult.getReason().orElse("<unknown>"));
-			return;
 		}
-		if (!started) {
-			// Call executionStarted first to comply with the contract of EngineExecutionListener.
-			taskContext.getListener().executionStarted(testDescriptor);
+		else {
+			if (!started) {
+				// Call executionStarted first to comply with the contract of EngineExecutionListener.
+				taskContext.getListener().executionStarted(testDescriptor);
+			}
+			TestExecutionResult result = throwableCollector.toTestExecutionResult();
+			taskContext.getFailFastMonitor().recordResult(result);
+			taskContext.getListener().executionFinished(testDescriptor, result);
 		}
-		taskContext.getListener().executionFinished(testDescriptor, throwableCollector.toTestExecutionResult());
 		throwableCollector = null;
+		if (taskContext.isStreamingExecution()) {
+			releaseTestDescriptor();
+		}
+	}
+
+	/**
+	 * Detach the finished test descriptor from its parent so that it and its
+	 * already detached descendants can be garbage collected.
+	 *
+	 * <p>Pending and dynamic children are detached by the task executing
+	 * their parent instead since the children of the parent may still be
+	 * modified concurrently while they are being discovered or registered.
+	 * Pending children are only detached once discovery has finished.
+	 */
+	private void releaseTestDescriptor() {
+		taskContext.getExecutionAdvisor().remove(testDescriptor);
+		if (!testDescriptor.isRoot() && !retainedByParent) {
+			testDescriptor.removeFromHierarchy();
+		}
 	}
 
+	/**
+	 * Submits dynamic tests to the executor service while keeping at most
+	 * {@linkplain NodeTestTaskContext#getMaxOutstandingDynamicTests() the
+	 * configured number} of them outstanding.
+	 *
+	 * <p>Futures of finished dynamic tests are released as soon as possible so
+	 * that test factories producing a large number of dynamic tests do not keep
+	 * all of them reachable until the factory has finished. In streaming mode,
+	 * their test descriptors are detached from their parent as well. This
+	 * happens in the thread executing the parent since that is where new
+	 * dynamic children are added to it.
+	 */
 	private class DefaultDynamicTestExecutor implements DynamicTestExecutor {
-		private final List<Future<?>> futures = new ArrayList<>();
+		private final Deque<ChildFuture> futures = new ArrayDeque<>();
 
 		@Override
 		public void execute(TestDescriptor dynamicTestDescriptor) {
+			if (taskContext.getFailFastMonitor().isCancelled()) {
+				// Stop accepting new dynamic tests once the execution has been cancelled
+				return;
+			}
 			taskContext.getListener().dynamicTestRegistered(dynamicTestDescriptor);
 			Set<ExclusiveResource> exclusiveResources = NodeUtils.asNode(dynamicTestDescriptor).getExclusiveResources();
 			if (!exclusiveResources.isEmpty()) {
 				taskContext.getListener().executionStarted(dynamicTestDescriptor);
 				String message = "Dynamic test descriptors must not declare exclusive resources: " + exclusiveResources;
 				taskContext.getListener().executionFinished(dynamicTestDescriptor, failed(new JUnitException(message)));
+				detach(dynamicTestDescriptor);
 			}
 			else {
 				NodeTestTask<C> nodeTestTask = new NodeTestTask<>(taskContext, dynamicTestDescriptor);
 				nodeTestTask.setParentContext(context);
-				futures.add(taskContext.getExecutorService().submit(nodeTestTask));
+				nodeTestTask.retainedByParent = true;
+				awaitOutstandingBelowLimit();
+				Future<?> future = taskContext.getExecutorService().submit(nodeTestTask);
+				futures.add(new ChildFuture(dynamicTestDescriptor, future));
 			}
 		}
 
-		@Override
-		public void awaitFinished() throws InterruptedException {
-			for (Future<?> future : futures) {
-				try {
-					future.get();
+		private void awaitOutstandingBelowLimit() {
+			try {
+				while (!futures.isEmpty() && futures.peek().future.isDone()) {
+					awaitAndDetach(futures.remove());
 				}
-				catch (ExecutionException e) {
-					ExceptionUtils.throwAsUncheckedException(e.getCause());
+				while (futures.size() >= taskContext.getMaxOutstandingDynamicTests()) {
+					awaitAndDetach(futures.remove());
 				}
 			}
+			catch (InterruptedException e) {
+				ExceptionUtils.throwAsUncheckedException(e);
+			}
+		}
+
+		@Override
+		public void awaitFinished() throws InterruptedException {
+			while (!futures.isEmpty()) {
+				awaitAndDetach(futures.remove());
+			}
+		}
+
+		private void awaitAndDetach(ChildFuture childFuture) throws InterruptedException {
+			await(childFuture.future);
+			detach(childFuture.descriptor);
+		}
+
+		private void detach(TestDescriptor dynamicTestDescriptor) {
+			if (taskContext.isStreamingExecution() && dynamicTestDescriptor.getParent().isPresent()) {
+				dynamicTestDescriptor.removeFromHierarchy();
+			}
+		}
+	}
+
+	private class PendingChildBlocker implements ManagedBlocker {
+		private Optional<TestDescriptor> next;
+
+		@Override
+		public boolean block() throws InterruptedException {
+			next = pendingChildren.next();
+			return true;
+		}
+
+		@Override
+		public boolean isReleasable() {
+			return next != null;
+		}
+	}
+
+	private static class ChildFuture {
+		private final TestDescriptor descriptor;
+		private final Future<?> future;
+
+		ChildFuture(TestDescriptor descriptor, Future<?> future) {
+			this.descriptor = descriptor;
+			this.future = future;
 		}
 	}
 }
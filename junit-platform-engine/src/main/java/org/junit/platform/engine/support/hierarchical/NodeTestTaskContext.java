@@ -21,13 +21,26 @@ class NodeTestTaskContext {
 	private final HierarchicalTestExecutorService executorService;
 	private final ThrowableCollector.Factory throwableCollectorFactory;
 	private final NodeExecutionAdvisor executionAdvisor;
+	private final boolean streamingExecution;
+	private final FailFastMonitor failFastMonitor;
+	private final int maxOutstandingDynamicTests;
 
 	public NodeTestTaskContext(EngineExecutionListener listener, HierarchicalTestExecutorService executorService,
 			ThrowableCollector.Factory throwableCollectorFactory, NodeExecutionAdvisor executionAdvisor) {
+		this(listener, executorService, throwableCollectorFactory, executionAdvisor, false, FailFastMonitor.DISABLED,
+			HierarchicalTestEngine.DEFAULT_MAX_OUTSTANDING_DYNAMIC_TESTS);
+	}
+
+	NodeTestTaskContext(EngineExecutionListener listener, HierarchicalTestExecutorService executorService,
+			ThrowableCollector.Factory throwableCollectorFactory, NodeExecutionAdvisor executionAdvisor,
+			boolean streamingExecution, FailFastMonitor failFastMonitor, int maxOutstandingDynamicTests) {
 		this.listener = listener;
 		this.executorService = executorService;
 		this.throwableCollectorFactory = throwableCollectorFactory;
 		this.executionAdvisor = executionAdvisor;
+		this.streamingExecution = streamingExecution;
+		this.failFastMonitor = failFastMonitor;
+		this.maxOutstandingDynamicTests = maxOutstandingDynamicTests;
 	}
 
 	EngineExecutionListener getListener() {
@@ -45,4 +58,16 @@ class NodeTestTaskContext {
 	NodeExecutionAdvisor getExecutionAdvisor() {
 		return executionAdvisor;
 	}
+
+	boolean isStreamingExecution() {
+		return streamingExecution;
+	}
+
+	FailFastMonitor getFailFastMonitor() {
+		return failFastMonitor;
+	}
+
+	int getMaxOutstandingDynamicTests() {
+		return maxOutstandingDynamicTests;
+	}
 }
@@ -10,13 +10,20 @@
 
 package org.junit.platform.engine.support.hierarchical;
 
+import static org.junit.platform.engine.support.hierarchical.ExclusiveResource.LockMode.READ;
 import static org.junit.platform.engine.support.hierarchical.Node.ExecutionMode.SAME_THREAD;
+import static org.junit.platform.engine.support.hierarchical.ResourceAnalysisMode.FINE_GRAINED;
+import static org.junit.platform.engine.support.hierarchical.ResourceAnalysisMode.SUBTREE;
 
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.function.Consumer;
 
 import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.support.hierarchical.ExclusiveResource.LockMode;
 
 /**
  * @since 1.3
@@ -24,19 +31,45 @@ import org.junit.platform.engine.TestDescriptor;
 class NodeTreeWalker {
 
 	private final LockManager lockManager = new LockManager();
+	private final ResourceAnalysisMode resourceAnalysisMode;
+
+	NodeTreeWalker() {
+		this(SUBTREE);
+	}
+
+	NodeTreeWalker(ResourceAnalysisMode resourceAnalysisMode) {
+		this.resourceAnalysisMode = resourceAnalysisMode;
+	}
 
 	NodeExecutionAdvisor walk(TestDescriptor testDescriptor) {
+		registerPermits(testDescriptor);
 		NodeExecutionAdvisor advisor = new NodeExecutionAdvisor();
 		walk(testDescriptor, advisor);
 		return advisor;
 	}
 
+	/**
+	 * Analyze the supplied subtree that has been added to a tree that is
+	 * already being executed and record the results in the supplied advisor.
+	 *
+	 * @since 1.4
+	 */
+	void walkAddedSubtree(TestDescriptor testDescriptor, NodeExecutionAdvisor advisor) {
+		registerPermits(testDescriptor);
+		walk(testDescriptor, advisor);
+	}
+
+	private void registerPermits(TestDescriptor testDescriptor) {
+		lockManager.registerPermits(getExclusiveResources(testDescriptor));
+		testDescriptor.getChildren().forEach(this::registerPermits);
+	}
+
 	private void walk(TestDescriptor testDescriptor, NodeExecutionAdvisor advisor) {
 		Set<ExclusiveResource> exclusiveResources = getExclusiveResources(testDescriptor);
 		if (exclusiveResources.isEmpty()) {
 			testDescriptor.getChildren().forEach(child -> walk(child, advisor));
 		}
-		else {
+		else if (resourceAnalysisMode != FINE_GRAINED || !useFineGrainedLocks(testDescriptor, advisor)) {
 			Set<ExclusiveResource> allResources = new HashSet<>(exclusiveResources);
 			doForChildrenRecursively(testDescriptor, child -> {
 				allResources.addAll(getExclusiveResources(child));
@@ -46,6 +79,90 @@ class NodeTreeWalker {
 		}
 	}
 
+	private boolean useFineGrainedLocks(TestDescriptor testDescriptor, NodeExecutionAdvisor advisor) {
+		Map<TestDescriptor, Set<ExclusiveResource>> resourcesToLock = new LinkedHashMap<>();
+		Set<TestDescriptor> sameThreadDescendants = new HashSet<>();
+		if (!collectCompatibleResources(testDescriptor, new TreeMap<>(), resourcesToLock, sameThreadDescendants)) {
+			return false;
+		}
+		sameThreadDescendants.forEach(descendant -> advisor.forceExecutionMode(descendant, SAME_THREAD));
+		resourcesToLock.forEach(
+			(descriptor, resources) -> advisor.useResourceLock(descriptor, lockManager.getLockForResources(resources)));
+		return true;
+	}
+
+	/**
+	 * Collect the resources that need to be locked for the supplied node and
+	 * all of its descendants while its ancestors hold the supplied locks.
+	 *
+	 * <p>Resources that only require read access to a resource that is already
+	 * locked by an ancestor are covered by the ancestor's lock. Descendants
+	 * executed in other threads must not try to acquire the same locks again
+	 * and all other locks must be acquired in the order used by the
+	 * {@link LockManager} to avoid deadlocks.
+	 *
+	 * <p>If the node requires more than read access to any of its resources or
+	 * declares a pooled resource, its descendants are executed in the same
+	 * thread while it holds the lock, exactly like in
+	 * {@link ResourceAnalysisMode#SUBTREE} mode, and their resources are locked
+	 * together with the node's own resources. Thus, a permit of a pooled
+	 * resource is never used by more than one test at a time.
+	 *
+	 * @return {@code false} if any resource is incompatible with the locks
+	 * held by its ancestors
+	 */
+	private boolean collectCompatibleResources(TestDescriptor testDescriptor,
+			TreeMap<String, LockMode> lockedByAncestors, Map<TestDescriptor, Set<ExclusiveResource>> resourcesToLock,
+			Set<TestDescriptor> sameThreadDescendants) {
+		Set<ExclusiveResource> candidates = new HashSet<>(getExclusiveResources(testDescriptor));
+		boolean lockSubtree = candidates.stream().anyMatch(this::requiresSubtreeLock);
+		if (lockSubtree) {
+			doForChildrenRecursively(testDescriptor, child -> {
+				candidates.addAll(getExclusiveResources(child));
+				sameThreadDescendants.add(child);
+			});
+		}
+		Set<ExclusiveResource> resources = new HashSet<>();
+		TreeMap<String, LockMode> locked = new TreeMap<>(lockedByAncestors);
+		for (ExclusiveResource resource : candidates) {
+			String key = resource.getKey();
+			if (lockedByAncestors.containsKey(key)) {
+				// a permit of a pooled resource is never shared with descendants
+				if (resource.getLockMode() != READ || lockManager.isPooled(key)) {
+					return false;
+				}
+			}
+			else if (!lockedByAncestors.isEmpty() && key.compareTo(lockedByAncestors.lastKey()) < 0) {
+				return false;
+			}
+			else {
+				resources.add(resource);
+				// LockMode constants are sorted from strongest to weakest
+				locked.merge(key, resource.getLockMode(), (a, b) -> a.compareTo(b) <= 0 ? a : b);
+			}
+		}
+		if (!resources.isEmpty()) {
+			resourcesToLock.put(testDescriptor, resources);
+		}
+		if (!lockSubtree) {
+			for (TestDescriptor child : testDescriptor.getChildren()) {
+				if (!collectCompatibleResources(child, locked, resourcesToLock, sameThreadDescendants)) {
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Determine if the descendants of a node that declares the supplied
+	 * resource must be executed in the same thread while the node holds the
+	 * lock for it.
+	 */
+	private boolean requiresSubtreeLock(ExclusiveResource resource) {
+		return resource.getLockMode() != READ || lockManager.isPooled(resource.getKey());
+	}
+
 	private Set<ExclusiveResource> getExclusiveResources(TestDescriptor testDescriptor) {
 		return NodeUtils.asNode(testDescriptor).getExclusiveResources();
 	}
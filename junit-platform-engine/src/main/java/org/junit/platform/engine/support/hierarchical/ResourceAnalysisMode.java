@@ -0,0 +1,50 @@
+/*
+ * Copyright 2015-2018 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.engine.support.hierarchical;
+
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+import org.apiguardian.api.API;
+import org.junit.platform.engine.ExecutionRequest;
+
+/**
+ * Modes for analyzing the {@linkplain Node#getExclusiveResources() exclusive
+ * resources} of a node hierarchy in order to determine where resource locks
+ * are acquired and which nodes have to be executed in the same thread as
+ * their parent.
+ *
+ * @since 1.4
+ * @see HierarchicalTestEngine#getResourceAnalysisMode(ExecutionRequest)
+ */
+@API(status = EXPERIMENTAL, since = "1.4")
+public enum ResourceAnalysisMode {
+
+	/**
+	 * Lock the exclusive resources of a node and all of its descendants when
+	 * executing the node and execute all descendants in the same thread.
+	 */
+	SUBTREE,
+
+	/**
+	 * Lock the exclusive resources of each node only when executing the node
+	 * itself and keep its descendants concurrent as long as their resources
+	 * are compatible with the ones locked by their ancestors.
+	 *
+	 * <p>The resources of a descendant are compatible if they only require
+	 * {@linkplain ExclusiveResource.LockMode#READ read access} to resources
+	 * locked by an ancestor, or if all of their other keys sort after the keys
+	 * of the resources locked by its ancestors so that all locks are always
+	 * acquired in the same global order. If a descendant declares any
+	 * incompatible resource, the node falls back to {@link #SUBTREE}.
+	 */
+	FINE_GRAINED
+
+}
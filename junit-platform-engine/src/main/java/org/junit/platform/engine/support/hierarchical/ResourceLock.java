@@ -34,6 +34,26 @@ public interface ResourceLock extends AutoCloseable {
 	 */
 	ResourceLock acquire() throws InterruptedException;
 
+	/**
+	 * Try to acquire this resource lock without blocking.
+	 *
+	 * <p>If this method returns {@code true}, the lock has been acquired and
+	 * must be {@linkplain #release() released} by the caller.
+	 *
+	 * <p>The default implementation never acquires the lock and always
+	 * returns {@code false} so that callers fall back to {@link #acquire()}.
+	 * Implementations should override this method if they can determine
+	 * whether the lock is available without blocking.
+	 *
+	 * @return {@code true} if this lock was acquired; {@code false} otherwise
+	 * @throws InterruptedException if the calling thread is interrupted
+	 * while trying to acquire this lock
+	 * @since 1.4
+	 */
+	default boolean tryAcquire() throws InterruptedException {
+		return false;
+	}
+
 	/**
 	 * Release this resource lock.
 	 */
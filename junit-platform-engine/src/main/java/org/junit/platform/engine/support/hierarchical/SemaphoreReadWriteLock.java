@@ -0,0 +1,109 @@
+/*
+ * Copyright 2015-2018 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.engine.support.hierarchical;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+
+/**
+ * {@link ReadWriteLock} for pooled {@linkplain ExclusiveResource exclusive
+ * resources} backed by a fair {@link Semaphore} with a fixed number of
+ * permits.
+ *
+ * <p>The {@linkplain #readLock() read lock} acquires a single permit, the
+ * {@linkplain #writeLock() write lock} acquires all permits. In contrast to
+ * {@link java.util.concurrent.locks.ReentrantReadWriteLock}, neither lock is
+ * reentrant.
+ *
+ * @since 1.4
+ */
+class SemaphoreReadWriteLock implements ReadWriteLock {
+
+	private final Lock readLock;
+	private final Lock writeLock;
+
+	SemaphoreReadWriteLock(int permits) {
+		Semaphore semaphore = new Semaphore(permits, true);
+		this.readLock = new PermitsLock(semaphore, 1);
+		this.writeLock = new PermitsLock(semaphore, permits);
+	}
+
+	@Override
+	public Lock readLock() {
+		return readLock;
+	}
+
+	@Override
+	public Lock writeLock() {
+		return writeLock;
+	}
+
+	static class PermitsLock implements Lock {
+
+		private final Semaphore semaphore;
+		private final int permits;
+
+		PermitsLock(Semaphore semaphore, int permits) {
+			this.semaphore = semaphore;
+			this.permits = permits;
+		}
+
+		// for tests only
+		int getPermits() {
+			return permits;
+		}
+
+		@Override
+		public void lock() {
+			semaphore.acquireUninterruptibly(permits);
+		}
+
+		@Override
+		public void lockInterruptibly() throws InterruptedException {
+			semaphore.acquire(permits);
+		}
+
+		@Override
+		public boolean tryLock() {
+			return semaphore.tryAcquire(permits);
+		}
+
+		@Override
+		public boolean tryLock(long time, TimeUnit unit) throws InterruptedException {
+			return semaphore.tryAcquire(permits, time, unit);
+		}
+
+		@Override
+		public void unlock() {
+			semaphore.release(permits);
+		}
+
+		/**
+		 * Not supported since a permit is not owned by a thread that could
+		 * wait for a condition.
+		 *
+		 * <p>Locks created by the {@link LockManager} are only ever acquired
+		 * and released by {@link SingleLock} and {@link CompositeLock}, which
+		 * never request a condition.
+		 *
+		 * @throws UnsupportedOperationException always
+		 */
+		@Override
+		public Condition newCondition() {
+			throw new UnsupportedOperationException("Conditions are not supported by resource permits");
+		}
+
+	}
+
+}
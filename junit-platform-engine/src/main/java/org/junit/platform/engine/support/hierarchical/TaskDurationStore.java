@@ -0,0 +1,143 @@
+/*
+ * Copyright 2015-2018 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.engine.support.hierarchical;
+
+import static java.util.Comparator.comparingLong;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.junit.platform.commons.logging.Logger;
+import org.junit.platform.commons.logging.LoggerFactory;
+import org.junit.platform.engine.support.hierarchical.HierarchicalTestExecutorService.TestTask;
+
+/**
+ * Local store of the execution durations of {@linkplain NodeTestTask node
+ * test tasks} keyed by the {@link org.junit.platform.engine.UniqueId UniqueId}
+ * of their test descriptors.
+ *
+ * <p>Durations recorded during the current run replace the ones loaded from
+ * previous runs and are written back when the store is {@linkplain #save()
+ * saved}.
+ *
+ * @since 1.4
+ * @see ForkJoinPoolHierarchicalTestExecutorService
+ */
+class TaskDurationStore {
+
+	static final String FILE_NAME = "junit-task-durations.properties";
+
+	private static final Logger logger = LoggerFactory.getLogger(TaskDurationStore.class);
+
+	private final Path file;
+	private final Map<String, Long> durationsInMillis = new ConcurrentHashMap<>();
+
+	static TaskDurationStore load(Path directory) {
+		TaskDurationStore store = new TaskDurationStore(directory.resolve(FILE_NAME));
+		store.readDurations();
+		return store;
+	}
+
+	private TaskDurationStore(Path file) {
+		this.file = file;
+	}
+
+	private void readDurations() {
+		if (!Files.isRegularFile(file)) {
+			return;
+		}
+		Properties properties = new Properties();
+		try (InputStream inputStream = Files.newInputStream(file)) {
+			properties.load(inputStream);
+		}
+		catch (IOException ex) {
+			logger.warn(ex, () -> "Failed to read task durations from " + file);
+			return;
+		}
+		properties.stringPropertyNames().forEach(key -> {
+			try {
+				durationsInMillis.put(key, Long.parseLong(properties.getProperty(key)));
+			}
+			catch (NumberFormatException ex) {
+				logger.debug(() -> "Ignoring invalid task duration for " + key);
+			}
+		});
+	}
+
+	/**
+	 * Get the duration recorded for the supplied task, if any.
+	 */
+	Optional<Long> getDurationInMillis(TestTask testTask) {
+		return getKey(testTask).map(durationsInMillis::get);
+	}
+
+	/**
+	 * Record the duration of the supplied task, replacing any previously
+	 * recorded value.
+	 *
+	 * <p>Durations of tasks that were cancelled instead of being executed are
+	 * ignored.
+	 */
+	void record(TestTask testTask, long durationInMillis) {
+		if (testTask instanceof NodeTestTask && ((NodeTestTask<?>) testTask).isCancelled()) {
+			return;
+		}
+		getKey(testTask).ifPresent(key -> durationsInMillis.put(key, durationInMillis));
+	}
+
+	/**
+	 * Sort the supplied tasks by their recorded durations, longest first.
+	 *
+	 * <p>The sort is stable and tasks without a recorded duration are treated
+	 * as taking no time, i.e. they keep their relative order and are placed
+	 * after all tasks whose duration is known.
+	 */
+	<T extends TestTask> List<T> sortLongestFirst(List<T> testTasks) {
+		List<T> result = new ArrayList<>(testTasks);
+		result.sort(comparingLong((T testTask) -> getDurationInMillis(testTask).orElse(0L)).reversed());
+		return result;
+	}
+
+	/**
+	 * Write all durations to the underlying file, creating its parent
+	 * directories if necessary.
+	 */
+	void save() {
+		Properties properties = new Properties();
+		durationsInMillis.forEach((key, duration) -> properties.setProperty(key, String.valueOf(duration)));
+		try {
+			Files.createDirectories(file.getParent());
+			try (OutputStream outputStream = Files.newOutputStream(file)) {
+				properties.store(outputStream, "Task durations in milliseconds recorded by JUnit");
+			}
+		}
+		catch (IOException ex) {
+			logger.warn(ex, () -> "Failed to write task durations to " + file);
+		}
+	}
+
+	private static Optional<String> getKey(TestTask testTask) {
+		if (testTask instanceof NodeTestTask) {
+			return Optional.of(((NodeTestTask<?>) testTask).getTestDescriptor().getUniqueId().toString());
+		}
+		return Optional.empty();
+	}
+
+}
@@ -0,0 +1,315 @@
+/*
+ * Copyright 2015-2018 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.engine.support.hierarchical;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+import static org.junit.platform.engine.support.hierarchical.Node.ExecutionMode.CONCURRENT;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apiguardian.api.API;
+import org.junit.platform.commons.JUnitException;
+import org.junit.platform.commons.logging.Logger;
+import org.junit.platform.commons.logging.LoggerFactory;
+import org.junit.platform.commons.util.ExceptionUtils;
+import org.junit.platform.engine.ConfigurationParameters;
+
+/**
+ * An {@linkplain HierarchicalTestExecutorService executor service} that
+ * executes each concurrent {@linkplain TestTask test task} in its own virtual
+ * thread.
+ *
+ * <p>In contrast to the {@link ForkJoinPoolHierarchicalTestExecutorService},
+ * whose parallelism is usually tied to the number of available processors,
+ * the number of tasks executed concurrently by this service is only limited
+ * by the configured {@linkplain #CONFIG_CONCURRENCY_LIMIT_PROPERTY_NAME
+ * concurrency limit}. It is therefore well suited for tests that spend most of
+ * their time waiting for I/O.
+ *
+ * <p>Tasks count against the concurrency limit only while they are running;
+ * tasks that are waiting for their {@linkplain TestTask#getResourceLock()
+ * resource lock} or for their children to finish do not.
+ *
+ * <p>Virtual threads are only available on Java 21 or later. On earlier Java
+ * versions, this service falls back to using at most as many platform threads
+ * as the configured concurrency limit. If all of them are busy, a task is
+ * executed by the thread that submits it.
+ *
+ * @see ForkJoinPoolHierarchicalTestExecutorService
+ * @since 1.4
+ */
+@API(status = EXPERIMENTAL, since = "1.4")
+public class VirtualThreadHierarchicalTestExecutorService implements HierarchicalTestExecutorService {
+
+	/**
+	 * Property name used to set the maximum number of test tasks that may be
+	 * running at the same time.
+	 *
+	 * <p>Value must be a positive integer; defaults to
+	 * {@value #DEFAULT_CONCURRENCY_LIMIT}.
+	 */
+	public static final String CONFIG_CONCURRENCY_LIMIT_PROPERTY_NAME = "concurrency.limit";
+
+	static final int DEFAULT_CONCURRENCY_LIMIT = 256;
+
+	private static final Logger logger = LoggerFactory.getLogger(VirtualThreadHierarchicalTestExecutorService.class);
+
+	private final ThreadLocal<Boolean> holdsPermit = ThreadLocal.withInitial(() -> false);
+	private final ThreadLocal<Boolean> runningInService = ThreadLocal.withInitial(() -> false);
+	private final Semaphore permits;
+	private final ExecutorService executorService;
+
+	/**
+	 * Create a new {@code VirtualThreadHierarchicalTestExecutorService} based
+	 * on the supplied {@link ConfigurationParameters}.
+	 *
+	 * @see #CONFIG_CONCURRENCY_LIMIT_PROPERTY_NAME
+	 */
+	public VirtualThreadHierarchicalTestExecutorService(ConfigurationParameters configurationParameters) {
+		int concurrencyLimit = getConcurrencyLimit(configurationParameters);
+		permits = new Semaphore(concurrencyLimit, true);
+		executorService = createExecutorService(concurrencyLimit);
+		logger.config(() -> "Using virtual threads with concurrency limit of " + concurrencyLimit);
+	}
+
+	private static int getConcurrencyLimit(ConfigurationParameters configurationParameters) {
+		String value = configurationParameters.get(CONFIG_CONCURRENCY_LIMIT_PROPERTY_NAME).orElse(null);
+		if (value == null) {
+			return DEFAULT_CONCURRENCY_LIMIT;
+		}
+		try {
+			int concurrencyLimit = Integer.parseInt(value.trim());
+			if (concurrencyLimit > 0) {
+				return concurrencyLimit;
+			}
+		}
+		catch (NumberFormatException ex) {
+			// fall through
+		}
+		throw new JUnitException(String.format("Invalid value '%s' for configuration parameter '%s'", value,
+			CONFIG_CONCURRENCY_LIMIT_PROPERTY_NAME));
+	}
+
+	private static ExecutorService createExecutorService(int concurrencyLimit) {
+		ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+		try {
+			// Try to use API available in Java >= 21
+			Class<?> builderType = Class.forName("java.lang.Thread$Builder");
+			Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+			builder = builderType.getMethod("name", String.class, Long.TYPE).invoke(builder, "junit-virtual-", 0L);
+			ThreadFactory threadFactory = (ThreadFactory) builderType.getMethod("factory").invoke(builder);
+			return (ExecutorService) Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class).invoke(
+				null, withContextClassLoader(threadFactory, contextClassLoader));
+		}
+		catch (Exception e) {
+			// Fallback for Java < 21
+			logger.warn(() -> "Virtual threads are not supported by the current JVM; using at most "
+					+ concurrencyLimit + " platform threads instead");
+			AtomicLong threadNumber = new AtomicLong();
+			ThreadFactory threadFactory = runnable -> {
+				Thread thread = new Thread(runnable, "junit-platform-" + threadNumber.getAndIncrement());
+				thread.setDaemon(true);
+				return thread;
+			};
+			// Tasks that are submitted while all threads are busy are executed
+			// by the submitting thread so that waiting for them cannot deadlock.
+			return new ThreadPoolExecutor(0, concurrencyLimit, 60L, TimeUnit.SECONDS, new SynchronousQueue<>(),
+				withContextClassLoader(threadFactory, contextClassLoader), new ThreadPoolExecutor.CallerRunsPolicy());
+		}
+	}
+
+	private static ThreadFactory withContextClassLoader(ThreadFactory delegate, ClassLoader contextClassLoader) {
+		return runnable -> {
+			Thread thread = delegate.newThread(runnable);
+			thread.setContextClassLoader(contextClassLoader);
+			return thread;
+		};
+	}
+
+	@Override
+	public Future<Void> submit(TestTask testTask) {
+		if (runningInService.get() && testTask.getExecutionMode() != CONCURRENT) {
+			executeTask(testTask);
+			return completedFuture(null);
+		}
+		return new PermitReleasingFuture(fork(testTask));
+	}
+
+	@Override
+	public void invokeAll(List<? extends TestTask> tasks) {
+		List<Future<?>> futures = new ArrayList<>(tasks.size());
+		List<TestTask> nonConcurrentTasks = new ArrayList<>(tasks.size());
+		for (TestTask testTask : tasks) {
+			if (testTask.getExecutionMode() == CONCURRENT && tasks.size() > 1) {
+				futures.add(fork(testTask));
+			}
+			else {
+				nonConcurrentTasks.add(testTask);
+			}
+		}
+		nonConcurrentTasks.forEach(this::executeTask);
+		for (Future<?> future : futures) {
+			awaitWithoutPermit(future);
+		}
+	}
+
+	private Future<?> fork(TestTask testTask) {
+		return executorService.submit(() -> {
+			// the submitting thread may execute the task itself
+			boolean wasRunningInService = runningInService.get();
+			runningInService.set(true);
+			try {
+				executeTask(testTask);
+			}
+			finally {
+				runningInService.set(wasRunningInService);
+			}
+			return null;
+		});
+	}
+
+	@SuppressWarnings("try")
+	private void executeTask(TestTask testTask) {
+		ResourceLock resourceLock = testTask.getResourceLock();
+		if (holdsPermit.get() && resourceLock == NopLock.INSTANCE) {
+			testTask.execute();
+			return;
+		}
+		// Acquire the resource lock before the permit so that tasks waiting
+		// for a lock do not prevent the holder's children from running.
+		boolean heldPermit = releasePermit();
+		try (ResourceLock lock = resourceLock.acquire()) {
+			acquirePermit();
+			try {
+				testTask.execute();
+			}
+			finally {
+				releasePermit();
+			}
+		}
+		catch (InterruptedException e) {
+			ExceptionUtils.throwAsUncheckedException(e);
+		}
+		finally {
+			reacquirePermit(heldPermit);
+		}
+	}
+
+	private void acquirePermit() throws InterruptedException {
+		permits.acquire();
+		holdsPermit.set(true);
+	}
+
+	private boolean releasePermit() {
+		if (!holdsPermit.get()) {
+			return false;
+		}
+		holdsPermit.set(false);
+		permits.release();
+		return true;
+	}
+
+	private void reacquirePermit(boolean heldPermit) {
+		if (heldPermit) {
+			permits.acquireUninterruptibly();
+			holdsPermit.set(true);
+		}
+	}
+
+	private void awaitWithoutPermit(Future<?> future) {
+		boolean heldPermit = releasePermit();
+		try {
+			future.get();
+		}
+		catch (ExecutionException e) {
+			ExceptionUtils.throwAsUncheckedException(e.getCause());
+		}
+		catch (InterruptedException e) {
+			ExceptionUtils.throwAsUncheckedException(e);
+		}
+		finally {
+			reacquirePermit(heldPermit);
+		}
+	}
+
+	@Override
+	public void close() {
+		executorService.shutdownNow();
+	}
+
+	/**
+	 * Releases the permit of the waiting thread while it is blocked in
+	 * {@link #get()} so that the awaited task can run even if the concurrency
+	 * limit has been reached.
+	 */
+	private class PermitReleasingFuture implements Future<Void> {
+
+		private final Future<?> delegate;
+
+		PermitReleasingFuture(Future<?> delegate) {
+			this.delegate = delegate;
+		}
+
+		@Override
+		public boolean cancel(boolean mayInterruptIfRunning) {
+			return delegate.cancel(mayInterruptIfRunning);
+		}
+
+		@Override
+		public boolean isCancelled() {
+			return delegate.isCancelled();
+		}
+
+		@Override
+		public boolean isDone() {
+			return delegate.isDone();
+		}
+
+		@Override
+		public Void get() throws InterruptedException, ExecutionException {
+			boolean heldPermit = releasePermit();
+			try {
+				delegate.get();
+				return null;
+			}
+			finally {
+				reacquirePermit(heldPermit);
+			}
+		}
+
+		@Override
+		public Void get(long timeout, TimeUnit unit) throws InterruptedException, ExecutionException, TimeoutException {
+			boolean heldPermit = releasePermit();
+			try {
+				delegate.get(timeout, unit);
+				return null;
+			}
+			finally {
+				reacquirePermit(heldPermit);
+			}
+		}
+
+	}
+
+}
@@ -10,9 +10,11 @@
 
 package org.junit.platform.launcher;
 
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
 import static org.apiguardian.api.API.Status.STABLE;
 
 import org.apiguardian.api.API;
+import org.junit.platform.commons.util.PreconditionViolationException;
 
 /**
  * The {@code Launcher} API is the main entry point for client code that
@@ -89,4 +91,34 @@ public interface Launcher {
 	 */
 	void execute(LauncherDiscoveryRequest launcherDiscoveryRequest, TestExecutionListener... listeners);
 
+	/**
+	 * Execute the supplied {@link TestPlan} and notify
+	 * {@linkplain #registerTestExecutionListeners registered listeners} about
+	 * the progress and results of the execution.
+	 *
+	 * <p>In contrast to {@link #execute(LauncherDiscoveryRequest, TestExecutionListener...)},
+	 * this method does not discover tests again but executes the tests that
+	 * were discovered when the supplied test plan was created. The test plan
+	 * must have been {@linkplain #discover returned} by this launcher and may
+	 * only be executed once.
+	 *
+	 * <p>Supplied test execution listeners are registered in addition to already
+	 * registered listeners but only for the execution of the supplied test plan.
+	 *
+	 * <p>The default implementation throws a {@link PreconditionViolationException}
+	 * since a launcher that does not override this method cannot know which
+	 * tests were discovered for the supplied test plan.
+	 *
+	 * @param testPlan the test plan to execute; never {@code null}
+	 * @param listeners additional test execution listeners; never {@code null}
+	 * @throws PreconditionViolationException if the supplied test plan was not
+	 * returned by this launcher or has already been executed
+	 * @since 1.4
+	 */
+	@API(status = EXPERIMENTAL, since = "1.4")
+	default void execute(TestPlan testPlan, TestExecutionListener... listeners) {
+		throw new PreconditionViolationException(
+			getClass().getName() + " does not support executing a previously discovered TestPlan");
+	}
+
 }
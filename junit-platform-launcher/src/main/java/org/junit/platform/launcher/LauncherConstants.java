@@ -89,6 +89,92 @@ public class LauncherConstants {
 	 */
 	public static final String STDERR_REPORT_ENTRY_KEY = "stderr";
 
+	/**
+	 * Property name used to enable discovering tests in all registered test
+	 * engines concurrently: {@value}
+	 *
+	 * <p>By default, test engines discover their tests one after another.
+	 *
+	 * <p>If enabled, the {@link Launcher} calls
+	 * {@link org.junit.platform.engine.TestEngine#discover discover()} of each
+	 * test engine in a separate thread. The resulting {@link TestPlan} is
+	 * identical to the one resulting from sequential discovery. Test engines
+	 * must therefore not rely on being called from the thread that invoked the
+	 * launcher.
+	 *
+	 * @since 1.4
+	 */
+	@API(status = EXPERIMENTAL, since = "1.4")
+	public static final String DISCOVERY_PARALLEL_ENABLED_PROPERTY_NAME = "junit.platform.discovery.parallel.enabled";
+
+	/**
+	 * Property name used to enable executing the tests of all registered test
+	 * engines concurrently: {@value}
+	 *
+	 * <p>By default, the {@link Launcher} executes one test engine after
+	 * another.
+	 *
+	 * <p>If enabled, the {@link Launcher} calls
+	 * {@link org.junit.platform.engine.TestEngine#execute execute()} of each
+	 * test engine in a separate thread, limited by
+	 * {@link #ENGINES_PARALLEL_EXECUTION_PARALLELISM_PROPERTY_NAME}. Events
+	 * reported by the test engines are passed to registered
+	 * {@link TestExecutionListener TestExecutionListeners} one at a time, but
+	 * events of different test engines may be interleaved.
+	 *
+	 * @since 1.4
+	 * @see #ENGINES_PARALLEL_EXECUTION_PARALLELISM_PROPERTY_NAME
+	 */
+	@API(status = EXPERIMENTAL, since = "1.4")
+	public static final String ENGINES_PARALLEL_EXECUTION_ENABLED_PROPERTY_NAME = "junit.platform.execution.engines.parallel.enabled";
+
+	/**
+	 * Property name used to set the maximum number of test engines that are
+	 * executed at the same time if
+	 * {@link #ENGINES_PARALLEL_EXECUTION_ENABLED_PROPERTY_NAME} is enabled:
+	 * {@value}
+	 *
+	 * <p>Value must be a positive integer; defaults to {@code 2}. This limit
+	 * only applies to the number of test engines. A global concurrency budget
+	 * that is shared with the test engines is not implemented yet: test
+	 * engines that execute their own tests in parallel use their own threads
+	 * in addition, so their parallelism has to be configured separately to
+	 * avoid oversubscribing the CPU.
+	 *
+	 * @since 1.4
+	 * @see #ENGINES_PARALLEL_EXECUTION_ENABLED_PROPERTY_NAME
+	 */
+	@API(status = EXPERIMENTAL, since = "1.4")
+	public static final String ENGINES_PARALLEL_EXECUTION_PARALLELISM_PROPERTY_NAME = "junit.platform.execution.engines.parallel.parallelism";
+
+	/**
+	 * Property name used to enable executing tests while they are still being
+	 * discovered: {@value}
+	 *
+	 * <p>By default, the {@link Launcher} discovers all tests before executing
+	 * the first one.
+	 *
+	 * <p>If enabled, {@link Launcher#execute(LauncherDiscoveryRequest, TestExecutionListener...)}
+	 * starts executing the tests of a test engine as soon as the engine reports
+	 * the first completely discovered direct child of its root
+	 * {@link org.junit.platform.engine.TestDescriptor TestDescriptor} via the
+	 * {@link org.junit.platform.engine.EngineDiscoveryListener
+	 * EngineDiscoveryListener}. Post-discovery filters are applied to each
+	 * child individually. Test engines that do not report their children are
+	 * executed once their discovery has finished. Test engines are executed
+	 * one after another.
+	 *
+	 * <p>The {@link TestPlan} passed to
+	 * {@link TestExecutionListener#testPlanExecutionStarted(TestPlan)} is
+	 * initially empty; registered {@link TestExecutionListener
+	 * TestExecutionListeners} are notified of each added identifier via
+	 * {@link TestExecutionListener#testIdentifierAdded(TestIdentifier)}.
+	 *
+	 * @since 1.4
+	 */
+	@API(status = EXPERIMENTAL, since = "1.4")
+	public static final String PIPELINED_EXECUTION_ENABLED_PROPERTY_NAME = "junit.platform.execution.pipelined.enabled";
+
 	private LauncherConstants() {
 		/* no-op */
 	}
@@ -10,6 +10,7 @@
 
 package org.junit.platform.launcher;
 
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
 import static org.apiguardian.api.API.Status.STABLE;
 
 import org.apiguardian.api.API;
@@ -77,6 +78,24 @@ public interface TestExecutionListener {
 	default void dynamicTestRegistered(TestIdentifier testIdentifier) {
 	}
 
+	/**
+	 * Called when a {@link TestIdentifier} has been added to the
+	 * {@link TestPlan} after its execution has started because its test
+	 * engine discovered it while tests were already being executed.
+	 *
+	 * <p>This only happens if
+	 * {@link LauncherConstants#PIPELINED_EXECUTION_ENABLED_PROPERTY_NAME
+	 * pipelined execution} is enabled. The identifier of a container is
+	 * always added before the identifiers of its children and before the
+	 * execution of any of them has started.
+	 *
+	 * @param testIdentifier the identifier of the added test or container
+	 * @since 1.4
+	 */
+	@API(status = EXPERIMENTAL, since = "1.4")
+	default void testIdentifierAdded(TestIdentifier testIdentifier) {
+	}
+
 	/**
 	 * Called when the execution of a leaf or subtree of the {@link TestPlan}
 	 * has been skipped.
@@ -60,7 +60,7 @@ public final class TestPlan {
 
 	private final Map<String, TestIdentifier> allIdentifiers = new ConcurrentHashMap<>(32);
 
-	private final boolean containsTests;
+	private volatile boolean containsTests;
 
 	/**
 	 * Construct a new {@code TestPlan} from the supplied collection of
@@ -94,6 +94,9 @@ public final class TestPlan {
 	public void add(TestIdentifier testIdentifier) {
 		Preconditions.notNull(testIdentifier, "testIdentifier must not be null");
 		allIdentifiers.put(testIdentifier.getUniqueId(), testIdentifier);
+		if (testIdentifier.isTest()) {
+			containsTests = true;
+		}
 		if (testIdentifier.getParentId().isPresent()) {
 			String parentId = testIdentifier.getParentId().get();
 			Set<TestIdentifier> directChildren = children.computeIfAbsent(parentId,
@@ -10,23 +10,38 @@
 
 package org.junit.platform.launcher.core;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 
 import org.junit.platform.commons.JUnitException;
 import org.junit.platform.commons.logging.Logger;
 import org.junit.platform.commons.logging.LoggerFactory;
 import org.junit.platform.commons.util.BlacklistedExceptions;
+import org.junit.platform.commons.util.ExceptionUtils;
 import org.junit.platform.commons.util.Preconditions;
 import org.junit.platform.engine.ConfigurationParameters;
 import org.junit.platform.engine.ExecutionRequest;
 import org.junit.platform.engine.FilterResult;
+import org.junit.platform.engine.PendingTestDescriptors;
 import org.junit.platform.engine.TestDescriptor;
 import org.junit.platform.engine.TestEngine;
 import org.junit.platform.engine.UniqueId;
 import org.junit.platform.launcher.Launcher;
+import org.junit.platform.launcher.LauncherConstants;
 import org.junit.platform.launcher.LauncherDiscoveryRequest;
 import org.junit.platform.launcher.TestExecutionListener;
 import org.junit.platform.launcher.TestPlan;
@@ -45,10 +60,20 @@ class DefaultLauncher implements Launcher {
 
 	private static final Logger logger = LoggerFactory.getLogger(DefaultLauncher.class);
 
+	private static final int DEFAULT_ENGINE_PARALLELISM = 2;
+
 	private final TestExecutionListenerRegistry listenerRegistry = new TestExecutionListenerRegistry();
 	private final EngineDiscoveryResultValidator discoveryResultValidator = new EngineDiscoveryResultValidator();
 	private final Iterable<TestEngine> testEngines;
 
+	/**
+	 * Roots of the test plans returned by {@link #discover} that may be
+	 * executed. Executed test plans are mapped to {@code null} so that their
+	 * roots can be garbage collected; test plans that are no longer referenced
+	 * by clients are removed.
+	 */
+	private final Map<TestPlan, Root> discoveredTestPlans = Collections.synchronizedMap(new WeakHashMap<>());
+
 	/**
 	 * Construct a new {@code DefaultLauncher} with the supplied test engines.
 	 *
@@ -117,7 +142,10 @@ class DefaultLauncher implements Launcher {
 	@Override
 	public TestPlan discover(LauncherDiscoveryRequest discoveryRequest) {
 		Preconditions.notNull(discoveryRequest, "LauncherDiscoveryRequest must not be null");
-		return TestPlan.from(discoverRoot(discoveryRequest, "discovery").getEngineDescriptors());
+		Root root = discoverRoot(discoveryRequest, "discovery");
+		TestPlan testPlan = TestPlan.from(root.getEngineDescriptors());
+		this.discoveredTestPlans.put(testPlan, root);
+		return testPlan;
 	}
 
 	@Override
@@ -125,7 +153,28 @@ class DefaultLauncher implements Launcher {
 		Preconditions.notNull(discoveryRequest, "LauncherDiscoveryRequest must not be null");
 		Preconditions.notNull(listeners, "TestExecutionListener array must not be null");
 		Preconditions.containsNoNullElements(listeners, "individual listeners must not be null");
-		execute(discoverRoot(discoveryRequest, "execution"), discoveryRequest.getConfigurationParameters(), listeners);
+		if (isPipelinedExecutionEnabled(discoveryRequest)) {
+			executePipelined(discoveryRequest, listeners);
+		}
+		else {
+			Root root = discoverRoot(discoveryRequest, "execution");
+			execute(TestPlan.from(root.getEngineDescriptors()), root, listeners);
+		}
+	}
+
+	@Override
+	public void execute(TestPlan testPlan, TestExecutionListener... listeners) {
+		Preconditions.notNull(testPlan, "TestPlan must not be null");
+		Preconditions.notNull(listeners, "TestExecutionListener array must not be null");
+		Preconditions.containsNoNullElements(listeners, "individual listeners must not be null");
+		Root root;
+		synchronized (this.discoveredTestPlans) {
+			Preconditions.condition(this.discoveredTestPlans.containsKey(testPlan),
+				"TestPlan was not returned by this Launcher");
+			root = this.discoveredTestPlans.put(testPlan, null);
+		}
+		Preconditions.condition(root != null, "TestPlan must only be executed once");
+		execute(testPlan, root, listeners);
 	}
 
 	TestExecutionListenerRegistry getTestExecutionListenerRegistry() {
@@ -133,7 +182,25 @@ class DefaultLauncher implements Launcher {
 	}
 
 	private Root discoverRoot(LauncherDiscoveryRequest discoveryRequest, String phase) {
-		Root root = new Root();
+		List<TestEngine> includedTestEngines = getIncludedTestEngines(discoveryRequest, phase);
+
+		List<Optional<TestDescriptor>> engineRoots = isParallelDiscoveryEnabled(discoveryRequest)
+				? discoverEngineRootsConcurrently(includedTestEngines, discoveryRequest, phase)
+				: discoverEngineRootsSequentially(includedTestEngines, discoveryRequest, phase);
+
+		// Add engine roots in registration order regardless of when their discovery finished
+		Root root = new Root(discoveryRequest.getConfigurationParameters());
+		for (int i = 0; i < includedTestEngines.size(); i++) {
+			TestEngine testEngine = includedTestEngines.get(i);
+			engineRoots.get(i).ifPresent(rootDescriptor -> root.add(testEngine, rootDescriptor));
+		}
+		root.applyPostDiscoveryFilters(discoveryRequest);
+		root.prune();
+		return root;
+	}
+
+	private List<TestEngine> getIncludedTestEngines(LauncherDiscoveryRequest discoveryRequest, String phase) {
+		List<TestEngine> includedTestEngines = new ArrayList<>();
 
 		for (TestEngine testEngine : this.testEngines) {
 			// @formatter:off
@@ -149,19 +216,66 @@ class DefaultLauncher implements Launcher {
 				continue;
 			}
 
-			logger.debug(() -> String.format("Discovering tests during Launcher %s phase in engine '%s'.", phase,
-				testEngine.getId()));
+			includedTestEngines.add(testEngine);
+		}
+		return includedTestEngines;
+	}
+
+	private boolean isParallelDiscoveryEnabled(LauncherDiscoveryRequest discoveryRequest) {
+		return discoveryRequest.getConfigurationParameters().getBoolean(
+			LauncherConstants.DISCOVERY_PARALLEL_ENABLED_PROPERTY_NAME).orElse(false);
+	}
 
-			Optional<TestDescriptor> engineRoot = discoverEngineRoot(testEngine, discoveryRequest);
-			engineRoot.ifPresent(rootDescriptor -> root.add(testEngine, rootDescriptor));
+	private List<Optional<TestDescriptor>> discoverEngineRootsSequentially(List<TestEngine> testEngines,
+			LauncherDiscoveryRequest discoveryRequest, String phase) {
+		List<Optional<TestDescriptor>> engineRoots = new ArrayList<>(testEngines.size());
+		for (TestEngine testEngine : testEngines) {
+			engineRoots.add(discoverEngineRoot(testEngine, discoveryRequest, phase));
+		}
+		return engineRoots;
+	}
+
+	private List<Optional<TestDescriptor>> discoverEngineRootsConcurrently(List<TestEngine> testEngines,
+			LauncherDiscoveryRequest discoveryRequest, String phase) {
+		if (testEngines.size() < 2) {
+			return discoverEngineRootsSequentially(testEngines, discoveryRequest, phase);
+		}
+		ExecutorService executorService = Executors.newFixedThreadPool(testEngines.size(),
+			new LauncherThreadFactory("junit-platform-discovery-"));
+		try {
+			List<Future<Optional<TestDescriptor>>> futures = new ArrayList<>(testEngines.size());
+			for (TestEngine testEngine : testEngines) {
+				futures.add(executorService.submit(() -> discoverEngineRoot(testEngine, discoveryRequest, phase)));
+			}
+			List<Optional<TestDescriptor>> engineRoots = new ArrayList<>(testEngines.size());
+			for (Future<Optional<TestDescriptor>> future : futures) {
+				engineRoots.add(await(future));
+			}
+			return engineRoots;
+		}
+		finally {
+			executorService.shutdownNow();
+		}
+	}
+
+	private static <T> T await(Future<T> future) {
+		try {
+			return future.get();
+		}
+		catch (ExecutionException e) {
+			// only blacklisted exceptions are rethrown by discoverEngineRoot() and execute()
+			throw ExceptionUtils.throwAsUncheckedException(e.getCause());
+		}
+		catch (InterruptedException e) {
+			throw ExceptionUtils.throwAsUncheckedException(e);
 		}
-		root.applyPostDiscoveryFilters(discoveryRequest);
-		root.prune();
-		return root;
 	}
 
 	private Optional<TestDescriptor> discoverEngineRoot(TestEngine testEngine,
-			LauncherDiscoveryRequest discoveryRequest) {
+			LauncherDiscoveryRequest discoveryRequest, String phase) {
+
+		logger.debug(() -> String.format("Discovering tests during Launcher %s phase in engine '%s'.", phase,
+			testEngine.getId()));
 
 		UniqueId uniqueEngineId = UniqueId.forEngine(testEngine.getId());
 		try {
@@ -175,23 +289,136 @@ class DefaultLauncher implements Launcher {
 		}
 	}
 
-	private void execute(Root root, ConfigurationParameters configurationParameters,
-			TestExecutionListener... listeners) {
+	private boolean isPipelinedExecutionEnabled(LauncherDiscoveryRequest discoveryRequest) {
+		return discoveryRequest.getConfigurationParameters().getBoolean(
+			LauncherConstants.PIPELINED_EXECUTION_ENABLED_PROPERTY_NAME).orElse(false);
+	}
+
+	/**
+	 * Execute the tests of each test engine while they are still being
+	 * discovered in a separate thread.
+	 *
+	 * @see EngineExecutionPipeline
+	 */
+	private void executePipelined(LauncherDiscoveryRequest discoveryRequest, TestExecutionListener... listeners) {
+		ConfigurationParameters configurationParameters = discoveryRequest.getConfigurationParameters();
+		TestPlan testPlan = TestPlan.from(Collections.emptyList());
 		TestExecutionListenerRegistry listenerRegistry = buildListenerRegistryForExecution(listeners);
 		withInterceptedStreams(configurationParameters, listenerRegistry, testExecutionListener -> {
-			TestPlan testPlan = TestPlan.from(root.getEngineDescriptors());
 			testExecutionListener.testPlanExecutionStarted(testPlan);
 			ExecutionListenerAdapter engineExecutionListener = new ExecutionListenerAdapter(testPlan,
-				testExecutionListener);
+				testExecutionListener, true);
+			ExecutorService executorService = Executors.newSingleThreadExecutor(
+				new LauncherThreadFactory("junit-platform-discovery-"));
+			try {
+				for (TestEngine testEngine : getIncludedTestEngines(discoveryRequest, "execution")) {
+					EngineExecutionPipeline pipeline = new EngineExecutionPipeline(testEngine, discoveryRequest,
+						engineExecutionListener, discoveryResultValidator);
+					Future<?> discovery = executorService.submit(() -> discoverPipelined(testEngine, pipeline));
+					await(pipeline.getEngineDescriptor()).ifPresent(engineDescriptor -> {
+						PendingTestDescriptors pendingTestDescriptors = pipeline.isPipelined() ? pipeline : null;
+						execute(testEngine, new ExecutionRequest(engineDescriptor, engineExecutionListener,
+							configurationParameters, pendingTestDescriptors));
+					});
+					await(discovery);
+				}
+			}
+			finally {
+				executorService.shutdownNow();
+			}
+			testExecutionListener.testPlanExecutionFinished(testPlan);
+		});
+	}
+
+	private void discoverPipelined(TestEngine testEngine, EngineExecutionPipeline pipeline) {
+		logger.debug(() -> String.format("Discovering tests during Launcher execution phase in engine '%s'.",
+			testEngine.getId()));
+
+		try {
+			TestDescriptor engineRoot = testEngine.discover(pipeline.getEngineDiscoveryRequest(),
+				UniqueId.forEngine(testEngine.getId()));
+			pipeline.discoveryFinished(engineRoot);
+		}
+		catch (Throwable throwable) {
+			handleThrowable(testEngine, "discover", throwable);
+		}
+		finally {
+			pipeline.close();
+		}
+	}
+
+	private void execute(TestPlan testPlan, Root root, TestExecutionListener... listeners) {
+		ConfigurationParameters configurationParameters = root.getConfigurationParameters();
+		TestExecutionListenerRegistry listenerRegistry = buildListenerRegistryForExecution(listeners);
+		int engineParallelism = getEngineParallelism(configurationParameters);
+		withInterceptedStreams(configurationParameters, listenerRegistry, testExecutionListener -> {
+			testExecutionListener.testPlanExecutionStarted(testPlan);
+			ExecutionListenerAdapter engineExecutionListener = new ExecutionListenerAdapter(testPlan,
+				testExecutionListener, engineParallelism > 1);
+			Map<TestEngine, ExecutionRequest> executionRequests = new LinkedHashMap<>();
 			for (TestEngine testEngine : root.getTestEngines()) {
 				TestDescriptor testDescriptor = root.getTestDescriptorFor(testEngine);
-				execute(testEngine,
+				executionRequests.put(testEngine,
 					new ExecutionRequest(testDescriptor, engineExecutionListener, configurationParameters));
 			}
+			if (engineParallelism > 1 && executionRequests.size() > 1) {
+				executeConcurrently(executionRequests, engineParallelism);
+			}
+			else {
+				executionRequests.forEach(this::execute);
+			}
 			testExecutionListener.testPlanExecutionFinished(testPlan);
 		});
 	}
 
+	/**
+	 * Get the maximum number of engines to execute at the same time; a value
+	 * of {@code 1} results in sequential execution.
+	 *
+	 * <p>No concurrency budget that is shared with the engines is implemented
+	 * yet: engines that execute their own tests in parallel create their own
+	 * threads in addition to the ones used to execute the engines. Therefore,
+	 * this defaults to {@value #DEFAULT_ENGINE_PARALLELISM} instead of the
+	 * number of available processors.
+	 */
+	private int getEngineParallelism(ConfigurationParameters configurationParameters) {
+		if (!configurationParameters.getBoolean(
+			LauncherConstants.ENGINES_PARALLEL_EXECUTION_ENABLED_PROPERTY_NAME).orElse(false)) {
+			return 1;
+		}
+		String value = configurationParameters.get(
+			LauncherConstants.ENGINES_PARALLEL_EXECUTION_PARALLELISM_PROPERTY_NAME).orElse(null);
+		if (value == null) {
+			return DEFAULT_ENGINE_PARALLELISM;
+		}
+		try {
+			int parallelism = Integer.parseInt(value.trim());
+			if (parallelism > 0) {
+				return parallelism;
+			}
+		}
+		catch (NumberFormatException ex) {
+			// fall through
+		}
+		throw new JUnitException(String.format("Invalid value '%s' for configuration parameter '%s'", value,
+			LauncherConstants.ENGINES_PARALLEL_EXECUTION_PARALLELISM_PROPERTY_NAME));
+	}
+
+	private void executeConcurrently(Map<TestEngine, ExecutionRequest> executionRequests, int engineParallelism) {
+		int poolSize = Math.min(engineParallelism, executionRequests.size());
+		ExecutorService executorService = Executors.newFixedThreadPool(poolSize,
+			new LauncherThreadFactory("junit-platform-engine-"));
+		try {
+			List<Future<?>> futures = new ArrayList<>(executionRequests.size());
+			executionRequests.forEach((testEngine, executionRequest) -> futures.add(
+				executorService.submit(() -> execute(testEngine, executionRequest))));
+			futures.forEach(DefaultLauncher::await);
+		}
+		finally {
+			executorService.shutdownNow();
+		}
+	}
+
 	private void withInterceptedStreams(ConfigurationParameters configurationParameters,
 			TestExecutionListenerRegistry listenerRegistry, Consumer<TestExecutionListener> action) {
 		TestExecutionListener testExecutionListener = listenerRegistry.getCompositeTestExecutionListener();
@@ -230,4 +457,27 @@ class DefaultLauncher implements Launcher {
 		BlacklistedExceptions.rethrowIfBlacklisted(throwable);
 	}
 
+	/**
+	 * Creates daemon threads for discovering or executing tests that use the
+	 * context class loader of the thread that created the factory.
+	 */
+	private static class LauncherThreadFactory implements ThreadFactory {
+
+		private final AtomicInteger threadNumber = new AtomicInteger(1);
+		private final ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+		private final String namePrefix;
+
+		LauncherThreadFactory(String namePrefix) {
+			this.namePrefix = namePrefix;
+		}
+
+		@Override
+		public Thread newThread(Runnable runnable) {
+			Thread thread = new Thread(runnable, namePrefix + threadNumber.getAndIncrement());
+			thread.setDaemon(true);
+			thread.setContextClassLoader(contextClassLoader);
+			return thread;
+		}
+	}
+
 }
@@ -0,0 +1,208 @@
+/*
+ * Copyright 2015-2018 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.launcher.core;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+
+import org.junit.platform.commons.util.Preconditions;
+import org.junit.platform.engine.ConfigurationParameters;
+import org.junit.platform.engine.DiscoveryFilter;
+import org.junit.platform.engine.DiscoverySelector;
+import org.junit.platform.engine.EngineDiscoveryListener;
+import org.junit.platform.engine.EngineDiscoveryRequest;
+import org.junit.platform.engine.PendingTestDescriptors;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.TestEngine;
+import org.junit.platform.launcher.LauncherDiscoveryRequest;
+
+/**
+ * Passes the tests of a single {@link TestEngine} from its discovery, which
+ * runs in a separate thread, to its execution while discovery is still in
+ * progress.
+ *
+ * <p>Each direct child of the engine's root {@link TestDescriptor} that is
+ * reported to the {@link EngineDiscoveryListener} is filtered by the
+ * post-discovery filters, pruned, added to the {@link org.junit.platform.launcher.TestPlan TestPlan}, and
+ * then handed to the engine's execution via {@link PendingTestDescriptors}.
+ * The remaining children are handled the same way once discovery has
+ * finished. If the engine does not report any children during discovery, its
+ * tests are executed once discovery has finished.
+ *
+ * @since 1.4
+ */
+class EngineExecutionPipeline implements EngineDiscoveryListener, PendingTestDescriptors {
+
+	private final BlockingQueue<Optional<TestDescriptor>> pendingChildren = new LinkedBlockingQueue<>();
+	private final CompletableFuture<Optional<TestDescriptor>> engineDescriptorFuture = new CompletableFuture<>();
+	private final Set<TestDescriptor> publishedChildren = new HashSet<>();
+	private final TestEngine testEngine;
+	private final LauncherDiscoveryRequest discoveryRequest;
+	private final TestDescriptor.Visitor postDiscoveryFilter;
+	private final ExecutionListenerAdapter executionListener;
+	private final EngineDiscoveryResultValidator discoveryResultValidator;
+
+	// only accessed by the discovery thread until engineDescriptorFuture is completed
+	private TestDescriptor engineDescriptor;
+	private boolean pipelined;
+
+	EngineExecutionPipeline(TestEngine testEngine, LauncherDiscoveryRequest discoveryRequest,
+			ExecutionListenerAdapter executionListener, EngineDiscoveryResultValidator discoveryResultValidator) {
+		this.testEngine = testEngine;
+		this.discoveryRequest = discoveryRequest;
+		this.postDiscoveryFilter = Root.createPostDiscoveryFilterVisitor(discoveryRequest);
+		this.executionListener = executionListener;
+		this.discoveryResultValidator = discoveryResultValidator;
+	}
+
+	/**
+	 * Get the {@link EngineDiscoveryRequest} to pass to the engine's
+	 * {@link TestEngine#discover discover()} method.
+	 */
+	EngineDiscoveryRequest getEngineDiscoveryRequest() {
+		return new PipelinedDiscoveryRequest();
+	}
+
+	@Override
+	public void testDescriptorDiscovered(TestDescriptor testDescriptor) {
+		Preconditions.notNull(testDescriptor, "testDescriptor must not be null");
+		TestDescriptor parent = testDescriptor.getParent().orElse(null);
+		Preconditions.condition(parent != null && parent.isRoot(),
+			() -> String.format("TestEngine with ID '%s' reported a TestDescriptor that is not a child of its root: %s",
+				this.testEngine.getId(), testDescriptor.getUniqueId()));
+		if (this.engineDescriptor == null) {
+			this.engineDescriptor = parent;
+			this.pipelined = true;
+			this.executionListener.testDescriptorAdded(parent);
+			this.engineDescriptorFuture.complete(Optional.of(parent));
+		}
+		Preconditions.condition(parent == this.engineDescriptor,
+			() -> String.format("TestEngine with ID '%s' reported TestDescriptors with different roots.",
+				this.testEngine.getId()));
+		publish(testDescriptor);
+	}
+
+	/**
+	 * Handle the supplied root {@link TestDescriptor} returned by the engine's
+	 * {@link TestEngine#discover discover()} method.
+	 */
+	void discoveryFinished(TestDescriptor root) {
+		if (this.engineDescriptor == null) {
+			// Nothing is being executed yet so the whole tree can be processed at once
+			this.discoveryResultValidator.validate(this.testEngine, root);
+			root.accept(this.postDiscoveryFilter);
+			root.accept(TestDescriptor::prune);
+			root.accept(this.executionListener::testDescriptorAdded);
+			this.engineDescriptor = root;
+		}
+		else {
+			Preconditions.condition(root == this.engineDescriptor,
+				() -> String.format("The discover() method for TestEngine with ID '%s' must return the root of "
+						+ "the reported TestDescriptors.",
+					this.testEngine.getId()));
+			List<TestDescriptor> children = new ArrayList<>(root.getChildren());
+			for (TestDescriptor child : children) {
+				if (!this.publishedChildren.contains(child)) {
+					publish(child);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Signal that no more children will be discovered, regardless of whether
+	 * discovery succeeded.
+	 */
+	void close() {
+		// Published children may be released once they have been executed
+		this.publishedChildren.clear();
+		this.pendingChildren.add(Optional.empty());
+		this.engineDescriptorFuture.complete(Optional.ofNullable(this.engineDescriptor));
+	}
+
+	/**
+	 * Get a future for the engine's root {@link TestDescriptor} that is
+	 * completed once it is ready to be executed; the future yields an empty
+	 * {@code Optional} if discovery failed before any children were reported.
+	 */
+	Future<Optional<TestDescriptor>> getEngineDescriptor() {
+		return this.engineDescriptorFuture;
+	}
+
+	/**
+	 * Determine whether children were reported during discovery so that the
+	 * engine has to execute its {@linkplain PendingTestDescriptors pending
+	 * children}.
+	 *
+	 * <p>Must only be called after the {@linkplain #getEngineDescriptor()
+	 * engine descriptor} is available.
+	 */
+	boolean isPipelined() {
+		return this.pipelined;
+	}
+
+	@Override
+	public Optional<TestDescriptor> next() throws InterruptedException {
+		Optional<TestDescriptor> next = this.pendingChildren.take();
+		if (!next.isPresent()) {
+			// keep signaling the end for subsequent calls
+			this.pendingChildren.add(next);
+		}
+		return next;
+	}
+
+	private void publish(TestDescriptor child) {
+		this.discoveryResultValidator.validate(this.testEngine, child);
+		child.accept(this.postDiscoveryFilter);
+		child.accept(TestDescriptor::prune);
+		if (child.getParent().isPresent()) {
+			this.publishedChildren.add(child);
+			child.accept(this.executionListener::testDescriptorAdded);
+			this.pendingChildren.add(Optional.of(child));
+		}
+	}
+
+	/**
+	 * {@link EngineDiscoveryRequest} that provides the enclosing pipeline as
+	 * {@link EngineDiscoveryListener}.
+	 */
+	private class PipelinedDiscoveryRequest implements EngineDiscoveryRequest {
+
+		@Override
+		public <T extends DiscoverySelector> List<T> getSelectorsByType(Class<T> selectorType) {
+			return discoveryRequest.getSelectorsByType(selectorType);
+		}
+
+		@Override
+		public <T extends DiscoveryFilter<?>> List<T> getFiltersByType(Class<T> filterType) {
+			return discoveryRequest.getFiltersByType(filterType);
+		}
+
+		@Override
+		public ConfigurationParameters getConfigurationParameters() {
+			return discoveryRequest.getConfigurationParameters();
+		}
+
+		@Override
+		public Optional<EngineDiscoveryListener> getDiscoveryListener() {
+			return Optional.of(EngineExecutionPipeline.this);
+		}
+
+	}
+
+}
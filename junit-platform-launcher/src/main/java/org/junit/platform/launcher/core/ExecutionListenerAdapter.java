@@ -22,43 +22,85 @@ import org.junit.platform.launcher.TestPlan;
  * An {@code ExecutionListenerAdapter} adapts a {@link TestPlan} and a corresponding
  * {@link TestExecutionListener} to the {@link EngineExecutionListener} API.
  *
+ * <p>If test engines are executed concurrently, the adapter serializes all
+ * events so that the {@code TestExecutionListener} is never called from
+ * multiple threads at the same time.
+ *
  * @since 1.0
  */
 class ExecutionListenerAdapter implements EngineExecutionListener {
 
 	private final TestPlan testPlan;
 	private final TestExecutionListener testExecutionListener;
+	private final Object lock;
 
 	ExecutionListenerAdapter(TestPlan testPlan, TestExecutionListener testExecutionListener) {
+		this(testPlan, testExecutionListener, false);
+	}
+
+	/**
+	 * @since 1.4
+	 */
+	ExecutionListenerAdapter(TestPlan testPlan, TestExecutionListener testExecutionListener,
+			boolean synchronizeEvents) {
 		this.testPlan = testPlan;
 		this.testExecutionListener = testExecutionListener;
+		this.lock = synchronizeEvents ? new Object() : null;
+	}
+
+	/**
+	 * Add the supplied {@link TestDescriptor} to the {@link TestPlan} after
+	 * its execution has started.
+	 *
+	 * @since 1.4
+	 */
+	void testDescriptorAdded(TestDescriptor testDescriptor) {
+		TestIdentifier testIdentifier = TestIdentifier.from(testDescriptor);
+		notify(() -> {
+			this.testPlan.add(testIdentifier);
+			this.testExecutionListener.testIdentifierAdded(testIdentifier);
+		});
 	}
 
 	@Override
 	public void dynamicTestRegistered(TestDescriptor testDescriptor) {
 		TestIdentifier testIdentifier = TestIdentifier.from(testDescriptor);
-		this.testPlan.add(testIdentifier);
-		this.testExecutionListener.dynamicTestRegistered(testIdentifier);
+		notify(() -> {
+			this.testPlan.add(testIdentifier);
+			this.testExecutionListener.dynamicTestRegistered(testIdentifier);
+		});
 	}
 
 	@Override
 	public void executionStarted(TestDescriptor testDescriptor) {
-		this.testExecutionListener.executionStarted(getTestIdentifier(testDescriptor));
+		notify(() -> this.testExecutionListener.executionStarted(getTestIdentifier(testDescriptor)));
 	}
 
 	@Override
 	public void executionSkipped(TestDescriptor testDescriptor, String reason) {
-		this.testExecutionListener.executionSkipped(getTestIdentifier(testDescriptor), reason);
+		notify(() -> this.testExecutionListener.executionSkipped(getTestIdentifier(testDescriptor), reason));
 	}
 
 	@Override
 	public void executionFinished(TestDescriptor testDescriptor, TestExecutionResult testExecutionResult) {
-		this.testExecutionListener.executionFinished(getTestIdentifier(testDescriptor), testExecutionResult);
+		notify(() -> this.testExecutionListener.executionFinished(getTestIdentifier(testDescriptor),
+			testExecutionResult));
 	}
 
 	@Override
 	public void reportingEntryPublished(TestDescriptor testDescriptor, ReportEntry entry) {
-		this.testExecutionListener.reportingEntryPublished(getTestIdentifier(testDescriptor), entry);
+		notify(() -> this.testExecutionListener.reportingEntryPublished(getTestIdentifier(testDescriptor), entry));
+	}
+
+	private void notify(Runnable notification) {
+		if (this.lock == null) {
+			notification.run();
+		}
+		else {
+			synchronized (this.lock) {
+				notification.run();
+			}
+		}
 	}
 
 	private TestIdentifier getTestIdentifier(TestDescriptor testDescriptor) {
@@ -16,6 +16,7 @@ import java.util.Collection;
 import java.util.LinkedHashMap;
 import java.util.Map;
 
+import org.junit.platform.engine.ConfigurationParameters;
 import org.junit.platform.engine.Filter;
 import org.junit.platform.engine.TestDescriptor;
 import org.junit.platform.engine.TestEngine;
@@ -30,6 +31,16 @@ import org.junit.platform.launcher.LauncherDiscoveryRequest;
 class Root {
 
 	private final Map<TestEngine, TestDescriptor> testEngineDescriptors = new LinkedHashMap<>(4);
+	private final ConfigurationParameters configurationParameters;
+
+	/**
+	 * @param configurationParameters the configuration parameters of the
+	 * discovery request that is used to discover the tests of this root
+	 * @since 1.4
+	 */
+	Root(ConfigurationParameters configurationParameters) {
+		this.configurationParameters = configurationParameters;
+	}
 
 	/**
 	 * Add an {@code engine}'s root {@link TestDescriptor}.
@@ -50,14 +61,30 @@ class Root {
 		return this.testEngineDescriptors.get(testEngine);
 	}
 
+	/**
+	 * @since 1.4
+	 */
+	ConfigurationParameters getConfigurationParameters() {
+		return this.configurationParameters;
+	}
+
 	void applyPostDiscoveryFilters(LauncherDiscoveryRequest discoveryRequest) {
+		acceptInAllTestEngines(createPostDiscoveryFilterVisitor(discoveryRequest));
+	}
+
+	/**
+	 * Create a {@link TestDescriptor.Visitor} that removes all descriptors
+	 * excluded by the post-discovery filters of the supplied request.
+	 *
+	 * @since 1.4
+	 */
+	static TestDescriptor.Visitor createPostDiscoveryFilterVisitor(LauncherDiscoveryRequest discoveryRequest) {
 		Filter<TestDescriptor> postDiscoveryFilter = composeFilters(discoveryRequest.getPostDiscoveryFilters());
-		TestDescriptor.Visitor removeExcludedTestDescriptors = descriptor -> {
+		return descriptor -> {
 			if (!descriptor.isRoot() && isExcluded(descriptor, postDiscoveryFilter)) {
 				descriptor.removeFromHierarchy();
 			}
 		};
-		acceptInAllTestEngines(removeExcludedTestDescriptors);
 	}
 
 	/**
@@ -71,7 +98,7 @@ class Root {
 		acceptInAllTestEngines(TestDescriptor::prune);
 	}
 
-	private boolean isExcluded(TestDescriptor descriptor, Filter<TestDescriptor> postDiscoveryFilter) {
+	private static boolean isExcluded(TestDescriptor descriptor, Filter<TestDescriptor> postDiscoveryFilter) {
 		return descriptor.getChildren().isEmpty() && postDiscoveryFilter.apply(descriptor).excluded();
 	}
 
@@ -74,6 +74,11 @@ class TestExecutionListenerRegistry {
 			notifyTestExecutionListeners(listener -> listener.dynamicTestRegistered(testIdentifier));
 		}
 
+		@Override
+		public void testIdentifierAdded(TestIdentifier testIdentifier) {
+			notifyTestExecutionListeners(listener -> listener.testIdentifierAdded(testIdentifier));
+		}
+
 		@Override
 		public void executionSkipped(TestIdentifier testIdentifier, String reason) {
 			notifyTestExecutionListeners(listener -> listener.executionSkipped(testIdentifier, reason));
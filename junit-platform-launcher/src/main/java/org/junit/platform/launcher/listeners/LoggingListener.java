@@ -103,6 +103,11 @@ public class LoggingListener implements TestExecutionListener {
 		log("Dynamic Test Registered: %s - %s", testIdentifier.getDisplayName(), testIdentifier.getUniqueId());
 	}
 
+	@Override
+	public void testIdentifierAdded(TestIdentifier testIdentifier) {
+		log("Test Identifier Added: %s - %s", testIdentifier.getDisplayName(), testIdentifier.getUniqueId());
+	}
+
 	@Override
 	public void executionStarted(TestIdentifier testIdentifier) {
 		log("Execution Started: %s - %s", testIdentifier.getDisplayName(), testIdentifier.getUniqueId());
@@ -55,6 +55,15 @@ public class SummaryGeneratingListener implements TestExecutionListener {
 
 	@Override
 	public void dynamicTestRegistered(TestIdentifier testIdentifier) {
+		countFound(testIdentifier);
+	}
+
+	@Override
+	public void testIdentifierAdded(TestIdentifier testIdentifier) {
+		countFound(testIdentifier);
+	}
+
+	private void countFound(TestIdentifier testIdentifier) {
 		if (testIdentifier.isContainer()) {
 			this.summary.containersFound.incrementAndGet();
 		}
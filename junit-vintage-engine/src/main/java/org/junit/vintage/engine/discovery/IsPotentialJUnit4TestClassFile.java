@@ -0,0 +1,56 @@
+/*
+ * Copyright 2015-2018 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.vintage.engine.discovery;
+
+import java.util.function.Predicate;
+
+import org.junit.Ignore;
+import org.junit.Test;
+import org.junit.platform.commons.util.ClassFileMetadata;
+import org.junit.runner.RunWith;
+
+/**
+ * Conservative pre-filter for {@link IsPotentialJUnit4TestClass} and the
+ * runner builders of JUnit 4 that is applied to the metadata of a class file
+ * before the class is loaded.
+ *
+ * <p>Since JUnit 4 does not support meta-annotations, only classes that are
+ * directly annotated with {@link RunWith @RunWith} or {@link Ignore @Ignore},
+ * declare {@link Test @Test} methods or a {@code suite()} method, or extend
+ * another class are potential test classes.
+ *
+ * @since 5.4
+ */
+class IsPotentialJUnit4TestClassFile implements Predicate<ClassFileMetadata> {
+
+	private static final String SUITE_METHOD_NAME = "suite";
+
+	@Override
+	public boolean test(ClassFileMetadata candidate) {
+		// Do not collapse into a single return statement.
+		if (!candidate.isPublic()) {
+			return false;
+		}
+		if (candidate.isAbstract()) {
+			return false;
+		}
+		if (candidate.hasSuperclassOtherThanObject()) {
+			return true;
+		}
+		if (candidate.getClassAnnotationNames().contains(RunWith.class.getName())
+				|| candidate.getClassAnnotationNames().contains(Ignore.class.getName())) {
+			return true;
+		}
+		return candidate.getMethodAnnotationNames().contains(Test.class.getName())
+				|| candidate.getMethodNames().contains(SUITE_METHOD_NAME);
+	}
+
+}
@@ -10,9 +10,18 @@
 
 package org.junit.vintage.engine.discovery;
 
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.joining;
+import static java.util.stream.Collectors.toCollection;
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toSet;
 import static org.junit.vintage.engine.discovery.RunnerTestDescriptorAwareFilter.adapter;
 
-import java.lang.reflect.Method;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import org.junit.platform.commons.util.ClassFilter;
 import org.junit.platform.engine.EngineDiscoveryRequest;
@@ -27,15 +36,27 @@ class MethodSelectorResolver implements DiscoverySelectorResolver {
 
 	@Override
 	public void resolve(EngineDiscoveryRequest request, ClassFilter classFilter, TestClassCollector collector) {
-		request.getSelectorsByType(MethodSelector.class).forEach(selector -> resolve(selector, classFilter, collector));
+		// Group selectors by class so that a single filter is added per class
+		// instead of one per method which would have to be evaluated for each
+		// test of the class.
+		// @formatter:off
+		Map<Class<?>, List<MethodSelector>> selectorsByClass = request.getSelectorsByType(MethodSelector.class)
+				.stream()
+				.collect(groupingBy(MethodSelector::getJavaClass, LinkedHashMap::new, toList()));
+		// @formatter:on
+		selectorsByClass.forEach((testClass, selectors) -> resolve(testClass, selectors, classFilter, collector));
 	}
 
-	private void resolve(MethodSelector selector, ClassFilter classFilter, TestClassCollector collector) {
-		Class<?> testClass = selector.getJavaClass();
+	private void resolve(Class<?> testClass, List<MethodSelector> selectors, ClassFilter classFilter,
+			TestClassCollector collector) {
 		if (classFilter.test(testClass)) {
-			Method testMethod = selector.getJavaMethod();
-			Description methodDescription = Description.createTestDescription(testClass, testMethod.getName());
-			collector.addFiltered(testClass, adapter(matchMethodDescription(methodDescription)));
+			// @formatter:off
+			Set<Description> methodDescriptions = selectors.stream()
+					.map(MethodSelector::getJavaMethod)
+					.map(testMethod -> Description.createTestDescription(testClass, testMethod.getName()))
+					.collect(toCollection(LinkedHashSet::new));
+			// @formatter:on
+			collector.addFiltered(testClass, adapter(matchMethodDescriptions(methodDescriptions)));
 		}
 	}
 
@@ -44,13 +65,14 @@ class MethodSelectorResolver implements DiscoverySelectorResolver {
 	 * filter that does not account for the case when the description is for a
 	 * {@link org.junit.runners.Parameterized} runner.
 	 */
-	private static Filter matchMethodDescription(final Description desiredDescription) {
+	private static Filter matchMethodDescriptions(Set<Description> desiredDescriptions) {
+		Set<String> desiredMethodNames = desiredDescriptions.stream().map(Description::getMethodName).collect(toSet());
 		return new Filter() {
 
 			@Override
 			public boolean shouldRun(Description description) {
 				if (description.isTest()) {
-					return desiredDescription.equals(description) || isParameterizedMethod(description);
+					return desiredDescriptions.contains(description) || isParameterizedMethod(description);
 				}
 
 				// explicitly check if any children want to run
@@ -63,12 +85,18 @@ class MethodSelectorResolver implements DiscoverySelectorResolver {
 			}
 
 			private boolean isParameterizedMethod(Description description) {
-				return description.getMethodName().startsWith(desiredDescription.getMethodName() + "[");
+				String methodName = description.getMethodName();
+				int index = methodName.indexOf('[');
+				return index > 0 && desiredMethodNames.contains(methodName.substring(0, index));
 			}
 
 			@Override
 			public String describe() {
-				return String.format("Method %s", desiredDescription.getDisplayName());
+				// @formatter:off
+				return desiredDescriptions.stream()
+						.map(desiredDescription -> String.format("Method %s", desiredDescription.getDisplayName()))
+						.collect(joining(" OR "));
+				// @formatter:on
 			}
 		};
 	}
@@ -13,12 +13,17 @@ package org.junit.vintage.engine.discovery;
 import static java.util.Arrays.asList;
 import static org.apiguardian.api.API.Status.INTERNAL;
 import static org.junit.platform.engine.support.filter.ClasspathScanningSupport.buildClassNamePredicate;
+import static org.junit.platform.engine.support.filter.ClasspathScanningSupport.loadClassFileIndex;
+import static org.junit.vintage.engine.descriptor.VintageTestDescriptor.ENGINE_ID;
 
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 
 import org.apiguardian.api.API;
+import org.junit.platform.commons.util.ClassFileIndex;
 import org.junit.platform.commons.util.ClassFilter;
+import org.junit.platform.commons.util.PackageUtils;
 import org.junit.platform.engine.EngineDiscoveryRequest;
 import org.junit.platform.engine.TestDescriptor;
 import org.junit.platform.engine.UniqueId;
@@ -30,6 +35,9 @@ import org.junit.platform.engine.support.descriptor.EngineDescriptor;
 @API(status = INTERNAL, since = "4.12")
 public class VintageDiscoverer {
 
+	private static final IsPotentialJUnit4TestClassFile isPotentialJUnit4TestClassFile = //
+		new IsPotentialJUnit4TestClassFile();
+
 	private static final IsPotentialJUnit4TestClass isPotentialJUnit4TestClass = new IsPotentialJUnit4TestClass();
 
 	private final TestClassRequestResolver resolver = new TestClassRequestResolver();
@@ -58,11 +66,16 @@ public class VintageDiscoverer {
 	}
 
 	private TestClassCollector collectTestClasses(EngineDiscoveryRequest discoveryRequest) {
-		ClassFilter classFilter = ClassFilter.of(buildClassNamePredicate(discoveryRequest), isPotentialJUnit4TestClass);
+		Optional<ClassFileIndex> classFileIndex = loadClassFileIndex(discoveryRequest, ENGINE_ID,
+			PackageUtils.getAttribute(getClass(), Package::getImplementationVersion).orElse("DEVELOPMENT"));
+		ClassFilter classFilter = ClassFilter.of(buildClassNamePredicate(discoveryRequest),
+			isPotentialJUnit4TestClassFile, isPotentialJUnit4TestClass);
+		classFilter = classFileIndex.map(classFilter::withClassFileIndex).orElse(classFilter);
 		TestClassCollector collector = new TestClassCollector();
 		for (DiscoverySelectorResolver selectorResolver : selectorResolvers) {
 			selectorResolver.resolve(discoveryRequest, classFilter, collector);
 		}
+		classFileIndex.ifPresent(ClassFileIndex::save);
 		return collector;
 	}
 
@@ -438,6 +438,47 @@ class VintageTestEngineDiscoveryTests {
 			VintageUniqueIdBuilder.uniqueIdForClass(testClass));
 	}
 
+	@Test
+	void resolvesMethodSelectorsForMethodsOfDifferentClasses() throws Exception {
+		Class<?> testClass = PlainJUnit4TestCaseWithFiveTestMethods.class;
+		Class<?> otherTestClass = PlainJUnit4TestCaseWithSingleTestWhichFails.class;
+		LauncherDiscoveryRequest discoveryRequest = request().selectors(
+			selectMethod(testClass, testClass.getMethod("failingTest")),
+			selectMethod(otherTestClass, otherTestClass.getMethod("failingTest")),
+			selectMethod(testClass, testClass.getMethod("successfulTest"))).build();
+
+		TestDescriptor engineDescriptor = discoverTests(discoveryRequest);
+
+		List<TestDescriptor> runnerDescriptors = new ArrayList<>(engineDescriptor.getChildren());
+		assertThat(runnerDescriptors).hasSize(2);
+		assertRunnerTestDescriptor(runnerDescriptors.get(0), testClass);
+		assertRunnerTestDescriptor(runnerDescriptors.get(1), otherTestClass);
+
+		List<TestDescriptor> testMethodDescriptors = new ArrayList<>(runnerDescriptors.get(0).getChildren());
+		assertThat(testMethodDescriptors).hasSize(2);
+		assertTestMethodDescriptor(testMethodDescriptors.get(0), testClass, "failingTest",
+			VintageUniqueIdBuilder.uniqueIdForClass(testClass));
+		assertTestMethodDescriptor(testMethodDescriptors.get(1), testClass, "successfulTest",
+			VintageUniqueIdBuilder.uniqueIdForClass(testClass));
+
+		assertTestMethodDescriptor(getOnlyElement(runnerDescriptors.get(1).getChildren()), otherTestClass,
+			"failingTest", VintageUniqueIdBuilder.uniqueIdForClass(otherTestClass));
+	}
+
+	@Test
+	void resolvesMethodSelectorForParameterizedTestMethod() throws Exception {
+		Class<?> testClass = ParameterizedTestCase.class;
+		LauncherDiscoveryRequest discoveryRequest = request().selectors(
+			selectMethod(testClass, testClass.getMethod("test"))).build();
+
+		TestDescriptor engineDescriptor = discoverTests(discoveryRequest);
+
+		TestDescriptor runnerDescriptor = getOnlyElement(engineDescriptor.getChildren());
+		assertRunnerTestDescriptor(runnerDescriptor, testClass);
+		assertThat(findChildByDisplayName(runnerDescriptor, "[foo]").getChildren()).hasSize(1);
+		assertThat(findChildByDisplayName(runnerDescriptor, "[bar]").getChildren()).hasSize(1);
+	}
+
 	@Test
 	void resolvesUniqueIdSelectorForSingleMethod() throws Exception {
 		Class<?> testClass = PlainJUnit4TestCaseWithFiveTestMethods.class;
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2015-2018 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.vintage.engine.discovery;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+import org.junit.Ignore;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.commons.util.ClassFileMetadata;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/**
+ * @since 5.4
+ */
+class IsPotentialJUnit4TestClassFileTests {
+
+	private final IsPotentialJUnit4TestClassFile isPotentialJUnit4TestClassFile = new IsPotentialJUnit4TestClassFile();
+
+	@Test
+	void classWithTestMethod() throws Exception {
+		assertTrue(isPotentialJUnit4TestClassFile.test(read(WithTestMethod.class)));
+	}
+
+	@Test
+	void classWithRunWithAnnotation() throws Exception {
+		assertTrue(isPotentialJUnit4TestClassFile.test(read(WithRunWith.class)));
+	}
+
+	@Test
+	void ignoredClass() throws Exception {
+		assertTrue(isPotentialJUnit4TestClassFile.test(read(IgnoredClass.class)));
+	}
+
+	@Test
+	void classWithSuiteMethod() throws Exception {
+		assertTrue(isPotentialJUnit4TestClassFile.test(read(WithSuiteMethod.class)));
+	}
+
+	@Test
+	void subclass() throws Exception {
+		assertTrue(isPotentialJUnit4TestClassFile.test(read(JUnit3TestCase.class)));
+	}
+
+	@Test
+	void classWithoutTestAnnotations() throws Exception {
+		assertFalse(isPotentialJUnit4TestClassFile.test(read(WithoutTestAnnotations.class)));
+	}
+
+	@Test
+	void nonPublicClass() throws Exception {
+		assertFalse(isPotentialJUnit4TestClassFile.test(read(NonPublicWithTestMethod.class)));
+	}
+
+	@Test
+	void abstractClass() throws Exception {
+		assertFalse(isPotentialJUnit4TestClassFile.test(read(AbstractWithTestMethod.class)));
+	}
+
+	private static ClassFileMetadata read(Class<?> type) throws IOException {
+		String resourceName = "/" + type.getName().replace('.', '/') + ".class";
+		try (InputStream inputStream = type.getResourceAsStream(resourceName)) {
+			return ClassFileMetadata.read(inputStream);
+		}
+	}
+
+	public static class WithTestMethod {
+
+		@org.junit.Test
+		public void test() {
+		}
+
+	}
+
+	@RunWith(JUnit4.class)
+	public static class WithRunWith {
+	}
+
+	@Ignore
+	public static class IgnoredClass {
+	}
+
+	public static class WithSuiteMethod {
+
+		public static junit.framework.Test suite() {
+			return new TestSuite();
+		}
+
+	}
+
+	public static class JUnit3TestCase extends TestCase {
+	}
+
+	public static class WithoutTestAnnotations {
+
+		@Deprecated
+		public void method() {
+		}
+
+	}
+
+	static class NonPublicWithTestMethod {
+
+		@org.junit.Test
+		public void test() {
+		}
+
+	}
+
+	public abstract static class AbstractWithTestMethod {
+
+		@org.junit.Test
+		public void test() {
+		}
+
+	}
+
+}
@@ -144,6 +144,19 @@ class AnnotationUtilsTests {
 		assertThat(findAnnotation(Optional.of(method), Annotation1.class)).isPresent();
 	}
 
+	@Test
+	void findAnnotationReturnsSameResultForRepeatedLookups() throws Exception {
+		Method method = ComposedAnnotationClass.class.getDeclaredMethod("method");
+		Optional<Annotation1> annotation = findAnnotation(method, Annotation1.class);
+
+		assertThat(annotation).isPresent();
+		assertThat(findAnnotation(method, Annotation1.class)).containsSame(annotation.get());
+		assertThat(findAnnotation(ComposedAnnotationClass.class.getDeclaredMethod("method"),
+			Annotation1.class)).containsSame(annotation.get());
+		assertThat(findAnnotation(method, Annotation2.class)).isEmpty();
+		assertThat(findAnnotation(method, Annotation2.class)).isEmpty();
+	}
+
 	@Test
 	void isAnnotatedForClassWithoutAnnotation() {
 		assertFalse(isAnnotated(Annotation1Class.class, Annotation2.class));
@@ -234,6 +247,14 @@ class AnnotationUtilsTests {
 			() -> "Tags found for class " + clazz.getName());
 	}
 
+	@Test
+	void findRepeatableAnnotationsReturnsSameResultForRepeatedLookups() {
+		assertTagsFound(MultiComposedTaggedClass.class, "fast", "smoke");
+		assertTagsFound(MultiComposedTaggedClass.class, "fast", "smoke");
+		assertTagsFound(Annotation1Class.class);
+		assertTagsFound(Annotation1Class.class);
+	}
+
 	@Test
 	void findInheritedRepeatableAnnotationsWithSingleAnnotationOnSuperclass() {
 		assertExtensionsFound(SingleExtensionClass.class, "a");
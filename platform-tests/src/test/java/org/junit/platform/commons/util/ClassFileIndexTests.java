@@ -0,0 +1,123 @@
+/*
+ * Copyright 2015-2018 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.commons.util;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.extensions.TempDirectory;
+import org.junit.jupiter.extensions.TempDirectory.Root;
+
+/**
+ * Unit tests for {@link ClassFileIndex}.
+ *
+ * @since 1.4
+ */
+@ExtendWith(TempDirectory.class)
+class ClassFileIndexTests {
+
+	@Test
+	void returnsResultsOnlyForUnchangedClassFiles(@Root Path tempDirectory) {
+		ClassFileIndex index = ClassFileIndex.load(tempDirectory, "engine", "1");
+
+		index.putResult("a", 10, 20, true);
+		index.putResult("b", 10, 20, false);
+
+		assertThat(index.getResult("a", 10, 20)).contains(true);
+		assertThat(index.getResult("b", 10, 20)).contains(false);
+		assertThat(index.getResult("a", 11, 20)).isEmpty();
+		assertThat(index.getResult("a", 10, 21)).isEmpty();
+		assertThat(index.getResult("c", 10, 20)).isEmpty();
+	}
+
+	@Test
+	void savesAndLoadsResults(@Root Path tempDirectory) {
+		ClassFileIndex index = ClassFileIndex.load(tempDirectory.resolve("nested"), "engine", "1");
+		index.putResult("file:/a.class", 10, 20, true);
+		index.save();
+
+		assertThat(tempDirectory.resolve("nested").resolve(ClassFileIndex.fileName("engine"))).isRegularFile();
+		ClassFileIndex reloaded = ClassFileIndex.load(tempDirectory.resolve("nested"), "engine", "1");
+		assertThat(reloaded.getResult("file:/a.class", 10, 20)).contains(true);
+		assertThat(ClassFileIndex.load(tempDirectory.resolve("nested"), "other", "1").getResult("file:/a.class",
+			10, 20)).isEmpty();
+	}
+
+	@Test
+	void discardsIndexWrittenForDifferentVersion(@Root Path tempDirectory) {
+		ClassFileIndex index = ClassFileIndex.load(tempDirectory, "engine", "1");
+		index.putResult("a", 10, 20, true);
+		index.save();
+
+		assertThat(ClassFileIndex.load(tempDirectory, "engine", "2").getResult("a", 10, 20)).isEmpty();
+	}
+
+	@Test
+	void ignoresInvalidEntries(@Root Path tempDirectory) throws Exception {
+		Files.write(tempDirectory.resolve(ClassFileIndex.fileName("engine")),
+			asList("version=1", "a=oops", "b=1\\:2\\:true"));
+
+		ClassFileIndex index = ClassFileIndex.load(tempDirectory, "engine", "1");
+
+		assertThat(index.getResult("a", 1, 2)).isEmpty();
+		assertThat(index.getResult("b", 1, 2)).contains(true);
+	}
+
+	@Test
+	void retainsEntriesNotUsedSinceLoadingForExistingClassFiles(@Root Path tempDirectory) throws Exception {
+		String first = Files.createFile(tempDirectory.resolve("First.class")).toUri().toString();
+		String second = Files.createFile(tempDirectory.resolve("Second.class")).toUri().toString();
+		String deleted = Files.createFile(tempDirectory.resolve("Deleted.class")).toUri().toString();
+		ClassFileIndex index = ClassFileIndex.load(tempDirectory, "engine", "1");
+		index.putResult(first, 10, 20, true);
+		index.putResult(second, 10, 20, false);
+		index.putResult(deleted, 10, 20, true);
+		index.save();
+		Files.delete(tempDirectory.resolve("Deleted.class"));
+
+		// partial scan that only records a new result for the first class file
+		ClassFileIndex partial = ClassFileIndex.load(tempDirectory, "engine", "1");
+		partial.putResult(first, 11, 21, true);
+		partial.save();
+
+		// full scan
+		ClassFileIndex full = ClassFileIndex.load(tempDirectory, "engine", "1");
+		assertThat(full.getResult(first, 11, 21)).contains(true);
+		assertThat(full.getResult(second, 10, 20)).contains(false);
+		assertThat(full.getResult(deleted, 10, 20)).isEmpty();
+	}
+
+	@Test
+	void determinesWhetherClassFilesOrTheirArchivesExist(@Root Path tempDirectory) throws Exception {
+		Path jarFile = Files.createFile(tempDirectory.resolve("test.jar"));
+
+		assertThat(ClassFileIndex.classFileExists(jarFile.toUri().toString())).isTrue();
+		assertThat(ClassFileIndex.classFileExists("jar:" + jarFile.toUri() + "!/a/B.class")).isTrue();
+		assertThat(ClassFileIndex.classFileExists(tempDirectory.resolve("missing.jar").toUri().toString())).isFalse();
+		assertThat(ClassFileIndex.classFileExists("jar:" + tempDirectory.resolve("missing.jar").toUri()
+				+ "!/a/B.class")).isFalse();
+		assertThat(ClassFileIndex.classFileExists("a")).isFalse();
+	}
+
+	@Test
+	void doesNotWriteUnmodifiedIndex(@Root Path tempDirectory) {
+		ClassFileIndex.load(tempDirectory, "engine", "1").save();
+
+		assertThat(tempDirectory.resolve(ClassFileIndex.fileName("engine"))).doesNotExist();
+		assertThat(tempDirectory.toFile().list()).isEmpty();
+	}
+
+}
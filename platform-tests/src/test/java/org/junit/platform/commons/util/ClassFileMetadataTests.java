@@ -0,0 +1,133 @@
+/*
+ * Copyright 2015-2018 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.commons.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Serializable;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Tags;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link ClassFileMetadata}.
+ *
+ * @since 1.4
+ */
+class ClassFileMetadataTests {
+
+	@Test
+	void readsClassNameAndModifiers() throws Exception {
+		ClassFileMetadata metadata = read(AnnotatedClass.class);
+
+		assertThat(metadata.getClassName()).isEqualTo(AnnotatedClass.class.getName());
+		assertThat(metadata.isPublic()).isTrue();
+		assertThat(metadata.isAbstract()).isFalse();
+		assertThat(read(AbstractClass.class).isPublic()).isFalse();
+		assertThat(read(AbstractClass.class).isAbstract()).isTrue();
+		assertThat(read(Supplier.class).isAbstract()).isTrue();
+	}
+
+	@Test
+	void readsSuperclassAndInterfaces() throws Exception {
+		ClassFileMetadata metadata = read(AnnotatedClass.class);
+
+		assertThat(metadata.getSuperclassName()).contains(AbstractClass.class.getName());
+		assertThat(metadata.hasSuperclassOtherThanObject()).isTrue();
+		assertThat(metadata.getInterfaceNames()).containsExactly(Serializable.class.getName(),
+			Supplier.class.getName());
+		assertThat(read(AbstractClass.class).getSuperclassName()).contains(Object.class.getName());
+		assertThat(read(AbstractClass.class).hasSuperclassOtherThanObject()).isFalse();
+		assertThat(read(Object.class).getSuperclassName()).isEmpty();
+	}
+
+	@Test
+	void readsRuntimeVisibleAnnotationsOfClassAndMethods() throws Exception {
+		ClassFileMetadata metadata = read(AnnotatedClass.class);
+
+		assertThat(metadata.getClassAnnotationNames()).containsExactly(Tags.class.getName());
+		assertThat(metadata.getMethodAnnotationNames()).containsExactlyInAnyOrder(Deprecated.class.getName(),
+			Tag.class.getName());
+		assertThat(read(AbstractClass.class).getMethodAnnotationNames()).isEmpty();
+	}
+
+	@Test
+	void readsMethodNames() throws Exception {
+		assertThat(read(AnnotatedClass.class).getMethodNames()).contains("<init>", "annotatedMethod", "get");
+	}
+
+	@Test
+	void readsMemberClassesDeclaredByClass() throws Exception {
+		assertThat(read(ClassFileMetadataTests.class).getMemberClassNames()).containsExactlyInAnyOrder(
+			AnnotatedClass.class.getName(), AbstractClass.class.getName(), ClassRetentionAnnotation.class.getName());
+		assertThat(read(AnnotatedClass.class).getMemberClassNames()).isEmpty();
+	}
+
+	@Test
+	void throwsIOExceptionForInvalidClassFile() {
+		assertThrows(IOException.class,
+			() -> ClassFileMetadata.read(new ByteArrayInputStream(new byte[] { (byte) 0xCA, (byte) 0xFE })));
+		assertThrows(IOException.class, () -> ClassFileMetadata.read(new ByteArrayInputStream(new byte[8])));
+	}
+
+	private static ClassFileMetadata read(Class<?> type) throws IOException {
+		String resourceName = "/" + type.getName().replace('.', '/') + ".class";
+		try (InputStream inputStream = type.getResourceAsStream(resourceName)) {
+			return ClassFileMetadata.read(inputStream);
+		}
+	}
+
+	@Tag("a")
+	@Tag("b")
+	@ClassRetentionAnnotation
+	public static class AnnotatedClass extends AbstractClass implements Serializable, Supplier<String> {
+
+		private static final long serialVersionUID = 1L;
+
+		@Deprecated
+		private long value = 42L;
+
+		@Deprecated
+		@Tag("method")
+		@ClassRetentionAnnotation
+		void annotatedMethod() {
+		}
+
+		@Override
+		void method() {
+		}
+
+		@Override
+		public String get() {
+			return String.valueOf(value);
+		}
+
+	}
+
+	abstract static class AbstractClass {
+
+		abstract void method();
+
+	}
+
+	@Retention(RetentionPolicy.CLASS)
+	@interface ClassRetentionAnnotation {
+	}
+
+}
@@ -28,6 +28,7 @@ import java.util.ArrayList;
 import java.util.Enumeration;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiFunction;
 import java.util.function.Predicate;
 import java.util.logging.Level;
@@ -249,6 +250,76 @@ class ClasspathScannerTests {
 		assertThat(loadedClasses).containsExactly(ClasspathScannerTests.class);
 	}
 
+	@Test
+	void scanForClassesInPackageOnlyLoadsClassesThatAreIncludedByTheClassFilePredicate() {
+		ClassFilter classFilter = ClassFilter.of(name -> true,
+			classFile -> ClasspathScannerTests.class.getName().equals(classFile.getClassName()), type -> true);
+
+		List<Class<?>> classes = classpathScanner.scanForClassesInPackage("org.junit.platform.commons", classFilter);
+
+		assertThat(classes).containsExactly(ClasspathScannerTests.class);
+		assertThat(loadedClasses).containsExactly(ClasspathScannerTests.class);
+	}
+
+	@Test
+	@ExtendWith(TempDirectory.class)
+	void scanForClassesInPackageReusesClassFilePredicateResultsRecordedInIndex(@Root Path tempDir) {
+		AtomicInteger classFilesRead = new AtomicInteger();
+		ClassFilter classFilter = ClassFilter.of(name -> true, classFile -> {
+			classFilesRead.incrementAndGet();
+			return ClasspathScannerTests.class.getName().equals(classFile.getClassName());
+		}, type -> true);
+
+		ClassFileIndex index = ClassFileIndex.load(tempDir, "test", "1");
+		List<Class<?>> classes = classpathScanner.scanForClassesInPackage("org.junit.platform.commons.util",
+			classFilter.withClassFileIndex(index));
+		index.save();
+		int classFilesReadInitially = classFilesRead.getAndSet(0);
+
+		ClassFileIndex reloadedIndex = ClassFileIndex.load(tempDir, "test", "1");
+		List<Class<?>> reloadedClasses = classpathScanner.scanForClassesInPackage("org.junit.platform.commons.util",
+			classFilter.withClassFileIndex(reloadedIndex));
+
+		assertThat(classFilesReadInitially).isGreaterThan(1);
+		assertThat(classFilesRead.get()).isZero();
+		assertThat(classes).containsExactly(ClasspathScannerTests.class);
+		assertThat(reloadedClasses).containsExactly(ClasspathScannerTests.class);
+	}
+
+	@Test
+	@ExtendWith(TempDirectory.class)
+	void findAllClassesInPackageWithinJarFileUsingClassFilePredicateAndIndex(@Root Path tempDir) throws Exception {
+		URL jarfile = getClass().getResource("/jartest.jar");
+		List<String> classFileNames = new ArrayList<>();
+		ClassFilter classFilter = ClassFilter.of(name -> true, classFile -> {
+			classFileNames.add(classFile.getClassName());
+			return !classFile.getClassName().endsWith("RecursivelyIncluded");
+		}, type -> true);
+
+		try (URLClassLoader classLoader = new URLClassLoader(new URL[] { jarfile })) {
+			ClasspathScanner classpathScanner = new ClasspathScanner(() -> classLoader, ReflectionUtils::loadClass);
+
+			ClassFileIndex index = ClassFileIndex.load(tempDir, "test", "1");
+			List<Class<?>> classes = classpathScanner.scanForClassesInPackage("org.junit.platform.jartest.included",
+				classFilter.withClassFileIndex(index));
+			index.save();
+			List<String> classFileNamesReadInitially = new ArrayList<>(classFileNames);
+			classFileNames.clear();
+
+			ClassFileIndex reloadedIndex = ClassFileIndex.load(tempDir, "test", "1");
+			List<Class<?>> reloadedClasses = classpathScanner.scanForClassesInPackage(
+				"org.junit.platform.jartest.included", classFilter.withClassFileIndex(reloadedIndex));
+
+			assertThat(classFileNamesReadInitially).containsExactly("org.junit.platform.jartest.included.Included",
+				"org.junit.platform.jartest.included.recursive.RecursivelyIncluded");
+			assertThat(classFileNames).isEmpty();
+			assertThat(classes).extracting(Class::getName).containsExactly(
+				"org.junit.platform.jartest.included.Included");
+			assertThat(reloadedClasses).extracting(Class::getName).containsExactly(
+				"org.junit.platform.jartest.included.Included");
+		}
+	}
+
 	@Test
 	void findAllClassesInClasspathRoot() throws Exception {
 		ClassFilter thisClassOnly = ClassFilter.of(clazz -> clazz == ClasspathScannerTests.class);
@@ -299,6 +370,49 @@ class ClasspathScannerTests {
 		assertTrue(classes.contains(ClasspathScannerTests.class));
 	}
 
+	@Test
+	void scanForClassesInPackageInParallelFindsSameClassesInSameOrder() {
+		ClasspathScanner parallelScanner = new ClasspathScanner(ClassLoaderUtils::getDefaultClassLoader,
+			ReflectionUtils::loadClass, 4);
+
+		List<Class<?>> classes = parallelScanner.scanForClassesInPackage("org.junit.platform.commons", allClasses);
+
+		assertThat(classes).containsExactlyElementsOf(
+			classpathScanner.scanForClassesInPackage("org.junit.platform.commons", allClasses));
+	}
+
+	@Test
+	void scanForClassesInClasspathRootInParallelFindsSameClassesInSameOrder() throws Exception {
+		ClasspathScanner parallelScanner = new ClasspathScanner(ClassLoaderUtils::getDefaultClassLoader,
+			ReflectionUtils::loadClass, 4);
+		URI root = getTestClasspathRoot();
+
+		List<Class<?>> classes = parallelScanner.scanForClassesInClasspathRoot(root, allClasses);
+
+		assertThat(classes).containsExactlyElementsOf(classpathScanner.scanForClassesInClasspathRoot(root, allClasses));
+	}
+
+	@Test
+	void scanForClassesInClasspathRootWithinJarFileInParallel() throws Exception {
+		URL jarfile = getClass().getResource("/jartest.jar");
+
+		try (URLClassLoader classLoader = new URLClassLoader(new URL[] { jarfile })) {
+			ClasspathScanner sequentialScanner = new ClasspathScanner(() -> classLoader, ReflectionUtils::loadClass);
+			ClasspathScanner parallelScanner = new ClasspathScanner(() -> classLoader, ReflectionUtils::loadClass, 2);
+
+			List<Class<?>> classes = parallelScanner.scanForClassesInClasspathRoot(jarfile.toURI(), allClasses);
+
+			assertThat(classes).hasSize(3).containsExactlyElementsOf(
+				sequentialScanner.scanForClassesInClasspathRoot(jarfile.toURI(), allClasses));
+		}
+	}
+
+	@Test
+	void scanInParallelRequiresPositiveParallelism() {
+		assertThrows(PreconditionViolationException.class,
+			() -> new ClasspathScanner(ClassLoaderUtils::getDefaultClassLoader, ReflectionUtils::loadClass, 0));
+	}
+
 	@Test
 	void findAllClassesInClasspathRootForNullRoot() {
 		assertThrows(PreconditionViolationException.class,
@@ -915,6 +915,20 @@ class ReflectionUtilsTests {
 					GrandparentInterface.class.getMethod("method2"), ParentClass.class.getMethod("method3"));
 	}
 
+	@Test
+	void findMethodsReturnsCachedMethodsFilteredByPredicate() {
+		List<Method> allMethods = findMethods(ChildClass.class, method -> true, TOP_DOWN);
+		List<Method> otherMethods = findMethods(ChildClass.class, method -> method.getName().contains("other"),
+			TOP_DOWN);
+
+		assertThat(findMethods(ChildClass.class, method -> true, TOP_DOWN)).hasSameSizeAs(allMethods).allMatch(
+			method -> allMethods.stream().anyMatch(cachedMethod -> cachedMethod == method));
+		assertThat(otherMethods).hasSize(3).allMatch(
+			method -> allMethods.stream().anyMatch(cachedMethod -> cachedMethod == method));
+		assertThat(findMethods(ChildClass.class, method -> true, BOTTOM_UP)).containsExactlyInAnyOrderElementsOf(
+			allMethods);
+	}
+
 	@Test
 	void findMethodsWithShadowingUsingHierarchyUpMode() throws Exception {
 		assertThat(findMethods(MethodShadowingChild.class, methodContains1, BOTTOM_UP))//
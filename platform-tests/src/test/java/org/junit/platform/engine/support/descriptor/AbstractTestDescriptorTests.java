@@ -134,6 +134,50 @@ class AbstractTestDescriptorTests {
 		assertFalse(visited.contains(UniqueId.root("group", "group1")));
 	}
 
+	@Test
+	void findByUniqueId() {
+		TestDescriptor leaf = engineDescriptor.findByUniqueId(UniqueId.root("leaf", "leaf11-1")).orElseThrow(
+			Error::new);
+
+		assertEquals(UniqueId.root("leaf", "leaf11-1"), leaf.getUniqueId());
+		assertFalse(engineDescriptor.findByUniqueId(UniqueId.root("leaf", "unknown")).isPresent());
+	}
+
+	@Test
+	void findByUniqueIdInHierarchyOfUniqueIds() {
+		EngineDescriptor engine = new EngineDescriptor(UniqueId.forEngine("engine"), "engine");
+		GroupDescriptor group = new GroupDescriptor(engine.getUniqueId().append("group", "group"));
+		LeafDescriptor leaf1 = new LeafDescriptor(group.getUniqueId().append("leaf", "leaf1"));
+		LeafDescriptor leaf2 = new LeafDescriptor(group.getUniqueId().append("leaf", "leaf2"));
+		group.addChild(leaf1);
+		engine.addChild(group);
+		group.addChild(leaf2);
+
+		assertSame(engine, engine.findByUniqueId(engine.getUniqueId()).orElseThrow(Error::new));
+		assertSame(group, engine.findByUniqueId(group.getUniqueId()).orElseThrow(Error::new));
+		assertSame(leaf1, engine.findByUniqueId(leaf1.getUniqueId()).orElseThrow(Error::new));
+		assertSame(leaf2, engine.findByUniqueId(leaf2.getUniqueId()).orElseThrow(Error::new));
+		assertFalse(engine.findByUniqueId(group.getUniqueId().append("leaf", "unknown")).isPresent());
+		assertFalse(engine.findByUniqueId(UniqueId.forEngine("other")).isPresent());
+
+		group.removeChild(leaf1);
+
+		assertFalse(engine.findByUniqueId(leaf1.getUniqueId()).isPresent());
+		assertSame(leaf2, engine.findByUniqueId(leaf2.getUniqueId()).orElseThrow(Error::new));
+	}
+
+	@Test
+	void findByUniqueIdAfterAddingDescendantWithUnrelatedUniqueId() {
+		EngineDescriptor engine = new EngineDescriptor(UniqueId.forEngine("engine"), "engine");
+		GroupDescriptor group = new GroupDescriptor(engine.getUniqueId().append("group", "group"));
+		engine.addChild(group);
+		LeafDescriptor leaf = new LeafDescriptor(UniqueId.root("leaf", "leaf"));
+		group.addChild(leaf);
+
+		assertSame(leaf, engine.findByUniqueId(leaf.getUniqueId()).orElseThrow(Error::new));
+		assertSame(group, engine.findByUniqueId(group.getUniqueId()).orElseThrow(Error::new));
+	}
+
 }
 
 class GroupDescriptor extends AbstractTestDescriptor {
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2015-2018 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.engine.support.hierarchical;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.platform.engine.support.hierarchical.AdaptiveBatchSizer.MAX_BATCH_SIZE;
+import static org.junit.platform.engine.support.hierarchical.AdaptiveBatchSizer.TARGET_BATCH_DURATION_NANOS;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * @since 1.4
+ */
+class AdaptiveBatchSizerTests {
+
+	private final AdaptiveBatchSizer batchSizer = new AdaptiveBatchSizer();
+
+	@Test
+	void doesNotBatchTasksWithoutRecordedDurations() {
+		assertThat(batchSizer.computeBatchSize(1000, 4)).isEqualTo(1);
+	}
+
+	@Test
+	void sizesBatchesToTargetDuration() {
+		batchSizer.record(10, 10 * TARGET_BATCH_DURATION_NANOS / 8);
+
+		assertThat(batchSizer.computeBatchSize(1000, 4)).isEqualTo(8);
+	}
+
+	@Test
+	void limitsBatchSize() {
+		batchSizer.record(1000, 1000);
+
+		assertThat(batchSizer.computeBatchSize(100_000, 4)).isEqualTo(MAX_BATCH_SIZE);
+	}
+
+	@Test
+	void keepsAtLeastOneBatchPerWorker() {
+		batchSizer.record(1000, 1000);
+
+		assertThat(batchSizer.computeBatchSize(10, 4)).isEqualTo(3);
+		assertThat(batchSizer.computeBatchSize(3, 4)).isEqualTo(1);
+	}
+
+	@Test
+	void doesNotBatchLongRunningTasks() {
+		batchSizer.record(1, 2 * TARGET_BATCH_DURATION_NANOS);
+
+		assertThat(batchSizer.computeBatchSize(1000, 4)).isEqualTo(1);
+	}
+
+}
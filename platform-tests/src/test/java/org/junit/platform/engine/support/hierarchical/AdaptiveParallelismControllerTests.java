@@ -0,0 +1,57 @@
+/*
+ * Copyright 2015-2018 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.engine.support.hierarchical;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.junit.platform.engine.support.hierarchical.AdaptiveParallelismController.Sample;
+
+/**
+ * @since 1.4
+ */
+class AdaptiveParallelismControllerTests {
+
+	private final AdaptiveParallelismController controller = new AdaptiveParallelismController(null, null, 2, 16);
+
+	@Test
+	void growsWhenAllWorkersAreBusyAndTasksAreQueuedWithoutSaturatingTheCpu() {
+		assertThat(controller.computeParallelism(4, new Sample(4, 10, 0.0, 0.3))).isEqualTo(5);
+		assertThat(controller.computeParallelism(8, new Sample(8, 10, 0.0, -1))).isEqualTo(10);
+	}
+
+	@Test
+	void shrinksWhenCpuIsSaturated() {
+		assertThat(controller.computeParallelism(8, new Sample(8, 10, 0.0, 1.5))).isEqualTo(7);
+	}
+
+	@Test
+	void shrinksWhenWorkersAreMostlyBlockedOnResourceLocks() {
+		assertThat(controller.computeParallelism(8, new Sample(8, 10, 0.7, 0.3))).isEqualTo(7);
+	}
+
+	@Test
+	void shrinksWhenWorkersAreIdle() {
+		assertThat(controller.computeParallelism(8, new Sample(3, 0, 0.0, 0.3))).isEqualTo(7);
+	}
+
+	@Test
+	void keepsParallelismWhenAllWorkersAreBusyWithoutQueuedTasks() {
+		assertThat(controller.computeParallelism(8, new Sample(8, 0, 0.0, 0.3))).isEqualTo(8);
+	}
+
+	@Test
+	void staysWithinBounds() {
+		assertThat(controller.computeParallelism(16, new Sample(16, 10, 0.0, 0.3))).isEqualTo(16);
+		assertThat(controller.computeParallelism(2, new Sample(0, 0, 0.0, 2.0))).isEqualTo(2);
+	}
+
+}
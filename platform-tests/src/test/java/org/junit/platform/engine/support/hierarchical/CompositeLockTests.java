@@ -11,11 +11,14 @@
 package org.junit.platform.engine.support.hierarchical;
 
 import static java.util.Arrays.asList;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.locks.Lock;
@@ -82,6 +85,37 @@ class CompositeLockTests {
 		verify(unavailableLock, never()).unlock();
 	}
 
+	@Test
+	void tryAcquireAcquiresAllLocksInOrder() {
+		Lock lock1 = mock(Lock.class);
+		Lock lock2 = mock(Lock.class);
+		when(lock1.tryLock()).thenReturn(true);
+		when(lock2.tryLock()).thenReturn(true);
+
+		assertTrue(new CompositeLock(asList(lock1, lock2)).tryAcquire());
+
+		InOrder inOrder = inOrder(lock1, lock2);
+		inOrder.verify(lock1).tryLock();
+		inOrder.verify(lock2).tryLock();
+	}
+
+	@Test
+	void tryAcquireReleasesAcquiredLocksInReverseOrderWhenLockIsUnavailable() {
+		Lock firstLock = mock(Lock.class);
+		Lock secondLock = mock(Lock.class);
+		Lock unavailableLock = mock(Lock.class);
+		when(firstLock.tryLock()).thenReturn(true);
+		when(secondLock.tryLock()).thenReturn(true);
+		when(unavailableLock.tryLock()).thenReturn(false);
+
+		assertFalse(new CompositeLock(asList(firstLock, secondLock, unavailableLock)).tryAcquire());
+
+		InOrder inOrder = inOrder(firstLock, secondLock);
+		inOrder.verify(secondLock).unlock();
+		inOrder.verify(firstLock).unlock();
+		verify(unavailableLock, never()).unlock();
+	}
+
 	private Lock mockLock(String name, Executable lockAction) throws InterruptedException {
 		Lock lock = mock(Lock.class, name);
 		doAnswer(invocation -> {
@@ -66,6 +66,48 @@ class DefaultParallelExecutionConfigurationStrategyTests {
 		assertThat(configuration.getKeepAliveSeconds()).isEqualTo(30);
 	}
 
+	@Test
+	void adaptiveStrategyCreatesValidConfiguration() {
+		when(configParams.get("adaptive.min.parallelism")).thenReturn(Optional.of("2"));
+		when(configParams.get("adaptive.max.parallelism")).thenReturn(Optional.of("1000"));
+
+		ParallelExecutionConfigurationStrategy strategy = DefaultParallelExecutionConfigurationStrategy.ADAPTIVE;
+		ParallelExecutionConfiguration configuration = strategy.createConfiguration(configParams);
+
+		int availableProcessors = Runtime.getRuntime().availableProcessors();
+		assertThat(configuration).isInstanceOf(AdaptiveParallelExecutionConfiguration.class);
+		assertThat(configuration.getParallelism()).isEqualTo(Math.max(2, availableProcessors));
+		assertThat(configuration.getMinimumRunnable()).isEqualTo(2);
+		assertThat(configuration.getMaxPoolSize()).isEqualTo(256 + 1000);
+		assertThat(configuration.getKeepAliveSeconds()).isEqualTo(30);
+		assertThat(((AdaptiveParallelExecutionConfiguration) configuration).getMinParallelism()).isEqualTo(2);
+		assertThat(((AdaptiveParallelExecutionConfiguration) configuration).getMaxParallelism()).isEqualTo(1000);
+	}
+
+	@Test
+	void adaptiveStrategyUsesDefaultsWhenPropertiesAreNotPresent() {
+		when(configParams.get("adaptive.min.parallelism")).thenReturn(Optional.empty());
+		when(configParams.get("adaptive.max.parallelism")).thenReturn(Optional.empty());
+
+		ParallelExecutionConfigurationStrategy strategy = DefaultParallelExecutionConfigurationStrategy.ADAPTIVE;
+		ParallelExecutionConfiguration configuration = strategy.createConfiguration(configParams);
+
+		int availableProcessors = Runtime.getRuntime().availableProcessors();
+		assertThat(configuration.getParallelism()).isEqualTo(availableProcessors);
+		assertThat(((AdaptiveParallelExecutionConfiguration) configuration).getMinParallelism()).isEqualTo(1);
+		assertThat(((AdaptiveParallelExecutionConfiguration) configuration).getMaxParallelism()).isEqualTo(
+			4 * availableProcessors);
+	}
+
+	@Test
+	void adaptiveStrategyThrowsExceptionWhenMaxIsLessThanMin() {
+		when(configParams.get("adaptive.min.parallelism")).thenReturn(Optional.of("4"));
+		when(configParams.get("adaptive.max.parallelism")).thenReturn(Optional.of("3"));
+
+		ParallelExecutionConfigurationStrategy strategy = DefaultParallelExecutionConfigurationStrategy.ADAPTIVE;
+		assertThrows(JUnitException.class, () -> strategy.createConfiguration(configParams));
+	}
+
 	@Test
 	void customStrategyCreatesValidConfiguration() {
 		when(configParams.get("custom.class")).thenReturn(
@@ -10,6 +10,7 @@
 
 package org.junit.platform.engine.support.hierarchical;
 
+import static java.util.Arrays.asList;
 import static java.util.Collections.singleton;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertSame;
@@ -23,14 +24,24 @@ import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.platform.engine.EngineExecutionListener;
 import org.junit.platform.engine.ExecutionRequest;
+import org.junit.platform.engine.PendingTestDescriptors;
 import org.junit.platform.engine.TestDescriptor;
 import org.junit.platform.engine.TestExecutionResult;
 import org.junit.platform.engine.UniqueId;
@@ -516,6 +527,221 @@ class HierarchicalTestExecutorTests {
 			FAILED, SUCCESSFUL, SUCCESSFUL);
 	}
 
+	@Test
+	void limitsNumberOfOutstandingDynamicTestDescriptors() throws Exception {
+
+		UniqueId leafUniqueId = UniqueId.root("leaf", "child leaf");
+		MyLeaf child = spy(new MyLeaf(leafUniqueId));
+		int maxOutstandingDynamicTests = 8;
+		int numberOfDynamicTests = 2 * maxOutstandingDynamicTests + 1;
+
+		when(child.execute(any(), any())).thenAnswer(invocation -> {
+			DynamicTestExecutor dynamicTestExecutor = invocation.getArgument(1);
+			for (int i = 0; i < numberOfDynamicTests; i++) {
+				dynamicTestExecutor.execute(new MyLeaf(leafUniqueId.append("dynamic", "child" + i)));
+			}
+			return invocation.getArgument(0);
+		});
+		root.addChild(child);
+
+		LazyExecutorService executorService = new LazyExecutorService();
+		new HierarchicalTestExecutor<>(new ExecutionRequest(root, listener, null), rootContext, executorService,
+			OpenTest4JAwareThrowableCollector::new, ResourceAnalysisMode.SUBTREE, false, 0,
+			maxOutstandingDynamicTests).execute().get();
+
+		verify(listener, times(numberOfDynamicTests)).dynamicTestRegistered(any());
+		assertThat(executorService.submittedTasks).isEqualTo(1 + numberOfDynamicTests);
+		assertThat(executorService.maxOutstandingTasks).isEqualTo(maxOutstandingDynamicTests);
+	}
+
+	@Test
+	void detachesFinishedDynamicTestDescriptorsFromTheirParentInStreamingMode() throws Exception {
+
+		UniqueId containerUniqueId = UniqueId.root("container", "child container");
+		MyContainer child = spy(new MyContainer(containerUniqueId));
+		List<MyLeaf> dynamicTests = new ArrayList<>();
+
+		when(child.execute(any(), any())).thenAnswer(invocation -> {
+			DynamicTestExecutor dynamicTestExecutor = invocation.getArgument(1);
+			for (int i = 0; i < 3; i++) {
+				MyLeaf dynamicTest = new MyLeaf(containerUniqueId.append("dynamic", "child" + i));
+				dynamicTests.add(dynamicTest);
+				child.addChild(dynamicTest);
+				dynamicTestExecutor.execute(dynamicTest);
+			}
+			return invocation.getArgument(0);
+		});
+		root.addChild(child);
+
+		new HierarchicalTestExecutor<>(new ExecutionRequest(root, listener, null), rootContext,
+			new LazyExecutorService(), OpenTest4JAwareThrowableCollector::new, ResourceAnalysisMode.SUBTREE, true,
+			0, 2).execute().get();
+
+		verify(listener, times(3)).dynamicTestRegistered(any());
+		dynamicTests.forEach(dynamicTest -> verify(listener).executionFinished(eq(dynamicTest), any()));
+		assertThat(dynamicTests).allSatisfy(dynamicTest -> assertThat(dynamicTest.getParent()).isEmpty());
+		assertThat(child.getChildren()).isEmpty();
+	}
+
+	@Test
+	void retainsFinishedDynamicTestDescriptorsWithoutStreamingMode() throws Exception {
+
+		UniqueId containerUniqueId = UniqueId.root("container", "child container");
+		MyContainer child = spy(new MyContainer(containerUniqueId));
+		List<MyLeaf> dynamicTests = new ArrayList<>();
+
+		when(child.execute(any(), any())).thenAnswer(invocation -> {
+			DynamicTestExecutor dynamicTestExecutor = invocation.getArgument(1);
+			for (int i = 0; i < 3; i++) {
+				MyLeaf dynamicTest = new MyLeaf(containerUniqueId.append("dynamic", "child" + i));
+				dynamicTests.add(dynamicTest);
+				child.addChild(dynamicTest);
+				dynamicTestExecutor.execute(dynamicTest);
+			}
+			return invocation.getArgument(0);
+		});
+		root.addChild(child);
+
+		new HierarchicalTestExecutor<>(new ExecutionRequest(root, listener, null), rootContext,
+			new LazyExecutorService(), OpenTest4JAwareThrowableCollector::new, ResourceAnalysisMode.SUBTREE, false,
+			0, 2).execute().get();
+
+		verify(listener, times(3)).dynamicTestRegistered(any());
+		dynamicTests.forEach(dynamicTest -> verify(listener).executionFinished(eq(dynamicTest), any()));
+		assertThat(dynamicTests).allSatisfy(dynamicTest -> assertThat(dynamicTest.getParent()).contains(child));
+		assertThat(child.getChildren()).hasSize(3);
+		assertThat(child.getParent()).contains(root);
+	}
+
+	@Test
+	void releasesFinishedTestDescriptorsInStreamingMode() throws Exception {
+
+		MyContainer container = new MyContainer(UniqueId.root("container", "child container"));
+		MyLeaf leaf = new MyLeaf(UniqueId.root("leaf", "nested leaf"));
+		MyLeaf skippedLeaf = spy(new MyLeaf(UniqueId.root("leaf", "skipped leaf")));
+		when(skippedLeaf.shouldBeSkipped(rootContext)).thenReturn(Node.SkipResult.skip("in test"));
+		container.addChild(leaf);
+		root.addChild(container);
+		root.addChild(skippedLeaf);
+
+		new HierarchicalTestExecutor<>(new ExecutionRequest(root, listener, null), rootContext,
+			new SameThreadHierarchicalTestExecutorService(), OpenTest4JAwareThrowableCollector::new,
+			ResourceAnalysisMode.SUBTREE, true, 0, 256).execute().get();
+
+		InOrder inOrder = inOrder(listener);
+		inOrder.verify(listener).executionFinished(eq(leaf), any(TestExecutionResult.class));
+		inOrder.verify(listener).executionFinished(eq(container), any(TestExecutionResult.class));
+		inOrder.verify(listener).executionSkipped(skippedLeaf, "in test");
+		inOrder.verify(listener).executionFinished(eq(root), any(TestExecutionResult.class));
+
+		assertThat(root.getChildren()).isEmpty();
+		assertThat(container.getParent()).isEmpty();
+		assertThat(container.getChildren()).isEmpty();
+		assertThat(leaf.getParent()).isEmpty();
+		assertThat(skippedLeaf.getParent()).isEmpty();
+	}
+
+	@Test
+	void retainsFinishedTestDescriptorsByDefault() throws Exception {
+
+		MyContainer container = new MyContainer(UniqueId.root("container", "child container"));
+		MyLeaf leaf = new MyLeaf(UniqueId.root("leaf", "nested leaf"));
+		container.addChild(leaf);
+		root.addChild(container);
+
+		executor.execute();
+
+		assertThat(container.getParent()).contains(root);
+		assertThat(leaf.getParent()).contains(container);
+	}
+
+	@Test
+	void executesPendingChildrenInsteadOfCurrentChildrenOfRoot() throws Exception {
+
+		MyLeaf unreportedLeaf = spy(new MyLeaf(UniqueId.root("leaf", "unreported leaf")));
+		MyContainer container = new MyContainer(UniqueId.root("container", "pending container"));
+		MyLeaf nestedLeaf = new MyLeaf(UniqueId.root("leaf", "nested leaf"));
+		MyLeaf leaf = new MyLeaf(UniqueId.root("leaf", "pending leaf"));
+		container.addChild(nestedLeaf);
+		root.addChild(unreportedLeaf);
+		root.addChild(container);
+		root.addChild(leaf);
+		Iterator<TestDescriptor> pendingChildren = asList((TestDescriptor) container, leaf).iterator();
+		PendingTestDescriptors pendingTestDescriptors = () -> pendingChildren.hasNext()
+				? Optional.of(pendingChildren.next())
+				: Optional.empty();
+
+		new HierarchicalTestExecutor<>(new ExecutionRequest(root, listener, null, pendingTestDescriptors),
+			rootContext, new SameThreadHierarchicalTestExecutorService(), OpenTest4JAwareThrowableCollector::new,
+			ResourceAnalysisMode.SUBTREE, true, 0, 256).execute().get();
+
+		InOrder inOrder = inOrder(listener);
+		inOrder.verify(listener).executionStarted(root);
+		inOrder.verify(listener).executionFinished(eq(nestedLeaf), any(TestExecutionResult.class));
+		inOrder.verify(listener).executionFinished(eq(container), any(TestExecutionResult.class));
+		inOrder.verify(listener).executionFinished(eq(leaf), any(TestExecutionResult.class));
+		inOrder.verify(listener).executionFinished(eq(root), any(TestExecutionResult.class));
+		verify(unreportedLeaf, never()).execute(any(), any());
+
+		// pending children are released once discovery has finished in streaming mode
+		assertThat(root.getChildren()).isEqualTo(singleton(unreportedLeaf));
+		assertThat(container.getParent()).isEmpty();
+		assertThat(leaf.getParent()).isEmpty();
+		assertThat(nestedLeaf.getParent()).isEmpty();
+	}
+
+	@Test
+	void skipsRemainingNodesOnceFailFastThresholdIsReached() throws Exception {
+
+		MyLeaf failingLeaf = spy(new MyLeaf(UniqueId.root("leaf", "failing leaf")));
+		when(failingLeaf.execute(eq(rootContext), any())).thenThrow(new RuntimeException("failed"));
+		MyContainer container = spy(new MyContainer(UniqueId.root("container", "child container")));
+		MyLeaf nestedLeaf = spy(new MyLeaf(UniqueId.root("leaf", "nested leaf")));
+		container.addChild(nestedLeaf);
+		root.addChild(failingLeaf);
+		root.addChild(container);
+
+		new HierarchicalTestExecutor<>(new ExecutionRequest(root, listener, null), rootContext,
+			new SameThreadHierarchicalTestExecutorService(), OpenTest4JAwareThrowableCollector::new,
+			ResourceAnalysisMode.SUBTREE, false, 1, 256).execute().get();
+
+		InOrder inOrder = inOrder(listener);
+		inOrder.verify(listener).executionFinished(eq(failingLeaf), any(TestExecutionResult.class));
+		inOrder.verify(listener).executionSkipped(container, "Execution cancelled after 1 failure");
+		inOrder.verify(listener).executionFinished(eq(root), any(TestExecutionResult.class));
+
+		verify(container, never()).prepare(any());
+		verify(listener, never()).executionStarted(container);
+		verify(listener, never()).executionSkipped(eq(nestedLeaf), any());
+	}
+
+	@Test
+	void stopsAcceptingDynamicTestsOnceFailFastThresholdIsReached() throws Exception {
+
+		UniqueId leafUniqueId = UniqueId.root("leaf", "child leaf");
+		MyLeaf child = spy(new MyLeaf(leafUniqueId));
+		MyLeaf failingDynamicTest = spy(new MyLeaf(leafUniqueId.append("dynamic", "failing")));
+		when(failingDynamicTest.execute(eq(rootContext), any())).thenThrow(new RuntimeException("failed"));
+		MyLeaf ignoredDynamicTest = spy(new MyLeaf(leafUniqueId.append("dynamic", "ignored")));
+
+		when(child.execute(any(), any())).thenAnswer(invocation -> {
+			DynamicTestExecutor dynamicTestExecutor = invocation.getArgument(1);
+			dynamicTestExecutor.execute(failingDynamicTest);
+			dynamicTestExecutor.execute(ignoredDynamicTest);
+			return invocation.getArgument(0);
+		});
+		root.addChild(child);
+
+		new HierarchicalTestExecutor<>(new ExecutionRequest(root, listener, null), rootContext,
+			new SameThreadHierarchicalTestExecutorService(), OpenTest4JAwareThrowableCollector::new,
+			ResourceAnalysisMode.SUBTREE, false, 1, 256).execute().get();
+
+		verify(listener).dynamicTestRegistered(failingDynamicTest);
+		verify(listener, never()).dynamicTestRegistered(ignoredDynamicTest);
+		verify(ignoredDynamicTest, never()).execute(any(), any());
+		verify(listener).executionFinished(eq(child), any(TestExecutionResult.class));
+	}
+
 	private Answer<Object> registerAndExecute(TestDescriptor dynamicChild) {
 		return invocation -> {
 			DynamicTestExecutor dynamicTestExecutor = invocation.getArgument(1);
@@ -677,6 +903,32 @@ class HierarchicalTestExecutorTests {
 		}
 	}
 
+	/**
+	 * Executes submitted tasks only once their results are requested.
+	 */
+	private static class LazyExecutorService extends SameThreadHierarchicalTestExecutorService {
+
+		int submittedTasks;
+		int outstandingTasks;
+		int maxOutstandingTasks;
+
+		@Override
+		public Future<Void> submit(TestTask testTask) {
+			submittedTasks++;
+			maxOutstandingTasks = Math.max(maxOutstandingTasks, ++outstandingTasks);
+			return new FutureTask<Void>(testTask::execute, null) {
+				@Override
+				public Void get() throws InterruptedException, ExecutionException {
+					if (!isDone()) {
+						outstandingTasks--;
+						run();
+					}
+					return super.get();
+				}
+			};
+		}
+	}
+
 	private static class MyExecutor extends HierarchicalTestExecutor<MyEngineExecutionContext> {
 
 		MyExecutor(ExecutionRequest request, MyEngineExecutionContext rootContext) {
@@ -16,6 +16,7 @@ import static java.util.Collections.emptySet;
 import static java.util.Collections.singleton;
 import static java.util.Collections.singletonList;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.platform.engine.support.hierarchical.ExclusiveResource.LockMode.READ;
 import static org.junit.platform.engine.support.hierarchical.ExclusiveResource.LockMode.READ_WRITE;
 
@@ -26,6 +27,8 @@ import java.util.concurrent.locks.ReentrantReadWriteLock.ReadLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock.WriteLock;
 
 import org.junit.jupiter.api.Test;
+import org.junit.platform.commons.util.PreconditionViolationException;
+import org.junit.platform.engine.support.hierarchical.SemaphoreReadWriteLock.PermitsLock;
 
 /**
  * @since 1.3
@@ -93,6 +96,54 @@ class LockManagerTests {
 		assertThat(locks.get(1)).isInstanceOf(WriteLock.class);
 	}
 
+	@Test
+	void returnsPermitsLocksForPooledExclusiveResources() {
+		lockManager.registerPermits(singleton(new ExclusiveResource("pool", 3)));
+
+		List<Lock> readLocks = getLocks(singleton(new ExclusiveResource("pool", READ)), SingleLock.class);
+		List<Lock> pooledLocks = getLocks(singleton(new ExclusiveResource("pool", 3)), SingleLock.class);
+		List<Lock> writeLocks = getLocks(singleton(new ExclusiveResource("pool", READ_WRITE)), SingleLock.class);
+
+		assertThat(readLocks.get(0)).isInstanceOf(PermitsLock.class).isSameAs(pooledLocks.get(0));
+		assertThat(((PermitsLock) readLocks.get(0)).getPermits()).isEqualTo(1);
+		assertThat(writeLocks.get(0)).isInstanceOf(PermitsLock.class);
+		assertThat(((PermitsLock) writeLocks.get(0)).getPermits()).isEqualTo(3);
+	}
+
+	@Test
+	void pooledExclusiveResourceCanBeHeldByAsManyOwnersAsItHasPermits() throws Exception {
+		lockManager.registerPermits(singleton(new ExclusiveResource("pool", 2)));
+		ResourceLock pooledLock = lockManager.getLockForResources(singleton(new ExclusiveResource("pool", 2)));
+		ResourceLock writeLock = lockManager.getLockForResources(singleton(new ExclusiveResource("pool", READ_WRITE)));
+
+		assertThat(pooledLock.tryAcquire()).isTrue();
+		assertThat(writeLock.tryAcquire()).isFalse();
+		assertThat(pooledLock.tryAcquire()).isTrue();
+		assertThat(pooledLock.tryAcquire()).isFalse();
+
+		pooledLock.release();
+		pooledLock.release();
+
+		assertThat(writeLock.tryAcquire()).isTrue();
+		assertThat(pooledLock.tryAcquire()).isFalse();
+	}
+
+	@Test
+	void rejectsDifferentNumbersOfPermitsForSameKey() {
+		List<ExclusiveResource> resources = asList(new ExclusiveResource("pool", 2), new ExclusiveResource("pool", 3));
+
+		assertThrows(PreconditionViolationException.class, () -> lockManager.registerPermits(resources));
+	}
+
+	@Test
+	void rejectsPermitsForKeyThatHasAlreadyBeenLockedWithoutPermits() {
+		lockManager.getLockForResources(singleton(new ExclusiveResource("pool", READ_WRITE)));
+
+		Collection<ExclusiveResource> resources = singleton(new ExclusiveResource("pool", 2));
+		assertThrows(PreconditionViolationException.class, () -> lockManager.registerPermits(resources));
+		assertThat(lockManager.isPooled("pool")).isFalse();
+	}
+
 	private List<Lock> getLocks(Collection<ExclusiveResource> resources, Class<? extends ResourceLock> type) {
 		ResourceLock lock = lockManager.getLockForResources(resources);
 		assertThat(lock).isInstanceOf(type);
@@ -13,12 +13,14 @@ package org.junit.platform.engine.support.hierarchical;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.platform.commons.util.CollectionUtils.getOnlyElement;
 import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
+import static org.junit.platform.engine.support.hierarchical.ResourceAnalysisMode.FINE_GRAINED;
 import static org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder.request;
 
 import java.util.Iterator;
 
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.ResourceAccessMode;
 import org.junit.jupiter.api.parallel.ResourceLock;
 import org.junit.jupiter.engine.JupiterTestEngine;
 import org.junit.platform.engine.TestDescriptor;
@@ -69,6 +71,78 @@ class NodeTreeWalkerIntegrationTests {
 		assertThat(advisor.getForcedExecutionMode(nestedTestMethodDescriptor)).contains(ExecutionMode.SAME_THREAD);
 	}
 
+	@Test
+	void fineGrainedModeLocksDisjointResourcesWhereTheyAreDeclared() {
+		TestDescriptor engineDescriptor = discover(TestCaseWithReadLockAndMethodLock.class);
+		NodeExecutionAdvisor advisor = new NodeTreeWalker(FINE_GRAINED).walk(engineDescriptor);
+
+		TestDescriptor testClassDescriptor = getOnlyElement(engineDescriptor.getChildren());
+		assertThat(advisor.getResourceLock(testClassDescriptor)).isInstanceOf(SingleLock.class);
+		assertThat(advisor.getForcedExecutionMode(testClassDescriptor)).isEmpty();
+
+		TestDescriptor testMethodDescriptor = getOnlyElement(testClassDescriptor.getChildren());
+		assertThat(advisor.getResourceLock(testMethodDescriptor)).isInstanceOf(SingleLock.class);
+		assertThat(advisor.getForcedExecutionMode(testMethodDescriptor)).isEmpty();
+	}
+
+	@Test
+	void fineGrainedModeExecutesDescendantsOfReadWriteLockHolderInSameThread() {
+		TestDescriptor engineDescriptor = discover(TestCaseWithResourceLock.class);
+		NodeExecutionAdvisor advisor = new NodeTreeWalker(FINE_GRAINED).walk(engineDescriptor);
+
+		TestDescriptor testClassDescriptor = getOnlyElement(engineDescriptor.getChildren());
+		assertThat(advisor.getResourceLock(testClassDescriptor)).isInstanceOf(CompositeLock.class);
+		assertThat(advisor.getForcedExecutionMode(testClassDescriptor)).isEmpty();
+
+		TestDescriptor testMethodDescriptor = getOnlyElement(testClassDescriptor.getChildren());
+		assertThat(advisor.getResourceLock(testMethodDescriptor)).isInstanceOf(NopLock.class);
+		assertThat(advisor.getForcedExecutionMode(testMethodDescriptor)).contains(ExecutionMode.SAME_THREAD);
+	}
+
+	@Test
+	void fineGrainedModeExecutesDescendantsOfPooledResourceHolderInSameThread() {
+		TestDescriptor engineDescriptor = discover(TestCaseWithPooledReadLocks.class);
+		NodeExecutionAdvisor advisor = new NodeTreeWalker(FINE_GRAINED).walk(engineDescriptor);
+
+		TestDescriptor testClassDescriptor = getOnlyElement(engineDescriptor.getChildren());
+		assertThat(advisor.getResourceLock(testClassDescriptor)).isInstanceOf(SingleLock.class);
+
+		TestDescriptor testMethodDescriptor = getOnlyElement(testClassDescriptor.getChildren());
+		assertThat(advisor.getResourceLock(testMethodDescriptor)).isInstanceOf(NopLock.class);
+		assertThat(advisor.getForcedExecutionMode(testMethodDescriptor)).contains(ExecutionMode.SAME_THREAD);
+	}
+
+	@Test
+	void fineGrainedModeDoesNotLockReadAccessCoveredByAncestor() {
+		TestDescriptor engineDescriptor = discover(TestCaseWithReadLocks.class);
+		NodeExecutionAdvisor advisor = new NodeTreeWalker(FINE_GRAINED).walk(engineDescriptor);
+
+		TestDescriptor testClassDescriptor = getOnlyElement(engineDescriptor.getChildren());
+		assertThat(advisor.getResourceLock(testClassDescriptor)).isInstanceOf(SingleLock.class);
+		assertThat(advisor.getForcedExecutionMode(testClassDescriptor)).isEmpty();
+
+		assertThat(testClassDescriptor.getChildren()).hasSize(2).allSatisfy(testMethodDescriptor -> {
+			assertThat(advisor.getResourceLock(testMethodDescriptor)).isInstanceOf(NopLock.class);
+			assertThat(advisor.getForcedExecutionMode(testMethodDescriptor)).isEmpty();
+		});
+	}
+
+	@Test
+	void fineGrainedModeFallsBackToSubtreeForIncompatibleResources() {
+		for (Class<?> testClass : new Class<?>[] { TestCaseWithUnsortedResourceLocks.class,
+				TestCaseWithReadWriteLockOnSameResource.class }) {
+			TestDescriptor engineDescriptor = discover(testClass);
+			NodeExecutionAdvisor advisor = new NodeTreeWalker(FINE_GRAINED).walk(engineDescriptor);
+
+			TestDescriptor testClassDescriptor = getOnlyElement(engineDescriptor.getChildren());
+			assertThat(advisor.getResourceLock(testClassDescriptor)).isNotInstanceOf(NopLock.class);
+
+			TestDescriptor testMethodDescriptor = getOnlyElement(testClassDescriptor.getChildren());
+			assertThat(advisor.getResourceLock(testMethodDescriptor)).isInstanceOf(NopLock.class);
+			assertThat(advisor.getForcedExecutionMode(testMethodDescriptor)).contains(ExecutionMode.SAME_THREAD);
+		}
+	}
+
 	private TestDescriptor discover(Class<?> testClass) {
 		LauncherDiscoveryRequest discoveryRequest = request().selectors(selectClass(testClass)).build();
 		return new JupiterTestEngine().discover(discoveryRequest, UniqueId.forEngine("junit-jupiter"));
@@ -82,6 +156,51 @@ class NodeTreeWalkerIntegrationTests {
 		}
 	}
 
+	@ResourceLock(value = "a", mode = ResourceAccessMode.READ)
+	static class TestCaseWithReadLockAndMethodLock {
+		@Test
+		@ResourceLock("b")
+		void test() {
+		}
+	}
+
+	@ResourceLock(value = "a", mode = ResourceAccessMode.READ)
+	static class TestCaseWithReadLocks {
+		@Test
+		@ResourceLock(value = "a", mode = ResourceAccessMode.READ)
+		void test1() {
+		}
+
+		@Test
+		@ResourceLock(value = "a", mode = ResourceAccessMode.READ)
+		void test2() {
+		}
+	}
+
+	@ResourceLock(value = "a", mode = ResourceAccessMode.READ, permits = 2)
+	static class TestCaseWithPooledReadLocks {
+		@Test
+		@ResourceLock(value = "a", mode = ResourceAccessMode.READ, permits = 2)
+		void test() {
+		}
+	}
+
+	@ResourceLock("b")
+	static class TestCaseWithUnsortedResourceLocks {
+		@Test
+		@ResourceLock("a")
+		void test() {
+		}
+	}
+
+	@ResourceLock(value = "a", mode = ResourceAccessMode.READ)
+	static class TestCaseWithReadWriteLockOnSameResource {
+		@Test
+		@ResourceLock("a")
+		void test() {
+		}
+	}
+
 	static class TestCaseWithoutResourceLock {
 		@Test
 		@ResourceLock("a")
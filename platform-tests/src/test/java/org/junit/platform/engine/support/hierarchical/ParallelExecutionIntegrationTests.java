@@ -10,17 +10,26 @@
 
 package org.junit.platform.engine.support.hierarchical;
 
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static java.util.concurrent.TimeUnit.SECONDS;
 import static java.util.stream.Collectors.toList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 import static org.junit.jupiter.api.DynamicTest.dynamicTest;
 import static org.junit.jupiter.api.parallel.ExecutionMode.CONCURRENT;
 import static org.junit.jupiter.api.parallel.ExecutionMode.SAME_THREAD;
+import static org.junit.jupiter.engine.Constants.PARALLEL_CONFIG_BATCHING_ENABLED_PROPERTY_NAME;
+import static org.junit.jupiter.engine.Constants.PARALLEL_CONFIG_CONCURRENCY_LIMIT_PROPERTY_NAME;
 import static org.junit.jupiter.engine.Constants.PARALLEL_CONFIG_FIXED_PARALLELISM_PROPERTY_NAME;
+import static org.junit.jupiter.engine.Constants.PARALLEL_CONFIG_SCHEDULING_DURATIONS_DIRECTORY_PROPERTY_NAME;
+import static org.junit.jupiter.engine.Constants.PARALLEL_CONFIG_SCHEDULING_ORDER_PROPERTY_NAME;
 import static org.junit.jupiter.engine.Constants.PARALLEL_CONFIG_STRATEGY_PROPERTY_NAME;
 import static org.junit.jupiter.engine.Constants.PARALLEL_EXECUTION_ENABLED_PROPERTY_NAME;
+import static org.junit.jupiter.engine.Constants.PARALLEL_EXECUTOR_PROPERTY_NAME;
+import static org.junit.jupiter.engine.Constants.PARALLEL_RESOURCES_ANALYSIS_MODE_PROPERTY_NAME;
 import static org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder.request;
 import static org.junit.platform.testkit.engine.EventConditions.event;
 import static org.junit.platform.testkit.engine.EventConditions.finishedSuccessfully;
@@ -32,8 +41,11 @@ import static org.junit.platform.testkit.engine.EventType.REPORTING_ENTRY_PUBLIS
 
 import java.net.URL;
 import java.net.URLClassLoader;
+import java.nio.file.Path;
 import java.time.Instant;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
@@ -56,7 +68,11 @@ import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.api.extension.ExtensionContext;
 import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ResourceAccessMode;
 import org.junit.jupiter.api.parallel.ResourceLock;
+import org.junit.jupiter.extensions.TempDirectory;
+import org.junit.jupiter.extensions.TempDirectory.Root;
+import org.junit.platform.commons.JUnitException;
 import org.junit.platform.engine.discovery.DiscoverySelectors;
 import org.junit.platform.engine.reporting.ReportEntry;
 import org.junit.platform.launcher.LauncherDiscoveryRequest;
@@ -106,6 +122,54 @@ class ParallelExecutionIntegrationTests {
 		assertThat(ThreadReporter.getThreadNames(events)).hasSize(1);
 	}
 
+	@Test
+	void successfulTestWithClassAndMethodReadLocksInFineGrainedMode() {
+		List<Event> events = execute(3,
+			Collections.singletonMap(PARALLEL_RESOURCES_ANALYSIS_MODE_PROPERTY_NAME, "fine_grained"),
+			SuccessfulWithClassAndMethodReadLocksTestCase.class);
+
+		assertThat(events.stream().filter(event(test(), finishedSuccessfully())::matches)).hasSize(3);
+		assertThat(ThreadReporter.getThreadNames(events)).hasSize(3);
+	}
+
+	@Test
+	void successfulTestWithClassLockInFineGrainedMode() {
+		List<Event> events = execute(3,
+			Collections.singletonMap(PARALLEL_RESOURCES_ANALYSIS_MODE_PROPERTY_NAME, "fine_grained"),
+			SuccessfulWithClassLockTestCase.class);
+
+		assertThat(events.stream().filter(event(test(), finishedSuccessfully())::matches)).hasSize(3);
+		assertThat(ThreadReporter.getThreadNames(events)).hasSize(1);
+	}
+
+	@Test
+	void invalidResourceAnalysisModeResultsInException() {
+		JUnitException exception = assertThrows(JUnitException.class,
+			() -> execute(3, Collections.singletonMap(PARALLEL_RESOURCES_ANALYSIS_MODE_PROPERTY_NAME, "bogus"),
+				SuccessfulWithClassLockTestCase.class));
+
+		assertThat(exception.getCause()).isInstanceOf(JUnitException.class).hasMessage(
+			"Invalid value 'bogus' for configuration parameter '%s'", PARALLEL_RESOURCES_ANALYSIS_MODE_PROPERTY_NAME);
+	}
+
+	@Test
+	void successfulTestWithPooledMethodLocks() {
+		List<Event> events = execute(4, SuccessfulWithPooledMethodLocksTestCase.class);
+
+		assertThat(events.stream().filter(event(test(), finishedSuccessfully())::matches)).hasSize(4);
+		assertThat(SuccessfulWithPooledMethodLocksTestCase.maxConcurrentUsers.get()).isEqualTo(2);
+	}
+
+	@Test
+	void pooledClassLockIsNotSharedWithTestMethodsInFineGrainedMode() {
+		List<Event> events = execute(4,
+			Collections.singletonMap(PARALLEL_RESOURCES_ANALYSIS_MODE_PROPERTY_NAME, "fine_grained"),
+			SuccessfulWithPooledClassLockTestCase.class);
+
+		assertThat(events.stream().filter(event(test(), finishedSuccessfully())::matches)).hasSize(4);
+		assertThat(SuccessfulWithPooledClassLockTestCase.maxConcurrentUsers.get()).isEqualTo(1);
+	}
+
 	@Test
 	void testCaseWithFactory() {
 		List<Event> events = execute(3, TestCaseWithTestFactory.class);
@@ -157,6 +221,104 @@ class ParallelExecutionIntegrationTests {
 		assertThat(timestampedEvents.get("afterEach")).isAfterOrEqualTo(timestampedEvents.get("dynamicTestFinished"));
 	}
 
+	@Test
+	@ExtendWith(TempDirectory.class)
+	void longestFirstSchedulingOrderRecordsDurations(@Root Path tempDirectory) {
+		Map<String, String> configurationParameters = new HashMap<>();
+		configurationParameters.put(PARALLEL_CONFIG_SCHEDULING_ORDER_PROPERTY_NAME, "longest_first");
+		configurationParameters.put(PARALLEL_CONFIG_SCHEDULING_DURATIONS_DIRECTORY_PROPERTY_NAME,
+			tempDirectory.toString());
+
+		for (int i = 0; i < 2; i++) {
+			List<Event> events = execute(3, configurationParameters, SuccessfulParallelTestCase.class);
+
+			assertThat(events.stream().filter(event(test(), finishedSuccessfully())::matches)).hasSize(3);
+			assertThat(ThreadReporter.getThreadNames(events)).hasSize(3);
+		}
+		assertThat(tempDirectory.resolve(TaskDurationStore.FILE_NAME)).isRegularFile();
+	}
+
+	@Test
+	void successfulParallelTestWithVirtualThreads() {
+		List<Event> events = execute(1, virtualThreads(), SuccessfulParallelTestCase.class);
+
+		assertThat(events.stream().filter(event(test(), finishedSuccessfully())::matches)).hasSize(3);
+		assertThat(ThreadReporter.getThreadNames(events)).hasSize(3);
+	}
+
+	@Test
+	void successfulTestWithMethodLockWithVirtualThreads() {
+		List<Event> events = execute(1, virtualThreads(), SuccessfulWithMethodLockTestCase.class);
+
+		assertThat(events.stream().filter(event(test(), finishedSuccessfully())::matches)).hasSize(3);
+		assertThat(ThreadReporter.getThreadNames(events)).hasSize(3);
+	}
+
+	@Test
+	void successfulTestWithClassLockWithVirtualThreads() {
+		List<Event> events = execute(1, virtualThreads(), SuccessfulWithClassLockTestCase.class);
+
+		assertThat(events.stream().filter(event(test(), finishedSuccessfully())::matches)).hasSize(3);
+		assertThat(ThreadReporter.getThreadNames(events)).hasSize(1);
+	}
+
+	@RepeatedTest(10)
+	void locksOnNestedTestsWithVirtualThreads() {
+		List<Event> events = execute(1, virtualThreads(), TestCaseWithNestedLocks.class);
+
+		assertThat(events.stream().filter(event(test(), finishedSuccessfully())::matches)).hasSize(6);
+		assertThat(ThreadReporter.getThreadNames(events)).hasSize(1);
+	}
+
+	@Test
+	void afterHooksAreCalledAfterConcurrentDynamicTestsAreFinishedWithVirtualThreads() {
+		List<Event> events = execute(1, virtualThreads(), ConcurrentDynamicTestCase.class);
+
+		assertThat(events.stream().filter(event(test(), finishedSuccessfully())::matches)).hasSize(1);
+		Map<String, Instant> timestampedEvents = ConcurrentDynamicTestCase.events;
+		assertThat(timestampedEvents.get("afterEach")).isAfterOrEqualTo(timestampedEvents.get("dynamicTestFinished"));
+	}
+
+	@Test
+	void virtualThreadsHonorConcurrencyLimit() {
+		Map<String, String> configurationParameters = new HashMap<>(virtualThreads());
+		configurationParameters.put(PARALLEL_CONFIG_CONCURRENCY_LIMIT_PROPERTY_NAME, "2");
+
+		List<Event> events = execute(1, configurationParameters, ConcurrencyLimitTestCase.class);
+
+		assertThat(events.stream().filter(event(test(), finishedSuccessfully())::matches)).hasSize(4);
+		assertThat(ConcurrencyLimitTestCase.maxConcurrentTests.get()).isEqualTo(2);
+	}
+
+	@Test
+	void platformThreadFallbackHonorsConcurrencyLimit() {
+		Map<String, String> configurationParameters = new HashMap<>(virtualThreads());
+		configurationParameters.put(PARALLEL_CONFIG_CONCURRENCY_LIMIT_PROPERTY_NAME, "2");
+
+		List<Event> events = execute(1, configurationParameters, SuccessfulParallelTestCase.class);
+
+		List<String> threadNames = ThreadReporter.getThreadNames(events).collect(toList());
+		assumeTrue(threadNames.stream().allMatch(name -> name.startsWith("junit-platform-")),
+			"virtual threads are supported");
+		assertThat(events.stream().filter(event(test(), finishedSuccessfully())::matches)).hasSize(3);
+		assertThat(threadNames.size()).isLessThanOrEqualTo(2);
+	}
+
+	@Test
+	void batchedLeafTestsAreAllExecuted() {
+		Map<String, String> configurationParameters = Collections.singletonMap(
+			PARALLEL_CONFIG_BATCHING_ENABLED_PROPERTY_NAME, "true");
+
+		List<Event> events = execute(2, configurationParameters, BatchingTestCase.class);
+
+		assertThat(events.stream().filter(event(test(), finishedSuccessfully())::matches)).hasSize(8);
+		assertThat(BatchingTestCase.executedTests.get()).isEqualTo(8);
+	}
+
+	private static Map<String, String> virtualThreads() {
+		return Collections.singletonMap(PARALLEL_EXECUTOR_PROPERTY_NAME, "virtual_threads");
+	}
+
 	private List<Instant> getTimestampsFor(List<Event> events, Condition<Event> condition) {
 		// @formatter:off
 		return events.stream()
@@ -253,6 +415,223 @@ class ParallelExecutionIntegrationTests {
 		}
 	}
 
+	@ExtendWith(ThreadReporter.class)
+	@ResourceLock(value = "sharedResource", mode = ResourceAccessMode.READ)
+	static class SuccessfulWithClassAndMethodReadLocksTestCase {
+
+		static AtomicInteger sharedResource;
+		static CountDownLatch countDownLatch;
+
+		@BeforeAll
+		static void initialize() {
+			sharedResource = new AtomicInteger();
+			countDownLatch = new CountDownLatch(3);
+		}
+
+		@Test
+		@ResourceLock(value = "sharedResource", mode = ResourceAccessMode.READ)
+		void firstTest() throws Exception {
+			incrementAndBlock(sharedResource, countDownLatch);
+		}
+
+		@Test
+		@ResourceLock(value = "sharedResource", mode = ResourceAccessMode.READ)
+		void secondTest() throws Exception {
+			incrementAndBlock(sharedResource, countDownLatch);
+		}
+
+		@Test
+		@ResourceLock("unrelatedResource")
+		void thirdTest() throws Exception {
+			incrementAndBlock(sharedResource, countDownLatch);
+		}
+	}
+
+	static class SuccessfulWithPooledMethodLocksTestCase {
+
+		static AtomicInteger concurrentUsers;
+		static AtomicInteger maxConcurrentUsers;
+		static CountDownLatch countDownLatch;
+
+		@BeforeAll
+		static void initialize() {
+			concurrentUsers = new AtomicInteger();
+			maxConcurrentUsers = new AtomicInteger();
+			countDownLatch = new CountDownLatch(4);
+		}
+
+		@Test
+		@ResourceLock(value = "pool", permits = 2)
+		void firstTest() throws Exception {
+			usePool();
+		}
+
+		@Test
+		@ResourceLock(value = "pool", permits = 2)
+		void secondTest() throws Exception {
+			usePool();
+		}
+
+		@Test
+		@ResourceLock(value = "pool", permits = 2)
+		void thirdTest() throws Exception {
+			usePool();
+		}
+
+		@Test
+		@ResourceLock(value = "pool", permits = 2)
+		void fourthTest() throws Exception {
+			usePool();
+		}
+
+		private static void usePool() throws InterruptedException {
+			maxConcurrentUsers.accumulateAndGet(concurrentUsers.incrementAndGet(), Math::max);
+			countDownLatch.countDown();
+			countDownLatch.await(200, MILLISECONDS);
+			concurrentUsers.decrementAndGet();
+		}
+	}
+
+	@ResourceLock(value = "classPool", mode = ResourceAccessMode.READ, permits = 2)
+	static class SuccessfulWithPooledClassLockTestCase {
+
+		static AtomicInteger concurrentUsers;
+		static AtomicInteger maxConcurrentUsers;
+
+		@BeforeAll
+		static void initialize() {
+			concurrentUsers = new AtomicInteger();
+			maxConcurrentUsers = new AtomicInteger();
+		}
+
+		@Test
+		@ResourceLock(value = "classPool", mode = ResourceAccessMode.READ, permits = 2)
+		void firstTest() throws Exception {
+			usePool();
+		}
+
+		@Test
+		@ResourceLock(value = "classPool", mode = ResourceAccessMode.READ, permits = 2)
+		void secondTest() throws Exception {
+			usePool();
+		}
+
+		@Test
+		void thirdTest() throws Exception {
+			usePool();
+		}
+
+		@Test
+		void fourthTest() throws Exception {
+			usePool();
+		}
+
+		private static void usePool() throws InterruptedException {
+			maxConcurrentUsers.accumulateAndGet(concurrentUsers.incrementAndGet(), Math::max);
+			Thread.sleep(50);
+			concurrentUsers.decrementAndGet();
+		}
+	}
+
+	static class BatchingTestCase {
+
+		static AtomicInteger executedTests = new AtomicInteger();
+
+		@BeforeAll
+		static void initialize() {
+			executedTests.set(0);
+		}
+
+		@Nested
+		class FirstNestedTestCase {
+
+			@Test
+			void firstTest() {
+				executedTests.incrementAndGet();
+			}
+
+			@Test
+			void secondTest() {
+				executedTests.incrementAndGet();
+			}
+
+			@Test
+			void thirdTest() {
+				executedTests.incrementAndGet();
+			}
+
+			@Test
+			void fourthTest() {
+				executedTests.incrementAndGet();
+			}
+		}
+
+		@Nested
+		class SecondNestedTestCase {
+
+			@Test
+			void firstTest() {
+				executedTests.incrementAndGet();
+			}
+
+			@Test
+			void secondTest() {
+				executedTests.incrementAndGet();
+			}
+
+			@Test
+			void thirdTest() {
+				executedTests.incrementAndGet();
+			}
+
+			@Test
+			void fourthTest() {
+				executedTests.incrementAndGet();
+			}
+		}
+	}
+
+	static class ConcurrencyLimitTestCase {
+
+		static AtomicInteger concurrentTests;
+		static AtomicInteger maxConcurrentTests;
+		static CountDownLatch countDownLatch;
+
+		@BeforeAll
+		static void initialize() {
+			concurrentTests = new AtomicInteger();
+			maxConcurrentTests = new AtomicInteger();
+			countDownLatch = new CountDownLatch(4);
+		}
+
+		@Test
+		void firstTest() throws Exception {
+			run();
+		}
+
+		@Test
+		void secondTest() throws Exception {
+			run();
+		}
+
+		@Test
+		void thirdTest() throws Exception {
+			run();
+		}
+
+		@Test
+		void fourthTest() throws Exception {
+			run();
+		}
+
+		private static void run() throws InterruptedException {
+			maxConcurrentTests.accumulateAndGet(concurrentTests.incrementAndGet(), Math::max);
+			countDownLatch.countDown();
+			countDownLatch.await(200, MILLISECONDS);
+			concurrentTests.decrementAndGet();
+		}
+	}
+
 	@ExtendWith(ThreadReporter.class)
 	@ResourceLock("sharedResource")
 	static class SuccessfulWithClassLockTestCase {
@@ -457,9 +836,15 @@ class ParallelExecutionIntegrationTests {
 	}
 
 	private List<Event> execute(int parallelism, Class<?>... testClasses) {
+		return execute(parallelism, Collections.emptyMap(), testClasses);
+	}
+
+	private List<Event> execute(int parallelism, Map<String, String> configurationParameters,
+			Class<?>... testClasses) {
 		// @formatter:off
 		LauncherDiscoveryRequest discoveryRequest = request()
 				.selectors(Arrays.stream(testClasses).map(DiscoverySelectors::selectClass).collect(toList()))
+				.configurationParameters(configurationParameters)
 				.configurationParameter(PARALLEL_EXECUTION_ENABLED_PROPERTY_NAME, String.valueOf(true))
 				.configurationParameter(PARALLEL_CONFIG_STRATEGY_PROPERTY_NAME, "fixed")
 				.configurationParameter(PARALLEL_CONFIG_FIXED_PARALLELISM_PROPERTY_NAME, String.valueOf(parallelism))
@@ -42,4 +42,23 @@ class SingleLockTests {
 		assertFalse(lock.isLocked());
 	}
 
+	@Test
+	void tryAcquire() throws Exception {
+		ReentrantLock lock = new ReentrantLock();
+
+		assertTrue(new SingleLock(lock).tryAcquire());
+
+		assertTrue(lock.isLocked());
+	}
+
+	@Test
+	void tryAcquireFailsWhenLockIsHeldByAnotherThread() throws Exception {
+		ReentrantLock lock = new ReentrantLock();
+		Thread thread = new Thread(lock::lock);
+		thread.start();
+		thread.join();
+
+		assertFalse(new SingleLock(lock).tryAcquire());
+	}
+
 }
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2015-2018 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.engine.support.hierarchical;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.platform.launcher.LauncherConstants.PIPELINED_EXECUTION_ENABLED_PROPERTY_NAME;
+import static org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder.request;
+import static org.junit.platform.launcher.core.LauncherFactoryForTestingPurposesOnly.createLauncher;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.platform.engine.EngineDiscoveryRequest;
+import org.junit.platform.engine.ExecutionRequest;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.launcher.Launcher;
+import org.junit.platform.launcher.TestPlan;
+import org.junit.platform.launcher.listeners.SummaryGeneratingListener;
+
+/**
+ * Integration tests that verify that test descriptors are released in
+ * streaming mode when tests are executed via the {@link Launcher}.
+ *
+ * @since 1.4
+ * @see HierarchicalTestEngine#isStreamingExecutionEnabled(ExecutionRequest)
+ */
+class StreamingExecutionIntegrationTests {
+
+	private final StreamingTestEngine engine = new StreamingTestEngine();
+
+	@Test
+	void releasesTestDescriptorsExecutedWhileTheyAreStillBeingDiscovered() {
+		SummaryGeneratingListener listener = new SummaryGeneratingListener();
+		Launcher launcher = createLauncher(engine);
+
+		launcher.execute(request().configurationParameter(PIPELINED_EXECUTION_ENABLED_PROPERTY_NAME, "true").build(),
+			listener);
+
+		assertThat(listener.getSummary().getTestsSucceededCount()).isEqualTo(4);
+		assertThat(engine.reportedContainers).hasSize(2);
+		assertAllDescriptorsReleased();
+	}
+
+	@Test
+	void releasesTestDescriptorsOfDiscoveredTestPlan() {
+		SummaryGeneratingListener listener = new SummaryGeneratingListener();
+		Launcher launcher = createLauncher(engine);
+
+		TestPlan testPlan = launcher.discover(request().build());
+		launcher.execute(testPlan, listener);
+
+		assertThat(listener.getSummary().getTestsSucceededCount()).isEqualTo(4);
+		assertThat(engine.reportedContainers).isEmpty();
+		assertAllDescriptorsReleased();
+	}
+
+	private void assertAllDescriptorsReleased() {
+		assertThat(engine.engineDescriptor.getChildren()).isEmpty();
+		assertThat(engine.descriptors).hasSize(6).allSatisfy(descriptor -> {
+			assertThat(descriptor.getParent()).isEmpty();
+			assertThat(descriptor.getChildren()).isEmpty();
+		});
+	}
+
+	/**
+	 * Engine that reports each container to the discovery listener, if
+	 * available, and executes its tests in streaming mode.
+	 */
+	private static class StreamingTestEngine extends HierarchicalTestEngine<DemoEngineExecutionContext> {
+
+		private final List<TestDescriptor> descriptors = new ArrayList<>();
+		private final List<TestDescriptor> reportedContainers = new ArrayList<>();
+		private DemoHierarchicalEngineDescriptor engineDescriptor;
+
+		@Override
+		public String getId() {
+			return "streaming";
+		}
+
+		@Override
+		public TestDescriptor discover(EngineDiscoveryRequest discoveryRequest, UniqueId uniqueId) {
+			engineDescriptor = new DemoHierarchicalEngineDescriptor(uniqueId);
+			for (int i = 0; i < 2; i++) {
+				UniqueId containerId = uniqueId.append("container", "c" + i);
+				DemoHierarchicalContainerDescriptor container = new DemoHierarchicalContainerDescriptor(containerId,
+					"container " + i, null);
+				engineDescriptor.addChild(container);
+				descriptors.add(container);
+				for (int j = 0; j < 2; j++) {
+					DemoHierarchicalTestDescriptor test = new DemoHierarchicalTestDescriptor(
+						containerId.append("test", "t" + j), "test " + j, () -> {
+						});
+					container.addChild(test);
+					descriptors.add(test);
+				}
+				discoveryRequest.getDiscoveryListener().ifPresent(discoveryListener -> {
+					discoveryListener.testDescriptorDiscovered(container);
+					reportedContainers.add(container);
+				});
+			}
+			return engineDescriptor;
+		}
+
+		@Override
+		protected boolean isStreamingExecutionEnabled(ExecutionRequest request) {
+			return true;
+		}
+
+		@Override
+		protected DemoEngineExecutionContext createExecutionContext(ExecutionRequest request) {
+			return new DemoEngineExecutionContext();
+		}
+
+	}
+
+}
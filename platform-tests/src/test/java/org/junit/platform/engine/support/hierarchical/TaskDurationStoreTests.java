@@ -0,0 +1,87 @@
+/*
+ * Copyright 2015-2018 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.engine.support.hierarchical;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.extensions.TempDirectory;
+import org.junit.jupiter.extensions.TempDirectory.Root;
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.engine.support.hierarchical.HierarchicalTestExecutorService.TestTask;
+import org.junit.platform.fakes.TestDescriptorStub;
+
+/**
+ * @since 1.4
+ */
+@ExtendWith(TempDirectory.class)
+class TaskDurationStoreTests {
+
+	@Test
+	void sortsTasksWithRecordedDurationsLongestFirst(@Root Path tempDirectory) {
+		TaskDurationStore store = TaskDurationStore.load(tempDirectory);
+		TestTask a = task("a");
+		TestTask b = task("b");
+		TestTask c = task("c");
+		TestTask d = task("d");
+
+		store.record(b, 10);
+		store.record(d, 1000);
+
+		List<TestTask> sorted = store.sortLongestFirst(asList(a, b, c, d));
+
+		assertThat(sorted).containsExactly(d, b, a, c);
+	}
+
+	@Test
+	void savesAndLoadsDurations(@Root Path tempDirectory) {
+		TaskDurationStore store = TaskDurationStore.load(tempDirectory.resolve("nested"));
+		store.record(task("a"), 42);
+		store.save();
+
+		assertThat(tempDirectory.resolve("nested").resolve(TaskDurationStore.FILE_NAME)).isRegularFile();
+		assertThat(TaskDurationStore.load(tempDirectory.resolve("nested")).getDurationInMillis(task("a"))).contains(
+			42L);
+	}
+
+	@Test
+	void ignoresInvalidEntries(@Root Path tempDirectory) throws Exception {
+		Files.write(tempDirectory.resolve(TaskDurationStore.FILE_NAME),
+			asList("[engine\\:a]=oops", "[engine\\:b]=23"));
+
+		TaskDurationStore store = TaskDurationStore.load(tempDirectory);
+
+		assertThat(store.getDurationInMillis(task("a"))).isEmpty();
+		assertThat(store.getDurationInMillis(task("b"))).contains(23L);
+	}
+
+	@Test
+	void ignoresTasksOtherThanNodeTestTasks(@Root Path tempDirectory) {
+		TaskDurationStore store = TaskDurationStore.load(tempDirectory);
+		TestTask testTask = mock(TestTask.class);
+
+		store.record(testTask, 42);
+
+		assertThat(store.getDurationInMillis(testTask)).isEmpty();
+	}
+
+	private static TestTask task(String engineId) {
+		return new NodeTestTask<>(null, new TestDescriptorStub(UniqueId.forEngine(engineId), engineId));
+	}
+
+}
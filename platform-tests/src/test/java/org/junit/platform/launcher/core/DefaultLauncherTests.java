@@ -10,6 +10,8 @@
 
 package org.junit.platform.launcher.core;
 
+import static java.util.Collections.emptyList;
+import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -20,13 +22,20 @@ import static org.junit.platform.engine.discovery.DiscoverySelectors.selectPacka
 import static org.junit.platform.engine.discovery.DiscoverySelectors.selectUniqueId;
 import static org.junit.platform.launcher.EngineFilter.excludeEngines;
 import static org.junit.platform.launcher.EngineFilter.includeEngines;
+import static org.junit.platform.launcher.LauncherConstants.DISCOVERY_PARALLEL_ENABLED_PROPERTY_NAME;
+import static org.junit.platform.launcher.LauncherConstants.ENGINES_PARALLEL_EXECUTION_ENABLED_PROPERTY_NAME;
+import static org.junit.platform.launcher.LauncherConstants.ENGINES_PARALLEL_EXECUTION_PARALLELISM_PROPERTY_NAME;
+import static org.junit.platform.launcher.LauncherConstants.PIPELINED_EXECUTION_ENABLED_PROPERTY_NAME;
 import static org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder.request;
 import static org.junit.platform.launcher.core.LauncherFactoryForTestingPurposesOnly.createLauncher;
 import static org.mockito.ArgumentMatchers.same;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
 import java.util.logging.Level;
 import java.util.logging.LogRecord;
 
@@ -40,6 +49,7 @@ import org.junit.platform.engine.EngineDiscoveryRequest;
 import org.junit.platform.engine.EngineExecutionListener;
 import org.junit.platform.engine.ExecutionRequest;
 import org.junit.platform.engine.FilterResult;
+import org.junit.platform.engine.PendingTestDescriptors;
 import org.junit.platform.engine.TestDescriptor;
 import org.junit.platform.engine.TestEngine;
 import org.junit.platform.engine.UniqueId;
@@ -48,6 +58,7 @@ import org.junit.platform.engine.support.hierarchical.DemoHierarchicalTestEngine
 import org.junit.platform.fakes.TestDescriptorStub;
 import org.junit.platform.fakes.TestEngineSpy;
 import org.junit.platform.fakes.TestEngineStub;
+import org.junit.platform.launcher.LauncherDiscoveryRequest;
 import org.junit.platform.launcher.PostDiscoveryFilter;
 import org.junit.platform.launcher.PostDiscoveryFilterStub;
 import org.junit.platform.launcher.TestExecutionListener;
@@ -199,6 +210,295 @@ class DefaultLauncherTests {
 		assertThat(testPlan.getChildren(UniqueId.forEngine("engine2").toString())).hasSize(1);
 	}
 
+	@Test
+	void discoverTestPlanForMultipleEnginesConcurrently() {
+		CountDownLatch secondEngineDiscovered = new CountDownLatch(1);
+		TestEngine firstEngine = new TestEngineStub("engine1") {
+
+			@Override
+			public TestDescriptor discover(EngineDiscoveryRequest discoveryRequest, UniqueId uniqueId) {
+				try {
+					secondEngineDiscovered.await(5, SECONDS);
+				}
+				catch (InterruptedException e) {
+					throw new RuntimeException(e);
+				}
+				return engineDescriptorWithOneTest(uniqueId);
+			}
+		};
+		TestEngine failingEngine = new TestEngineStub("engine2") {
+
+			@Override
+			public TestDescriptor discover(EngineDiscoveryRequest discoveryRequest, UniqueId uniqueId) {
+				throw new RuntimeException("ignored");
+			}
+		};
+		TestEngine thirdEngine = new TestEngineStub("engine3") {
+
+			@Override
+			public TestDescriptor discover(EngineDiscoveryRequest discoveryRequest, UniqueId uniqueId) {
+				secondEngineDiscovered.countDown();
+				return engineDescriptorWithOneTest(uniqueId);
+			}
+		};
+
+		DefaultLauncher launcher = createLauncher(firstEngine, failingEngine, thirdEngine);
+
+		TestPlan testPlan = launcher.discover(
+			request().configurationParameter(DISCOVERY_PARALLEL_ENABLED_PROPERTY_NAME, "true").build());
+
+		assertThat(secondEngineDiscovered.getCount()).isZero();
+		assertThat(testPlan.getRoots()).extracting(TestIdentifier::getUniqueId).containsExactly(
+			UniqueId.forEngine("engine1").toString(), UniqueId.forEngine("engine3").toString());
+		assertThat(testPlan.getChildren(UniqueId.forEngine("engine1").toString())).hasSize(1);
+		assertThat(testPlan.getChildren(UniqueId.forEngine("engine3").toString())).hasSize(1);
+	}
+
+	@Test
+	void executeTestPlanForMultipleEnginesConcurrently() {
+		CountDownLatch secondEngineStarted = new CountDownLatch(1);
+		TestEngine firstEngine = new TestEngineStub("engine1") {
+
+			@Override
+			public TestDescriptor discover(EngineDiscoveryRequest discoveryRequest, UniqueId uniqueId) {
+				return engineDescriptorWithOneTest(uniqueId);
+			}
+
+			@Override
+			public void execute(ExecutionRequest request) {
+				try {
+					secondEngineStarted.await(5, SECONDS);
+				}
+				catch (InterruptedException e) {
+					throw new RuntimeException(e);
+				}
+				executeAllTests(request);
+			}
+		};
+		TestEngine secondEngine = new TestEngineStub("engine2") {
+
+			@Override
+			public TestDescriptor discover(EngineDiscoveryRequest discoveryRequest, UniqueId uniqueId) {
+				return engineDescriptorWithOneTest(uniqueId);
+			}
+
+			@Override
+			public void execute(ExecutionRequest request) {
+				secondEngineStarted.countDown();
+				executeAllTests(request);
+			}
+		};
+
+		DefaultLauncher launcher = createLauncher(firstEngine, secondEngine);
+		SummaryGeneratingListener listener = new SummaryGeneratingListener();
+
+		// @formatter:off
+		launcher.execute(
+			request()
+				.configurationParameter(ENGINES_PARALLEL_EXECUTION_ENABLED_PROPERTY_NAME, "true")
+				.configurationParameter(ENGINES_PARALLEL_EXECUTION_PARALLELISM_PROPERTY_NAME, "2")
+				.build(),
+			listener);
+		// @formatter:on
+
+		assertThat(secondEngineStarted.getCount()).isZero();
+		assertThat(listener.getSummary().getTestsSucceededCount()).isEqualTo(2);
+	}
+
+	@Test
+	void executeTestEnginesSequentiallyIfParallelismIsOne() {
+		Thread callingThread = Thread.currentThread();
+		List<Thread> executingThreads = new CopyOnWriteArrayList<>();
+		TestEngine firstEngine = new TestEngineStub("engine1") {
+
+			@Override
+			public void execute(ExecutionRequest request) {
+				executingThreads.add(Thread.currentThread());
+			}
+		};
+		TestEngine secondEngine = new TestEngineStub("engine2") {
+
+			@Override
+			public void execute(ExecutionRequest request) {
+				executingThreads.add(Thread.currentThread());
+			}
+		};
+
+		DefaultLauncher launcher = createLauncher(firstEngine, secondEngine);
+
+		// @formatter:off
+		launcher.execute(
+			request()
+				.configurationParameter(ENGINES_PARALLEL_EXECUTION_ENABLED_PROPERTY_NAME, "true")
+				.configurationParameter(ENGINES_PARALLEL_EXECUTION_PARALLELISM_PROPERTY_NAME, "1")
+				.build());
+		// @formatter:on
+
+		assertThat(executingThreads).containsExactly(callingThread, callingThread);
+	}
+
+	@Test
+	void executeAtMostTwoTestEnginesConcurrentlyByDefault() {
+		Thread callingThread = Thread.currentThread();
+		List<Thread> executingThreads = new CopyOnWriteArrayList<>();
+		TestEngine[] engines = new TestEngine[3];
+		for (int i = 0; i < engines.length; i++) {
+			engines[i] = new TestEngineStub("engine" + i) {
+
+				@Override
+				public void execute(ExecutionRequest request) {
+					executingThreads.add(Thread.currentThread());
+				}
+			};
+		}
+
+		DefaultLauncher launcher = createLauncher(engines);
+
+		// @formatter:off
+		launcher.execute(
+			request()
+				.configurationParameter(ENGINES_PARALLEL_EXECUTION_ENABLED_PROPERTY_NAME, "true")
+				.build());
+		// @formatter:on
+
+		assertThat(executingThreads).hasSize(3).doesNotContain(callingThread);
+		assertThat(executingThreads.stream().distinct().count()).isLessThanOrEqualTo(2);
+	}
+
+	@Test
+	void executeTestEnginesConcurrentlyRejectsInvalidParallelism() {
+		DefaultLauncher launcher = createLauncher(new TestEngineStub("engine1"), new TestEngineStub("engine2"));
+
+		// @formatter:off
+		LauncherDiscoveryRequest request = request()
+				.configurationParameter(ENGINES_PARALLEL_EXECUTION_ENABLED_PROPERTY_NAME, "true")
+				.configurationParameter(ENGINES_PARALLEL_EXECUTION_PARALLELISM_PROPERTY_NAME, "0")
+				.build();
+		// @formatter:on
+
+		JUnitException exception = assertThrows(JUnitException.class, () -> launcher.execute(request));
+		assertThat(exception).hasMessage("Invalid value '0' for configuration parameter '"
+				+ ENGINES_PARALLEL_EXECUTION_PARALLELISM_PROPERTY_NAME + "'");
+	}
+
+	@Test
+	void executeTestsWhileTheyAreStillBeingDiscovered() {
+		CountDownLatch firstChildExecuted = new CountDownLatch(1);
+		TestEngine engine = new TestEngineStub("engine") {
+
+			@Override
+			public TestDescriptor discover(EngineDiscoveryRequest discoveryRequest, UniqueId uniqueId) {
+				TestDescriptorStub engineDescriptor = new TestDescriptorStub(uniqueId, "engine");
+				TestDescriptorStub first = new TestDescriptorStub(uniqueId.append("test", "first"), "first");
+				engineDescriptor.addChild(first);
+				discoveryRequest.getDiscoveryListener().get().testDescriptorDiscovered(first);
+				try {
+					firstChildExecuted.await(5, SECONDS);
+				}
+				catch (InterruptedException e) {
+					throw new RuntimeException(e);
+				}
+				engineDescriptor.addChild(new TestDescriptorStub(uniqueId.append("test", "second"), "second"));
+				engineDescriptor.addChild(new TestDescriptorStub(uniqueId.append("test", "excluded"), "excluded"));
+				return engineDescriptor;
+			}
+
+			@Override
+			public void execute(ExecutionRequest request) {
+				EngineExecutionListener listener = request.getEngineExecutionListener();
+				listener.executionStarted(request.getRootTestDescriptor());
+				try {
+					PendingTestDescriptors pendingTestDescriptors = request.getPendingTestDescriptors().get();
+					Optional<TestDescriptor> child = pendingTestDescriptors.next();
+					while (child.isPresent()) {
+						listener.executionStarted(child.get());
+						listener.executionFinished(child.get(), successful());
+						firstChildExecuted.countDown();
+						child = pendingTestDescriptors.next();
+					}
+				}
+				catch (InterruptedException e) {
+					throw new RuntimeException(e);
+				}
+				listener.executionFinished(request.getRootTestDescriptor(), successful());
+			}
+		};
+		PostDiscoveryFilter excludeChild = new PostDiscoveryFilterStub(
+			descriptor -> FilterResult.includedIf(!descriptor.getDisplayName().equals("excluded")), () -> "filter");
+		List<String> events = new CopyOnWriteArrayList<>();
+		TestExecutionListener listener = new TestExecutionListener() {
+
+			@Override
+			public void testIdentifierAdded(TestIdentifier testIdentifier) {
+				events.add("added " + testIdentifier.getDisplayName());
+			}
+
+			@Override
+			public void executionStarted(TestIdentifier testIdentifier) {
+				events.add("started " + testIdentifier.getDisplayName());
+			}
+		};
+
+		DefaultLauncher launcher = createLauncher(engine);
+
+		// @formatter:off
+		launcher.execute(
+			request()
+				.configurationParameter(PIPELINED_EXECUTION_ENABLED_PROPERTY_NAME, "true")
+				.filters(excludeChild)
+				.build(),
+			listener);
+		// @formatter:on
+
+		assertThat(events).containsSubsequence("added engine", "started engine");
+		assertThat(events).containsSubsequence("added engine", "added first", "started first", "added second",
+			"started second");
+		assertThat(events).doesNotContain("added excluded", "started excluded");
+	}
+
+	@Test
+	void executeTestEngineThatDoesNotReportDiscoveredTestsOnceDiscoveryHasFinished() {
+		TestEngine engine = new TestEngineStub("engine") {
+
+			@Override
+			public TestDescriptor discover(EngineDiscoveryRequest discoveryRequest, UniqueId uniqueId) {
+				return engineDescriptorWithOneTest(uniqueId);
+			}
+
+			@Override
+			public void execute(ExecutionRequest request) {
+				assertThat(request.getPendingTestDescriptors()).isEmpty();
+				executeAllTests(request);
+			}
+		};
+		SummaryGeneratingListener listener = new SummaryGeneratingListener();
+
+		DefaultLauncher launcher = createLauncher(engine);
+
+		launcher.execute(request().configurationParameter(PIPELINED_EXECUTION_ENABLED_PROPERTY_NAME, "true").build(),
+			listener);
+
+		assertThat(listener.getSummary().getTestsFoundCount()).isEqualTo(1);
+		assertThat(listener.getSummary().getTestsSucceededCount()).isEqualTo(1);
+	}
+
+	private static void executeAllTests(ExecutionRequest request) {
+		EngineExecutionListener listener = request.getEngineExecutionListener();
+		TestDescriptor engineDescriptor = request.getRootTestDescriptor();
+		listener.executionStarted(engineDescriptor);
+		for (TestDescriptor child : engineDescriptor.getChildren()) {
+			listener.executionStarted(child);
+			listener.executionFinished(child, successful());
+		}
+		listener.executionFinished(engineDescriptor, successful());
+	}
+
+	private static TestDescriptor engineDescriptorWithOneTest(UniqueId uniqueId) {
+		TestDescriptorStub engineDescriptor = new TestDescriptorStub(uniqueId, uniqueId.toString());
+		engineDescriptor.addChild(new TestDescriptorStub(uniqueId.append("test", "test"), "test"));
+		return engineDescriptor;
+	}
+
 	@Test
 	void launcherWillNotExecuteEnginesIfNotIncludedByAnEngineFilter() {
 		DemoHierarchicalTestEngine firstEngine = new DemoHierarchicalTestEngine("first");
@@ -393,6 +693,60 @@ class DefaultLauncherTests {
 		assertThat(listener.getSummary().getTestsFoundCount()).isEqualTo(1);
 	}
 
+	@Test
+	void executesDiscoveredTestPlanWithoutDiscoveringTestsAgain() {
+		TestEngineSpy engine = new TestEngineSpy();
+		SummaryGeneratingListener listener = new SummaryGeneratingListener();
+
+		DefaultLauncher launcher = createLauncher(engine);
+		TestPlan testPlan = launcher.discover(request().configurationParameter("key", "value").build());
+		EngineDiscoveryRequest discoveryRequest = engine.discoveryRequestForDiscovery;
+		engine.discoveryRequestForDiscovery = null;
+
+		launcher.execute(testPlan, listener);
+
+		assertThat(engine.discoveryRequestForDiscovery).isNull();
+		assertThat(engine.requestForExecution.getRootTestDescriptor().getUniqueId()).isEqualTo(
+			UniqueId.forEngine(TestEngineSpy.ID));
+		assertThat(engine.requestForExecution.getConfigurationParameters()).isSameAs(
+			discoveryRequest.getConfigurationParameters());
+		assertThat(listener.getSummary().getTestsFoundCount()).isEqualTo(1);
+	}
+
+	@Test
+	void discoveredTestPlanCanOnlyBeExecutedOnce() {
+		DefaultLauncher launcher = createLauncher(new TestEngineSpy());
+		TestPlan testPlan = launcher.discover(request().build());
+
+		launcher.execute(testPlan);
+		PreconditionViolationException exception = assertThrows(PreconditionViolationException.class,
+			() -> launcher.execute(testPlan));
+
+		assertThat(exception).hasMessageContaining("TestPlan must only be executed once");
+	}
+
+	@Test
+	void executingTestPlanNotReturnedByLauncherResultsInException() {
+		DefaultLauncher launcher = createLauncher(new TestEngineSpy());
+		TestPlan testPlan = TestPlan.from(emptyList());
+
+		PreconditionViolationException exception = assertThrows(PreconditionViolationException.class,
+			() -> launcher.execute(testPlan));
+
+		assertThat(exception).hasMessageContaining("TestPlan was not returned by this Launcher");
+	}
+
+	@Test
+	void executingTestPlanReturnedByOtherLauncherResultsInException() {
+		DefaultLauncher launcher = createLauncher(new TestEngineSpy());
+		TestPlan testPlan = createLauncher(new TestEngineSpy()).discover(request().build());
+
+		PreconditionViolationException exception = assertThrows(PreconditionViolationException.class,
+			() -> launcher.execute(testPlan));
+
+		assertThat(exception).hasMessageContaining("TestPlan was not returned by this Launcher");
+	}
+
 	@Test
 	void prunesTestDescriptorsAfterApplyingPostDiscoveryFilters() {
 		TestEngineSpy engine = new TestEngineSpy() {